@@ -12,7 +12,8 @@ import java.time.LocalDate;
 @Table(name = "activity_alerts",
     indexes = {
         @Index(name = "idx_user_visible_alert_date", columnList = "user_id, is_visible_to_user, alert_date"),
-        @Index(name = "idx_alert_stage_visible", columnList = "alert_stage, is_visible_to_user")
+        @Index(name = "idx_alert_stage_visible", columnList = "alert_stage, is_visible_to_user"),
+        @Index(name = "idx_alert_date_stage_visible", columnList = "alert_date, alert_stage, is_visible_to_user")
     },
     uniqueConstraints = {
         @UniqueConstraint(name = "uk_activity_alert", columnNames = {"user_id", "campaign_id", "alert_type", "alert_date"})
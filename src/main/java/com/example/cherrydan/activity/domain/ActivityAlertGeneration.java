@@ -0,0 +1,64 @@
+package com.example.cherrydan.activity.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 날짜별 활동 알림 생성 기록
+ * 07:00 생성 작업이 시작/종료될 때 갱신되며, 10:00 발송 단계가 "해당 날짜 생성 완료" 여부를 확인하는 기준입니다.
+ * DB 에 남기므로 재시작 이후나 다른 인스턴스에서도 같은 상태를 봅니다.
+ */
+@Entity
+@Table(name = "activity_alert_generations")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ActivityAlertGeneration {
+
+    @Id
+    @Column(name = "alert_date")
+    private LocalDate alertDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ActivityAlertGenerationStatus status;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "inserted_count", nullable = false)
+    private Integer insertedCount;
+
+    @Column(name = "skipped_count", nullable = false)
+    private Integer skippedCount;
+
+    public static ActivityAlertGeneration start(LocalDate alertDate, LocalDateTime now) {
+        ActivityAlertGeneration generation = new ActivityAlertGeneration();
+        generation.alertDate = alertDate;
+        generation.restart(now);
+        return generation;
+    }
+
+    /**
+     * 같은 날짜를 다시 생성할 때 (수동 재실행 등) 진행 중 상태로 되돌립니다.
+     */
+    public void restart(LocalDateTime now) {
+        this.status = ActivityAlertGenerationStatus.RUNNING;
+        this.startedAt = now;
+        this.completedAt = null;
+        this.insertedCount = 0;
+        this.skippedCount = 0;
+    }
+
+    public void finish(ActivityAlertGenerationStatus status, int insertedCount, int skippedCount, LocalDateTime now) {
+        this.status = status;
+        this.insertedCount = insertedCount;
+        this.skippedCount = skippedCount;
+        this.completedAt = now;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.cherrydan.activity.domain;
+
+public enum ActivityAlertGenerationStatus {
+    RUNNING,    // 전략 실행 중
+    COMPLETED,  // 모든 전략 성공
+    FAILED,     // 하나 이상의 전략 실패 (성공한 전략의 알림은 저장됨)
+    TIMED_OUT   // 제한 시간 안에 끝나지 않음 (남은 전략은 계속 실행될 수 있음)
+}
@@ -0,0 +1,11 @@
+package com.example.cherrydan.activity.repository;
+
+import com.example.cherrydan.activity.domain.ActivityAlertGeneration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface ActivityAlertGenerationRepository extends JpaRepository<ActivityAlertGeneration, LocalDate> {
+}
@@ -9,8 +9,10 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -38,6 +40,24 @@ public interface ActivityAlertRepository extends JpaRepository<ActivityAlert, Lo
            "WHERE aa.alertStage = 0 AND aa.isVisibleToUser = true AND aa.alertDate = :alertDate")
     Page<ActivityAlert> findTodayUnnotifiedAlertsWithPaging(@Param("alertDate") LocalDate alertDate, Pageable pageable);
 
+    /**
+     * 당일 미발송 활동 알림을 ID 순으로 조회 (발송 후 상태가 바뀌어도 건너뛰지 않도록 키셋 방식)
+     */
+    @Query("SELECT aa FROM ActivityAlert aa " +
+           "JOIN FETCH aa.campaign c " +
+           "JOIN FETCH aa.user u " +
+           "WHERE aa.alertStage = 0 AND aa.isVisibleToUser = true AND aa.alertDate = :alertDate AND aa.id > :lastId " +
+           "ORDER BY aa.id")
+    List<ActivityAlert> findTodayUnnotifiedAlertsAfterId(@Param("alertDate") LocalDate alertDate, @Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 발송 완료 상태로 일괄 변경
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ActivityAlert aa SET aa.alertStage = 1 WHERE aa.id IN :alertIds")
+    int markAsNotifiedByIds(@Param("alertIds") Collection<Long> alertIds);
+
     /**
      * 사용자와 캠페인으로 알림 존재 여부 확인
      */
@@ -53,4 +73,17 @@ public interface ActivityAlertRepository extends JpaRepository<ActivityAlert, Lo
     @Modifying
     @Query("DELETE FROM ActivityAlert aa WHERE aa.user.id = :userId")
     void deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * 보관 기간이 지난 알림을 오래된 날짜부터 배치 삭제 (idx_alert_date_stage_visible 선두 컬럼 범위 탐색)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        DELETE FROM activity_alerts
+        WHERE alert_date < :before
+        ORDER BY alert_date
+        LIMIT :limit
+        """, nativeQuery = true)
+    int deleteAlertDateBefore(@Param("before") LocalDate before, @Param("limit") int limit);
 }
\ No newline at end of file
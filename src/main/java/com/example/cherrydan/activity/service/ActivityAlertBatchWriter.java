@@ -0,0 +1,120 @@
+package com.example.cherrydan.activity.service;
+
+import com.example.cherrydan.activity.domain.ActivityAlert;
+import com.example.cherrydan.activity.strategy.AlertSourceQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 활동 알림 JDBC 배치 저장
+ *
+ * ActivityAlert 는 IDENTITY 키라서 Hibernate 가 INSERT 를 배치로 묶지 못하고 건마다 왕복합니다.
+ * 알림 생성처럼 대량 INSERT 가 필요한 경로는 multi-row INSERT IGNORE 한 문장으로 저장하고,
+ * 이미 있는 알림(uk_activity_alert: user_id, campaign_id, alert_type, alert_date)은 DB 가 건너뜁니다.
+ * 집합 기반 생성(activity-alert.generation.mode=sql)은 원본 행을 애플리케이션으로 읽지 않고
+ * INSERT IGNORE ... SELECT 를 원본 PK 구간별로 실행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActivityAlertBatchWriter {
+
+    private static final String INSERT_IGNORE_PREFIX = """
+            INSERT IGNORE INTO activity_alerts
+                (user_id, campaign_id, alert_date, alert_type, alert_stage, is_visible_to_user, is_read, created_at, updated_at)
+            VALUES\s""";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 9;
+    private static final String INSERT_SELECT_PREFIX = """
+            INSERT IGNORE INTO activity_alerts
+                (user_id, campaign_id, alert_date, alert_type, alert_stage, is_visible_to_user, is_read, created_at, updated_at)
+            SELECT s.user_id, s.campaign_id, ?, ?, 0, 1, 0, ?, ?
+            FROM\s""";
+    // 알림 수신 가능 사용자만 (iterator 경로의 FcmTokenRegistry.isReachable 와 같은 조건을 DB 에서 확인)
+    private static final String REACHABLE_USER_AND_RANGE = """
+             AND EXISTS (
+                SELECT 1 FROM user_devices ud
+                WHERE ud.user_id = s.user_id AND ud.is_active = 1 AND ud.is_allowed = 1
+            )
+            AND s.id BETWEEN ? AND ?
+            """;
+
+    /**
+     * 원본 PK 범위 (양 끝 포함)
+     */
+    public record IdRange(long min, long max) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림을 한 문장으로 저장하고 실제로 추가된 건수를 반환합니다. (건너뛴 중복 = 요청 건수 - 반환값)
+     * 배치 단위 (호출부 기준 500건) 로 나누어 호출합니다.
+     */
+    public int insertIgnoringDuplicates(List<ActivityAlert> alerts) {
+        if (alerts.isEmpty()) {
+            return 0;
+        }
+        String sql = INSERT_IGNORE_PREFIX + String.join(", ", Collections.nCopies(alerts.size(), ROW_PLACEHOLDER));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Object[] params = new Object[alerts.size() * COLUMN_COUNT];
+        int i = 0;
+        for (ActivityAlert alert : alerts) {
+            params[i++] = alert.getUser().getId();
+            params[i++] = alert.getCampaign().getId();
+            params[i++] = Date.valueOf(alert.getAlertDate());
+            params[i++] = alert.getAlertType().name();
+            params[i++] = alert.getAlertStage();
+            params[i++] = alert.getIsVisibleToUser();
+            params[i++] = alert.getIsRead();
+            params[i++] = now;
+            params[i++] = now;
+        }
+        // INSERT IGNORE 의 affected rows 는 실제로 추가된 행 수 (무시된 중복은 0)
+        return jdbcTemplate.update(sql, params);
+    }
+
+    /**
+     * 원본 조회 조건에 맞는 행의 PK 범위 (없으면 비어 있음)
+     * 구간을 나누는 용도라 알림 수신 가능 여부는 보지 않습니다.
+     */
+    public Optional<IdRange> findSourceIdRange(AlertSourceQuery query) {
+        String sql = "SELECT MIN(s.id), MAX(s.id) FROM " + query.fromWhere();
+        return Optional.ofNullable(jdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
+            long min = rs.getLong(1);
+            return rs.wasNull() ? null : new IdRange(min, rs.getLong(2));
+        }, bindParams(query.params())));
+    }
+
+    /**
+     * 원본 PK 구간 [fromId, toId] 의 알림을 한 문장으로 생성하고 실제로 추가된 건수를 반환합니다.
+     * 문장마다 자동 커밋되도록 트랜잭션 밖에서 호출하여 원본 잠금과 undo 를 구간 크기로 제한합니다.
+     */
+    public int insertSelect(AlertSourceQuery query, LocalDate alertDate, long fromId, long toId) {
+        String sql = INSERT_SELECT_PREFIX + query.fromWhere() + REACHABLE_USER_AND_RANGE;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object> params = new ArrayList<>(query.params().size() + 6);
+        params.add(Date.valueOf(alertDate));
+        params.add(query.alertType().name());
+        params.add(now);
+        params.add(now);
+        params.addAll(query.params());
+        params.add(fromId);
+        params.add(toId);
+        return jdbcTemplate.update(sql, bindParams(params));
+    }
+
+    private static Object[] bindParams(List<Object> params) {
+        return params.stream()
+            .map(param -> param instanceof LocalDate date ? Date.valueOf(date) : param)
+            .toArray();
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.cherrydan.activity.service;
+
+import com.example.cherrydan.activity.domain.ActivityAlertGeneration;
+import com.example.cherrydan.activity.domain.ActivityAlertGenerationStatus;
+import com.example.cherrydan.activity.repository.ActivityAlertGenerationRepository;
+import com.example.cherrydan.activity.strategy.AlertStrategy;
+import com.example.cherrydan.activity.strategy.SetBasedAlertStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 활동 알림 생성 조정
+ * 모든 AlertStrategy 를 alertTaskExecutor 에서 동시에 실행하고, 전부 끝나면 (또는 제한 시간이 지나면)
+ * 날짜별 생성 기록(activity_alert_generations)을 남깁니다.
+ * 발송 단계는 이 기록으로 "해당 날짜 생성 완료" 여부를 확인하거나 기다립니다.
+ * activity-alert.generation.mode=sql 이면 SetBasedAlertStrategy 는 INSERT ... SELECT 집합 기반 경로로 실행합니다.
+ */
+@Slf4j
+@Service
+public class ActivityAlertGenerationCoordinator {
+
+    private final List<AlertStrategy> alertStrategies;
+    private final ActivityProcessingService activityProcessingService;
+    private final ActivityAlertGenerationRepository generationRepository;
+    private final MeterRegistry meterRegistry;
+    private final Duration timeout;
+    private final Duration pollInterval;
+    private final Executor pollExecutor;
+    private final boolean setBasedMode;
+
+    public ActivityAlertGenerationCoordinator(
+            List<AlertStrategy> alertStrategies,
+            ActivityProcessingService activityProcessingService,
+            ActivityAlertGenerationRepository generationRepository,
+            MeterRegistry meterRegistry,
+            @Value("${activity-alert.generation.timeout-minutes:150}") long timeoutMinutes,
+            @Value("${activity-alert.generation.poll-interval-ms:5000}") long pollIntervalMs,
+            @Value("${activity-alert.generation.mode:iterator}") String mode,
+            @Qualifier("alertSendExecutor") Executor pollExecutor) {
+        this.alertStrategies = alertStrategies;
+        this.activityProcessingService = activityProcessingService;
+        this.generationRepository = generationRepository;
+        this.meterRegistry = meterRegistry;
+        this.timeout = Duration.ofMinutes(timeoutMinutes);
+        this.pollInterval = Duration.ofMillis(pollIntervalMs);
+        this.setBasedMode = "sql".equalsIgnoreCase(mode);
+        this.pollExecutor = pollExecutor;
+    }
+
+    /**
+     * 생성 결과
+     *
+     * @param failedStrategies 실패했거나 제한 시간 안에 끝나지 않은 전략
+     */
+    public record GenerationReport(LocalDate alertDate,
+                                   ActivityAlertGenerationStatus status,
+                                   int inserted,
+                                   int skipped,
+                                   List<String> failedStrategies) {
+    }
+
+    /**
+     * 모든 전략을 실행하고 즉시 반환합니다. (스케줄러 스레드를 잡고 있지 않음)
+     * 반환된 future 는 모든 전략이 끝나거나 제한 시간이 지나 생성 기록이 저장된 뒤 완료됩니다.
+     */
+    public CompletableFuture<GenerationReport> generate(LocalDate alertDate) {
+        markStarted(alertDate);
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        List<CompletableFuture<ActivityProcessingService.StrategyResult>> futures = alertStrategies.stream()
+            .map(strategy -> process(strategy, alertDate))
+            .toList();
+        log.info("활동 알림 생성 시작: date={}, {} 개 전략, mode={}", alertDate, futures.size(),
+            setBasedMode ? "sql" : "iterator");
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+            .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+            .handle((ignored, error) -> {
+                GenerationReport report = summarize(alertDate, futures, error);
+                sample.stop(Timer.builder("activity.alert.generation")
+                    .description("날짜별 활동 알림 생성 전체 소요 시간")
+                    .tag("status", report.status().name())
+                    .register(meterRegistry));
+                markFinished(report);
+                return report;
+            });
+    }
+
+    /**
+     * 해당 날짜의 생성이 모든 전략 성공으로 끝났는지 여부
+     */
+    public boolean isComplete(LocalDate alertDate) {
+        return currentStatus(alertDate)
+            .filter(status -> status == ActivityAlertGenerationStatus.COMPLETED)
+            .isPresent();
+    }
+
+    /**
+     * 해당 날짜의 생성이 끝날 때까지 (RUNNING 이 아닐 때까지) 최대 maxWait 동안 기다립니다.
+     * 호출 스레드를 잡지 않고 poll-interval 마다 pollExecutor 에서 생성 기록을 확인하므로
+     * 스케줄러 스레드에서 호출해도 다른 @Scheduled 작업을 막지 않습니다.
+     *
+     * @return 마지막으로 확인한 상태로 완료되는 future, 생성 기록이 없으면 empty (시간이 지나도 RUNNING 이면 RUNNING)
+     */
+    public CompletableFuture<Optional<ActivityAlertGenerationStatus>> awaitCompletion(LocalDate alertDate, Duration maxWait) {
+        CompletableFuture<Optional<ActivityAlertGenerationStatus>> result = new CompletableFuture<>();
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        pollExecutor.execute(() -> poll(alertDate, deadline, result));
+        return result;
+    }
+
+    private void poll(LocalDate alertDate, long deadline, CompletableFuture<Optional<ActivityAlertGenerationStatus>> result) {
+        Optional<ActivityAlertGenerationStatus> status;
+        try {
+            status = currentStatus(alertDate);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+
+        long remainingNanos = deadline - System.nanoTime();
+        if (status.filter(s -> s != ActivityAlertGenerationStatus.RUNNING).isPresent() || remainingNanos <= 0) {
+            result.complete(status);
+            return;
+        }
+        long delayMillis = Math.min(pollInterval.toMillis(), Math.max(1, TimeUnit.NANOSECONDS.toMillis(remainingNanos)));
+        CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, pollExecutor)
+            .execute(() -> poll(alertDate, deadline, result));
+    }
+
+    private CompletableFuture<ActivityProcessingService.StrategyResult> process(AlertStrategy strategy, LocalDate alertDate) {
+        if (setBasedMode && strategy instanceof SetBasedAlertStrategy setBased) {
+            return activityProcessingService.processSetBasedAlertsAsync(setBased, alertDate);
+        }
+        return activityProcessingService.processBatchAlertsAsync(strategy, alertDate);
+    }
+
+    private Optional<ActivityAlertGenerationStatus> currentStatus(LocalDate alertDate) {
+        return generationRepository.findById(alertDate).map(ActivityAlertGeneration::getStatus);
+    }
+
+    private GenerationReport summarize(LocalDate alertDate,
+                                       List<CompletableFuture<ActivityProcessingService.StrategyResult>> futures,
+                                       Throwable error) {
+        int inserted = 0;
+        int skipped = 0;
+        List<String> failedStrategies = new ArrayList<>();
+
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<ActivityProcessingService.StrategyResult> future = futures.get(i);
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                ActivityProcessingService.StrategyResult result = future.join();
+                inserted += result.inserted();
+                skipped += result.skipped();
+            } else {
+                failedStrategies.add(alertStrategies.get(i).getClass().getSimpleName());
+            }
+        }
+
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        ActivityAlertGenerationStatus status;
+        if (cause instanceof TimeoutException) {
+            status = ActivityAlertGenerationStatus.TIMED_OUT;
+        } else if (failedStrategies.isEmpty()) {
+            status = ActivityAlertGenerationStatus.COMPLETED;
+        } else {
+            status = ActivityAlertGenerationStatus.FAILED;
+        }
+        return new GenerationReport(alertDate, status, inserted, skipped, failedStrategies);
+    }
+
+    /**
+     * 생성 기록은 발송 단계의 판단 기준일 뿐이므로 저장에 실패해도 알림 생성은 계속합니다.
+     */
+    private void markStarted(LocalDate alertDate) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            ActivityAlertGeneration generation = generationRepository.findById(alertDate)
+                .map(existing -> {
+                    existing.restart(now);
+                    return existing;
+                })
+                .orElseGet(() -> ActivityAlertGeneration.start(alertDate, now));
+            generationRepository.save(generation);
+        } catch (Exception e) {
+            log.warn("활동 알림 생성 시작 기록 실패: date={}, error={}", alertDate, e.getMessage());
+        }
+    }
+
+    private void markFinished(GenerationReport report) {
+        try {
+            ActivityAlertGeneration generation = generationRepository.findById(report.alertDate())
+                .orElseGet(() -> ActivityAlertGeneration.start(report.alertDate(), LocalDateTime.now()));
+            generation.finish(report.status(), report.inserted(), report.skipped(), LocalDateTime.now());
+            generationRepository.save(generation);
+        } catch (Exception e) {
+            log.warn("활동 알림 생성 완료 기록 실패: date={}, error={}", report.alertDate(), e.getMessage());
+        }
+
+        if (report.status() == ActivityAlertGenerationStatus.COMPLETED) {
+            log.info("활동 알림 생성 완료: date={}, {} 건 추가, {} 건 중복 스킵",
+                report.alertDate(), report.inserted(), report.skipped());
+        } else {
+            log.error("활동 알림 생성 {}: date={}, {} 건 추가, {} 건 중복 스킵, 미완료 전략={}",
+                report.status(), report.alertDate(), report.inserted(), report.skipped(), report.failedStrategies());
+        }
+    }
+}
@@ -1,17 +1,18 @@
 package com.example.cherrydan.activity.service;
 
 import com.example.cherrydan.activity.domain.ActivityAlert;
+import com.example.cherrydan.activity.domain.ActivityAlertGenerationStatus;
 import com.example.cherrydan.activity.domain.vo.ActivityAlertMessage;
 import com.example.cherrydan.activity.dto.ActivityAlertResponseDTO;
 import com.example.cherrydan.activity.repository.ActivityAlertRepository;
-import com.example.cherrydan.activity.strategy.AlertStrategy;
 import com.example.cherrydan.campaign.domain.Bookmark;
 import com.example.cherrydan.campaign.repository.BookmarkRepository;
 import com.example.cherrydan.common.exception.ErrorMessage;
 import com.example.cherrydan.common.exception.UserException;
 import com.example.cherrydan.fcm.dto.NotificationRequest;
-import com.example.cherrydan.fcm.dto.NotificationResultDto;
-import com.example.cherrydan.fcm.service.NotificationService;
+import com.example.cherrydan.fcm.service.BatchNotificationService;
+import com.example.cherrydan.notification.domain.NotificationType;
+import com.example.cherrydan.notification.service.NotificationOutboxService;
 import com.example.cherrydan.user.domain.User;
 import com.example.cherrydan.user.dto.AlertIdsRequestDTO;
 import com.example.cherrydan.user.repository.UserRepository;
@@ -23,12 +24,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -37,105 +40,110 @@ public class ActivityAlertService {
 
     private final ActivityAlertRepository activityAlertRepository;
     private final UserRepository userRepository;
-    private final ActivityProcessingService activityProcessingService;
-    private final List<AlertStrategy> alertStrategies;
-    private final NotificationService notificationService;
+    private final ActivityAlertGenerationCoordinator generationCoordinator;
+    private final BatchNotificationService batchNotificationService;
+    private final NotificationOutboxService notificationOutboxService;
 
     private static final int BATCH_SIZE = 500;
 
     /**
-     * 활동 알림 대상 업데이트 (모든 Strategy 실행)
+     * 활동 알림 대상 업데이트 (모든 Strategy 동시 실행)
+     * 즉시 반환하며, 반환된 future 는 모든 전략이 끝나 날짜별 생성 기록이 저장되면 완료됩니다.
      */
-    @Transactional
-    public void updateActivityAlerts() {
+    public CompletableFuture<ActivityAlertGenerationCoordinator.GenerationReport> updateActivityAlerts() {
         LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        return generationCoordinator.generate(today);
+    }
 
-        alertStrategies.forEach(strategy -> 
-            activityProcessingService.processBatchAlertsAsync(strategy, today)
-        );
-        
-        log.info("활동 알림 생성 작업 시작 - {} 개 전략 실행", alertStrategies.size());
-        // 메서드 즉시 반환
+    /**
+     * 오늘 활동 알림 생성이 끝날 때까지 최대 maxWait 동안 기다립니다. (발송 전 확인용, 호출 스레드를 잡지 않음)
+     *
+     * @return 마지막으로 확인한 생성 상태로 완료되는 future, 오늘 생성 기록이 없으면 empty
+     */
+    public CompletableFuture<Optional<ActivityAlertGenerationStatus>> awaitTodayGeneration(Duration maxWait) {
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        return generationCoordinator.awaitCompletion(today, maxWait);
     }
 
     /**
      * 활동 알림 발송
+     * FCM 전송 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 배치 단위로 조회 → 전송 → 상태 일괄 업데이트합니다.
      */
-    @Transactional
     public void sendActivityNotifications() {
 
         LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
 
-        // 페이징 설정
         Pageable pageable = PageRequest.of(0, BATCH_SIZE);
-        Page<ActivityAlert> page;
+        List<ActivityAlert> batch;
+        long lastId = 0L;
         int totalSentCount = 0;
         int totalProcessed = 0;
 
         log.info("=== 활동 알림 발송 시작 ===");
 
-        // 페이지 단위로 처리
+        // ID 키셋 단위로 처리 (발송 완료 처리된 행이 빠져도 다음 배치를 건너뛰지 않음)
         do {
-            page = activityAlertRepository.findTodayUnnotifiedAlertsWithPaging(today, pageable);
+            batch = activityAlertRepository.findTodayUnnotifiedAlertsAfterId(today, lastId, pageable);
 
-            if (page.isEmpty()) {
-                log.info("발송할 활동 알림이 없습니다.");
+            if (batch.isEmpty()) {
+                if (totalProcessed == 0) {
+                    log.info("발송할 활동 알림이 없습니다.");
+                }
                 break;
             }
 
-            // 배치 처리 및 즉시 상태 업데이트
-            int batchSentCount = processBatchNotifications(page.getContent());
+            int batchSentCount = notificationOutboxService.isEnabled()
+                ? enqueueBatchNotifications(batch)
+                : processBatchNotifications(batch);
             totalSentCount += batchSentCount;
-            totalProcessed += page.getNumberOfElements();
-
-            log.info("배치 처리 완료: {} / {} 건 발송 성공", batchSentCount, page.getNumberOfElements());
+            totalProcessed += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
 
-            // 다음 페이지로 이동
-            pageable = page.nextPageable();
+            log.info("배치 처리 완료: {} / {} 건 {}", batchSentCount, batch.size(),
+                notificationOutboxService.isEnabled() ? "아웃박스 신규 적재(토큰 단위)" : "발송 성공");
 
-        } while (page.hasNext());
+        } while (batch.size() == BATCH_SIZE);
 
         log.info("=== 활동 알림 발송 완료: 총 {} / {} 건 발송 ===", totalSentCount, totalProcessed);
     }
 
+    /**
+     * outbox 모드: 배치를 아웃박스에 적재 (발송과 상태 업데이트는 디스패처가 처리)
+     * @return 새로 적재된 토큰 행 개수 (이미 적재된 중복 제외)
+     */
+    private int enqueueBatchNotifications(List<ActivityAlert> batch) {
+        List<NotificationOutboxService.OutboxMessage> messages = batch.stream()
+            .map(alert -> new NotificationOutboxService.OutboxMessage(
+                alert.getId(),
+                alert.getUser().getId(),
+                NotificationRequest.create(ActivityAlertMessage.create(alert))))
+            .toList();
+        return notificationOutboxService.enqueue(NotificationType.ACTIVITY_REMINDER, messages);
+    }
+
     /**
      * 배치 단위 알림 발송 및 상태 업데이트
+     * 배치 전체의 토큰을 한 번에 조회해 전송하고, 성공한 알림만 발송 완료로 일괄 변경합니다.
      * @return 성공적으로 발송된 알림 개수
      */
     private int processBatchNotifications(List<ActivityAlert> batch) {
-        ArrayList<ActivityAlert> successfulAlerts = new ArrayList<>();
-
-        for (ActivityAlert alert : batch) {
-            try {
-                ActivityAlertMessage activityAlertMessage = ActivityAlertMessage.create(alert);
-
-                // 개별 알림 발송 (ActivityAlert가 이미 모든 정보를 가지고 있음)
-                NotificationRequest request = NotificationRequest.create(activityAlertMessage);
-
-                // 사용자에게 발송
-                NotificationResultDto result = notificationService.sendNotificationToUsers(
-                    List.of(alert.getUser().getId()), request);
-
-                if (result.getSuccessCount() > 0) {
-                    // 성공 시 즉시 상태 업데이트
-                    alert.markAsNotified();
-                    successfulAlerts.add(alert);
-
-                    log.debug("알림 발송 성공: userId={}, alertType={}, campaignId={}",
-                        alert.getUser().getId(), alert.getAlertType(), alert.getCampaign().getId());
-                } else {
-                    log.debug("알림 발송 실패: userId={}, alertType={}, campaignId={}",
-                        alert.getUser().getId(), alert.getAlertType(), alert.getCampaign().getId());
-                }
-
-            } catch (Exception e) {
-                log.error("알림 발송 중 오류: userId={}, alertId={}, error={}",
-                    alert.getUser().getId(), alert.getId(), e.getMessage());
-            }
+        List<ActivityAlert> successfulAlerts;
+        try {
+            successfulAlerts = batchNotificationService.sendToUsers(
+                batch,
+                alert -> alert.getUser().getId(),
+                alert -> NotificationRequest.create(ActivityAlertMessage.create(alert)));
+        } catch (Exception e) {
+            log.error("알림 배치 발송 중 오류: firstAlertId={}, size={}, error={}",
+                batch.get(0).getId(), batch.size(), e.getMessage());
+            return 0;
         }
 
-        if (!successfulAlerts.isEmpty()){
-            activityAlertRepository.saveAll(successfulAlerts);
+        if (!successfulAlerts.isEmpty()) {
+            List<Long> successfulIds = successfulAlerts.stream()
+                .map(ActivityAlert::getId)
+                .toList();
+            activityAlertRepository.markAsNotifiedByIds(successfulIds);
         }
 
         return successfulAlerts.size();
@@ -1,16 +1,20 @@
 package com.example.cherrydan.activity.service;
 
 import com.example.cherrydan.activity.domain.ActivityAlert;
+import com.example.cherrydan.activity.strategy.AlertSourceQuery;
 import com.example.cherrydan.activity.strategy.AlertStrategy;
+import com.example.cherrydan.activity.strategy.SetBasedAlertStrategy;
 import com.example.cherrydan.campaign.domain.Bookmark;
 import com.example.cherrydan.campaign.domain.Campaign;
-import com.example.cherrydan.activity.repository.ActivityAlertRepository;
 import com.example.cherrydan.fcm.service.NotificationService;
 import com.example.cherrydan.fcm.dto.NotificationRequest;
 import com.example.cherrydan.fcm.dto.NotificationResultDto;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,24 +25,45 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ActivityProcessingService {
     
-    private final ActivityAlertRepository activityAlertRepository;
+    private final ActivityAlertBatchWriter activityAlertBatchWriter;
+    private final MeterRegistry meterRegistry;
+    private final long sqlChunkSize;
+    // 전략별 집합 기반 생성 진행률 (게이지가 참조하므로 전략마다 하나를 계속 유지)
+    private final Map<String, SqlProgress> sqlProgress = new ConcurrentHashMap<>();
     
     private static final int BATCH_SIZE = 500;
 
+    public ActivityProcessingService(
+            ActivityAlertBatchWriter activityAlertBatchWriter,
+            MeterRegistry meterRegistry,
+            @Value("${activity-alert.generation.sql-chunk-size:50000}") long sqlChunkSize) {
+        this.activityAlertBatchWriter = activityAlertBatchWriter;
+        this.meterRegistry = meterRegistry;
+        this.sqlChunkSize = sqlChunkSize;
+    }
+
+    /**
+     * 전략 하나의 생성 결과
+     */
+    public record StrategyResult(String strategy, int inserted, int skipped) {}
+
     /**
      * 배치 처리 방식으로 알림 생성
+     * 실패하면 예외로 완료된 future 를 반환합니다. (이미 저장된 배치는 그대로 커밋되며, 재실행 시 중복은 건너뜀)
      */
     @Async("alertTaskExecutor")
     @Transactional
-    public CompletableFuture<Void> processBatchAlertsAsync(
+    public CompletableFuture<StrategyResult> processBatchAlertsAsync(
             AlertStrategy strategy, LocalDate today) {
 
         String strategyName = strategy.getClass().getSimpleName();
@@ -46,6 +71,7 @@ public class ActivityProcessingService {
         int totalProcessed = 0;
         int totalSkipped = 0;
         long startTime = System.currentTimeMillis();
+        Timer.Sample sample = Timer.start(meterRegistry);
 
         try {
             log.info("[{}] 배치 처리 시작", strategyName);
@@ -79,38 +105,145 @@ public class ActivityProcessingService {
             log.info("[{}] 완료: {} 건 처리, {} 건 중복 스킵 (소요시간: {}ms)",
                 strategyName, totalProcessed, totalSkipped, elapsed);
 
+            sample.stop(strategyTimer(strategyName, "success"));
+            rowCounter(strategyName, "inserted").increment(totalProcessed);
+            rowCounter(strategyName, "skipped").increment(totalSkipped);
+            return CompletableFuture.completedFuture(new StrategyResult(strategyName, totalProcessed, totalSkipped));
+
         } catch (Exception e) {
             log.error("[{}] 실패: {}", strategyName, e.getMessage(), e);
+            sample.stop(strategyTimer(strategyName, "failure"));
+            rowCounter(strategyName, "inserted").increment(totalProcessed);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 집합 기반 알림 생성 (activity-alert.generation.mode=sql)
+     * 알림 유형별로 원본 PK 범위를 sql-chunk-size 구간으로 나누어 INSERT IGNORE ... SELECT 를 실행합니다.
+     * 트랜잭션 없이 구간마다 커밋되므로 실패하면 완료된 구간은 남고, 재실행 시 중복은 DB 가 건너뜁니다.
+     * INSERT IGNORE 는 추가된 행 수만 알려 주므로 skipped 는 0 으로 보고합니다.
+     */
+    @Async("alertTaskExecutor")
+    public CompletableFuture<StrategyResult> processSetBasedAlertsAsync(
+            SetBasedAlertStrategy strategy, LocalDate today) {
+
+        String strategyName = strategy.getClass().getSimpleName();
+        SqlProgress progress = sqlProgress(strategyName);
+        Counter chunkCounter = Counter.builder("activity.alert.generation.sql.chunks")
+            .description("전략별 집합 기반 생성에서 실행한 INSERT ... SELECT 구간 수")
+            .tag("strategy", strategyName)
+            .register(meterRegistry);
+        int totalInserted = 0;
+        long startTime = System.currentTimeMillis();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            log.info("[{}] 집합 기반 처리 시작 (구간 크기: {})", strategyName, sqlChunkSize);
+
+            List<AlertSourceQuery> queries = strategy.sourceQueries(today);
+            List<ActivityAlertBatchWriter.IdRange> ranges = new ArrayList<>(queries.size());
+            long totalSpan = 0;
+            for (AlertSourceQuery query : queries) {
+                ActivityAlertBatchWriter.IdRange range = activityAlertBatchWriter.findSourceIdRange(query).orElse(null);
+                ranges.add(range);
+                if (range != null) {
+                    totalSpan += range.max() - range.min() + 1;
+                }
+            }
+            progress.start(totalSpan);
+
+            for (int i = 0; i < queries.size(); i++) {
+                AlertSourceQuery query = queries.get(i);
+                ActivityAlertBatchWriter.IdRange range = ranges.get(i);
+                if (range == null) {
+                    continue;
+                }
+                for (long fromId = range.min(); fromId <= range.max(); fromId += sqlChunkSize) {
+                    long toId = Math.min(fromId + sqlChunkSize - 1, range.max());
+                    int inserted = activityAlertBatchWriter.insertSelect(query, today, fromId, toId);
+                    totalInserted += inserted;
+                    chunkCounter.increment();
+                    progress.advance(toId - fromId + 1);
+
+                    log.debug("[{}] {} 구간 [{}, {}]: {} 건 추가",
+                        strategyName, query.alertType(), fromId, toId, inserted);
+                }
+            }
+
+            long elapsed = System.currentTimeMillis() - startTime;
+
+            log.info("[{}] 집합 기반 처리 완료: {} 건 추가 (소요시간: {}ms)",
+                strategyName, totalInserted, elapsed);
+
+            sample.stop(strategyTimer(strategyName, "success"));
+            rowCounter(strategyName, "inserted").increment(totalInserted);
+            return CompletableFuture.completedFuture(new StrategyResult(strategyName, totalInserted, 0));
+
+        } catch (Exception e) {
+            log.error("[{}] 집합 기반 처리 실패: {}", strategyName, e.getMessage(), e);
+            sample.stop(strategyTimer(strategyName, "failure"));
+            rowCounter(strategyName, "inserted").increment(totalInserted);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private SqlProgress sqlProgress(String strategyName) {
+        return sqlProgress.computeIfAbsent(strategyName, name -> {
+            SqlProgress progress = new SqlProgress();
+            Gauge.builder("activity.alert.generation.sql.progress", progress, SqlProgress::ratio)
+                .description("전략별 집합 기반 생성 진행률 (처리한 원본 PK 구간 / 전체, 0~1)")
+                .tag("strategy", name)
+                .register(meterRegistry);
+            return progress;
+        });
+    }
+
+    /**
+     * 집합 기반 생성 진행률 (원본 PK 구간 기준)
+     */
+    private static final class SqlProgress {
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong done = new AtomicLong();
+
+        void start(long totalSpan) {
+            done.set(0);
+            total.set(totalSpan);
         }
 
-        return CompletableFuture.completedFuture(null);
+        void advance(long span) {
+            done.addAndGet(span);
+        }
+
+        double ratio() {
+            long totalSpan = total.get();
+            return totalSpan == 0 ? 1.0 : (double) done.get() / totalSpan;
+        }
+    }
+
+    private Timer strategyTimer(String strategyName, String outcome) {
+        return Timer.builder("activity.alert.generation.strategy")
+            .description("전략별 활동 알림 생성 소요 시간")
+            .tag("strategy", strategyName)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private Counter rowCounter(String strategyName, String result) {
+        return Counter.builder("activity.alert.generation.rows")
+            .description("전략별 활동 알림 생성 건수 (inserted: 추가, skipped: 이미 있어 건너뜀)")
+            .tag("strategy", strategyName)
+            .tag("result", result)
+            .register(meterRegistry);
     }
     
     private record BatchResult(int processed, int skipped) {}
     
+    /**
+     * 이미 생성된 알림(uk_activity_alert)은 DB 가 건너뛰므로 재실행도 첫 실행과 같은 비용으로 처리됩니다.
+     */
     private BatchResult saveBatchWithDuplicateHandling(List<ActivityAlert> batch) {
-        int processed = 0;
-        int skipped = 0;
-        
-        try {
-            activityAlertRepository.saveAllAndFlush(batch);
-            processed = batch.size();
-            
-        } catch (DataIntegrityViolationException e) {
-            // 중복 발생 시 개별 저장으로 폴백
-            log.debug("중복 감지, 개별 저장 모드로 전환");
-            
-            for (ActivityAlert alert : batch) {
-                try {
-                    activityAlertRepository.save(alert);
-                    processed++;
-                } catch (DataIntegrityViolationException ignored) {
-                    // DB unique constraint가 중복 방지
-                    skipped++;
-                }
-            }
-        }
-        
-        return new BatchResult(processed, skipped);
+        int inserted = activityAlertBatchWriter.insertIgnoringDuplicates(batch);
+        return new BatchResult(inserted, batch.size() - inserted);
     }
 }
\ No newline at end of file
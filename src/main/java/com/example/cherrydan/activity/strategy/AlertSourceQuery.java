@@ -0,0 +1,17 @@
+package com.example.cherrydan.activity.strategy;
+
+import com.example.cherrydan.activity.domain.ActivityAlertType;
+
+import java.util.List;
+
+/**
+ * 집합 기반 알림 생성용 원본 조회
+ * INSERT IGNORE INTO activity_alerts ... SELECT s.user_id, s.campaign_id ... 의 FROM/WHERE 부분입니다.
+ * 원본 테이블은 별칭 s 로 두며 id(PK), user_id, campaign_id 컬럼이 있어야 합니다.
+ *
+ * @param alertType 생성할 알림 유형
+ * @param fromWhere "원본 s JOIN ... WHERE ..." (알림 수신 가능 사용자 조건과 id 구간은 실행 시 덧붙임)
+ * @param params fromWhere 의 ? 자리표시자 값 (순서대로)
+ */
+public record AlertSourceQuery(ActivityAlertType alertType, String fromWhere, List<Object> params) {
+}
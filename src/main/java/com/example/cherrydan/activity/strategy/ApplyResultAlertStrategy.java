@@ -6,31 +6,55 @@ import com.example.cherrydan.campaign.domain.CampaignStatus;
 import com.example.cherrydan.campaign.domain.CampaignStatusType;
 import com.example.cherrydan.campaign.repository.CampaignStatusRepository;
 import com.example.cherrydan.common.util.PagedAlertIterator;
+import com.example.cherrydan.fcm.service.FcmTokenRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.Iterator;
+import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ApplyResultAlertStrategy implements AlertStrategy {
+public class ApplyResultAlertStrategy implements SetBasedAlertStrategy {
+
+    private static final String SOURCE = """
+            campaign_status s
+            JOIN campaigns c ON c.id = s.campaign_id
+            JOIN users u ON u.id = s.user_id
+            WHERE s.status = ?
+            AND c.reviewer_announcement = ?
+            AND s.is_active = 1
+            AND u.is_active = 1
+            """;
     
     private final CampaignStatusRepository campaignStatusRepository;
+    private final EntityManager entityManager;
+    private final FcmTokenRegistry tokenRegistry;
     
     @Override
     public Iterator<ActivityAlert> generateAlertsIterator(LocalDate today) {
         return new PagedAlertIterator<>(
-            page -> campaignStatusRepository.findByStatusAndReviewerAnnouncementDate(
-                CampaignStatusType.APPLY, today, page),
+            (lastId, page) -> campaignStatusRepository.findByStatusAndReviewerAnnouncementDateAfterId(
+                CampaignStatusType.APPLY, today, lastId, page),
+            CampaignStatus::getId,
             status -> ActivityAlert.builder()
                 .user(status.getUser())
                 .campaign(status.getCampaign())
                 .alertType(ActivityAlertType.APPLY_RESULT_DDAY)
                 .alertDate(today)
-                .build()
+                .build(),
+            entityManager::clear,
+            status -> tokenRegistry.isReachable(status.getUser().getId())
         );
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<AlertSourceQuery> sourceQueries(LocalDate today) {
+        return List.of(new AlertSourceQuery(ActivityAlertType.APPLY_RESULT_DDAY, SOURCE,
+            List.of(CampaignStatusType.APPLY.ordinal(), today)));
+    }
+}
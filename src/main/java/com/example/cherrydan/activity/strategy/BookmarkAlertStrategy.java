@@ -6,36 +6,65 @@ import com.example.cherrydan.campaign.domain.Bookmark;
 import com.example.cherrydan.campaign.repository.BookmarkRepository;
 import com.example.cherrydan.common.util.CompositeAlertIterator;
 import com.example.cherrydan.common.util.PagedAlertIterator;
+import com.example.cherrydan.fcm.service.FcmTokenRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.Iterator;
+import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class BookmarkAlertStrategy implements AlertStrategy {
+public class BookmarkAlertStrategy implements SetBasedAlertStrategy {
+
+    private static final String SOURCE = """
+            campaign_bookmark s
+            JOIN campaigns c ON c.id = s.campaign_id
+            JOIN users u ON u.id = s.user_id
+            WHERE c.apply_end = ?
+            AND s.is_active = 1
+            AND c.is_active = 1
+            AND u.is_active = 1
+            """;
     
     private final BookmarkRepository bookmarkRepository;
+    private final EntityManager entityManager;
+    private final FcmTokenRegistry tokenRegistry;
     
     @Override
     public Iterator<ActivityAlert> generateAlertsIterator(LocalDate today) {
         return new CompositeAlertIterator(
             new PagedAlertIterator<>(
-                page -> bookmarkRepository.findActiveBookmarksByApplyEndDate(
-                    today.plusDays(1), page),  // D-1
-                bookmark -> createAlert(bookmark, ActivityAlertType.BOOKMARK_DEADLINE_D1, today)
+                (lastId, page) -> bookmarkRepository.findActiveBookmarksByApplyEndDateAfterId(
+                    today.plusDays(1), lastId, page),  // D-1
+                Bookmark::getId,
+                bookmark -> createAlert(bookmark, ActivityAlertType.BOOKMARK_DEADLINE_D1, today),
+                entityManager::clear,
+                bookmark -> tokenRegistry.isReachable(bookmark.getUser().getId())
             ),
             new PagedAlertIterator<>(
-                page -> bookmarkRepository.findActiveBookmarksByApplyEndDate(
-                    today, page),  // D-Day
-                bookmark -> createAlert(bookmark, ActivityAlertType.BOOKMARK_DEADLINE_DDAY, today)
+                (lastId, page) -> bookmarkRepository.findActiveBookmarksByApplyEndDateAfterId(
+                    today, lastId, page),  // D-Day
+                Bookmark::getId,
+                bookmark -> createAlert(bookmark, ActivityAlertType.BOOKMARK_DEADLINE_DDAY, today),
+                entityManager::clear,
+                bookmark -> tokenRegistry.isReachable(bookmark.getUser().getId())
             )
         );
     }
     
+    @Override
+    public List<AlertSourceQuery> sourceQueries(LocalDate today) {
+        return List.of(
+            new AlertSourceQuery(ActivityAlertType.BOOKMARK_DEADLINE_D1, SOURCE, List.of(today.plusDays(1))),
+            new AlertSourceQuery(ActivityAlertType.BOOKMARK_DEADLINE_DDAY, SOURCE, List.of(today))
+        );
+    }
+
     private ActivityAlert createAlert(Bookmark bookmark, ActivityAlertType type, LocalDate date) {
         return ActivityAlert.builder()
             .user(bookmark.getUser())
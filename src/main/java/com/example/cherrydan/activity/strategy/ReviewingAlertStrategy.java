@@ -7,36 +7,66 @@ import com.example.cherrydan.campaign.domain.CampaignStatusType;
 import com.example.cherrydan.campaign.repository.CampaignStatusRepository;
 import com.example.cherrydan.common.util.CompositeAlertIterator;
 import com.example.cherrydan.common.util.PagedAlertIterator;
+import com.example.cherrydan.fcm.service.FcmTokenRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.Iterator;
+import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ReviewingAlertStrategy implements AlertStrategy {
+public class ReviewingAlertStrategy implements SetBasedAlertStrategy {
+
+    private static final String SOURCE = """
+            campaign_status s
+            JOIN campaigns c ON c.id = s.campaign_id
+            JOIN users u ON u.id = s.user_id
+            WHERE s.status = ?
+            AND c.content_submission_end = ?
+            AND s.is_active = 1
+            AND u.is_active = 1
+            """;
     
     private final CampaignStatusRepository campaignStatusRepository;
+    private final EntityManager entityManager;
+    private final FcmTokenRegistry tokenRegistry;
     
     @Override
     public Iterator<ActivityAlert> generateAlertsIterator(LocalDate today) {
         return new CompositeAlertIterator(
             new PagedAlertIterator<>(
-                page -> campaignStatusRepository.findReviewingCampaignsByReviewEndDate(
-                    today.plusDays(3), page),  // D-3
-                status -> createAlert(status, ActivityAlertType.REVIEWING_DEADLINE_D3, today)
+                (lastId, page) -> campaignStatusRepository.findReviewingCampaignsByReviewEndDateAfterId(
+                    today.plusDays(3), lastId, page),  // D-3
+                CampaignStatus::getId,
+                status -> createAlert(status, ActivityAlertType.REVIEWING_DEADLINE_D3, today),
+                entityManager::clear,
+                status -> tokenRegistry.isReachable(status.getUser().getId())
             ),
             new PagedAlertIterator<>(
-                page -> campaignStatusRepository.findReviewingCampaignsByReviewEndDate(
-                    today, page),  // D-Day
-                status -> createAlert(status, ActivityAlertType.REVIEWING_DEADLINE_DDAY, today)
+                (lastId, page) -> campaignStatusRepository.findReviewingCampaignsByReviewEndDateAfterId(
+                    today, lastId, page),  // D-Day
+                CampaignStatus::getId,
+                status -> createAlert(status, ActivityAlertType.REVIEWING_DEADLINE_DDAY, today),
+                entityManager::clear,
+                status -> tokenRegistry.isReachable(status.getUser().getId())
             )
         );
     }
     
+    @Override
+    public List<AlertSourceQuery> sourceQueries(LocalDate today) {
+        int reviewing = CampaignStatusType.REVIEWING.ordinal();
+        return List.of(
+            new AlertSourceQuery(ActivityAlertType.REVIEWING_DEADLINE_D3, SOURCE, List.of(reviewing, today.plusDays(3))),
+            new AlertSourceQuery(ActivityAlertType.REVIEWING_DEADLINE_DDAY, SOURCE, List.of(reviewing, today))
+        );
+    }
+
     private ActivityAlert createAlert(CampaignStatus status, ActivityAlertType type, LocalDate date) {
         return ActivityAlert.builder()
             .user(status.getUser())
@@ -5,39 +5,72 @@ import com.example.cherrydan.activity.domain.ActivityAlertType;
 import com.example.cherrydan.campaign.domain.CampaignStatus;
 import com.example.cherrydan.campaign.domain.CampaignStatusType;
 import com.example.cherrydan.campaign.domain.CampaignType;
+import com.example.cherrydan.campaign.domain.CampaignTypeConverter;
 import com.example.cherrydan.campaign.repository.CampaignStatusRepository;
 import com.example.cherrydan.common.util.CompositeAlertIterator;
 import com.example.cherrydan.common.util.PagedAlertIterator;
+import com.example.cherrydan.fcm.service.FcmTokenRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.Iterator;
+import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class SelectedVisitAlertStrategy implements AlertStrategy {
+public class SelectedVisitAlertStrategy implements SetBasedAlertStrategy {
+
+    private static final String SOURCE = """
+            campaign_status s
+            JOIN campaigns c ON c.id = s.campaign_id
+            JOIN users u ON u.id = s.user_id
+            WHERE s.status = ?
+            AND c.campaign_type = ?
+            AND c.content_submission_end = ?
+            AND s.is_active = 1
+            AND u.is_active = 1
+            """;
     
     private final CampaignStatusRepository campaignStatusRepository;
+    private final EntityManager entityManager;
+    private final FcmTokenRegistry tokenRegistry;
     
     @Override
     public Iterator<ActivityAlert> generateAlertsIterator(LocalDate today) {
         return new CompositeAlertIterator(
             new PagedAlertIterator<>(
-                page -> campaignStatusRepository.findSelectedRegionCampaignsByVisitEndDate(
-                    today.plusDays(3), page),
-                status -> createAlert(status, ActivityAlertType.SELECTED_VISIT_D3, today)
+                (lastId, page) -> campaignStatusRepository.findSelectedRegionCampaignsByVisitEndDateAfterId(
+                    today.plusDays(3), lastId, page),
+                CampaignStatus::getId,
+                status -> createAlert(status, ActivityAlertType.SELECTED_VISIT_D3, today),
+                entityManager::clear,
+                status -> tokenRegistry.isReachable(status.getUser().getId())
             ),
             new PagedAlertIterator<>(
-                page -> campaignStatusRepository.findSelectedRegionCampaignsByVisitEndDate(
-                    today, page),
-                status -> createAlert(status, ActivityAlertType.SELECTED_VISIT_DDAY, today)
+                (lastId, page) -> campaignStatusRepository.findSelectedRegionCampaignsByVisitEndDateAfterId(
+                    today, lastId, page),
+                CampaignStatus::getId,
+                status -> createAlert(status, ActivityAlertType.SELECTED_VISIT_DDAY, today),
+                entityManager::clear,
+                status -> tokenRegistry.isReachable(status.getUser().getId())
             )
         );
     }
     
+    @Override
+    public List<AlertSourceQuery> sourceQueries(LocalDate today) {
+        int selected = CampaignStatusType.SELECTED.ordinal();
+        Integer region = new CampaignTypeConverter().convertToDatabaseColumn(CampaignType.REGION);
+        return List.of(
+            new AlertSourceQuery(ActivityAlertType.SELECTED_VISIT_D3, SOURCE, List.of(selected, region, today.plusDays(3))),
+            new AlertSourceQuery(ActivityAlertType.SELECTED_VISIT_DDAY, SOURCE, List.of(selected, region, today))
+        );
+    }
+
     private ActivityAlert createAlert(CampaignStatus status, ActivityAlertType type, LocalDate date) {
         return ActivityAlert.builder()
             .user(status.getUser())
@@ -0,0 +1,16 @@
+package com.example.cherrydan.activity.strategy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 원본 행을 읽지 않고 DB 안에서 INSERT ... SELECT 로 알림을 만들 수 있는 전략
+ * 행마다 Java 로직이 필요 없는 전략만 구현하며, activity-alert.generation.mode=sql 이면 iterator 대신 사용됩니다.
+ */
+public interface SetBasedAlertStrategy extends AlertStrategy {
+
+    /**
+     * 해당 날짜에 생성할 알림 유형별 원본 조회
+     */
+    List<AlertSourceQuery> sourceQueries(LocalDate today);
+}
@@ -45,11 +45,13 @@ public class CampaignController {
         @RequestParam(defaultValue = "0") int page,
         @Parameter(description = "페이지 크기", example = "20")
         @RequestParam(defaultValue = "20") int size,
+        @Parameter(description = "커서 (무한 스크롤용, 첫 요청은 빈 값). 지정하면 page 는 무시되고 전체 건수를 계산하지 않습니다.")
+        @RequestParam(required = false) String cursor,
         @AuthenticationPrincipal UserDetailsImpl currentUser
     ) {
         Pageable pageable = createPageable(sort, page, size);
         Long userId = (currentUser != null) ? currentUser.getId() : null;
-        PageListResponseDTO<CampaignResponseDTO> result = campaignService.getCampaigns(null, sort, pageable, userId);
+        PageListResponseDTO<CampaignResponseDTO> result = campaignService.getCampaigns(null, sort, pageable, cursor, userId);
         return ResponseEntity.ok(ApiResponse.success("전체 캠페인 목록 조회가 완료되었습니다.", result));
     }
 
@@ -71,11 +73,13 @@ public class CampaignController {
         @RequestParam(defaultValue = "0") int page,
         @Parameter(description = "페이지 크기", example = "20")
         @RequestParam(defaultValue = "20") int size,
+        @Parameter(description = "커서 (무한 스크롤용, 첫 요청은 빈 값). 지정하면 page 는 무시되고 전체 건수를 계산하지 않습니다.")
+        @RequestParam(required = false) String cursor,
         @AuthenticationPrincipal UserDetailsImpl currentUser
     ) {
         Pageable pageable = createPageable(sort, page, size);
         Long userId = (currentUser != null) ? currentUser.getId() : null;
-        PageListResponseDTO<CampaignResponseDTO> result = campaignService.getCampaignsByLocal(regionGroup, subRegion, localCategory, sort, pageable, userId);
+        PageListResponseDTO<CampaignResponseDTO> result = campaignService.getCampaignsByLocal(regionGroup, subRegion, localCategory, sort, pageable, cursor, userId);
         return ResponseEntity.ok(ApiResponse.success("지역 캠페인 목록 조회가 완료되었습니다.", result));
     }
 
@@ -93,11 +97,13 @@ public class CampaignController {
         @RequestParam(defaultValue = "0") int page,
         @Parameter(description = "페이지 크기", example = "20")
         @RequestParam(defaultValue = "20") int size,
+        @Parameter(description = "커서 (무한 스크롤용, 첫 요청은 빈 값). 지정하면 page 는 무시되고 전체 건수를 계산하지 않습니다.")
+        @RequestParam(required = false) String cursor,
         @AuthenticationPrincipal UserDetailsImpl currentUser
     ) {
         Pageable pageable = createPageable(sort, page, size);
         Long userId = (currentUser != null) ? currentUser.getId() : null;
-        PageListResponseDTO<CampaignResponseDTO> result = campaignService.getCampaignsByProduct(productCategory, sort, pageable, userId);
+        PageListResponseDTO<CampaignResponseDTO> result = campaignService.getCampaignsByProduct(productCategory, sort, pageable, cursor, userId);
         return ResponseEntity.ok(ApiResponse.success("제품 캠페인 목록 조회가 완료되었습니다.", result));
     }
 
@@ -113,11 +119,13 @@ public class CampaignController {
         @RequestParam(defaultValue = "0") int page,
         @Parameter(description = "페이지 크기", example = "20")
         @RequestParam(defaultValue = "20") int size,
+        @Parameter(description = "커서 (무한 스크롤용, 첫 요청은 빈 값). 지정하면 page 는 무시되고 전체 건수를 계산하지 않습니다.")
+        @RequestParam(required = false) String cursor,
         @AuthenticationPrincipal UserDetailsImpl currentUser
     ) {
         Pageable pageable = createPageable(sort, page, size);
         Long userId = (currentUser != null) ? currentUser.getId() : null;
-        PageListResponseDTO<CampaignResponseDTO> result = campaignService.getCampaigns(CampaignType.REPORTER, sort, pageable, userId);
+        PageListResponseDTO<CampaignResponseDTO> result = campaignService.getCampaigns(CampaignType.REPORTER, sort, pageable, cursor, userId);
         return ResponseEntity.ok(ApiResponse.success("기자단 캠페인 목록 조회가 완료되었습니다.", result));
     }
 
@@ -132,6 +140,8 @@ public class CampaignController {
         @RequestParam(required = false, defaultValue = "0") int page,
         @Parameter(description = "페이지 크기", example = "20")
         @RequestParam(required = false, defaultValue = "20") int size,
+        @Parameter(description = "커서 (무한 스크롤용, 첫 요청은 빈 값). 지정하면 page 는 무시되고 전체 건수를 계산하지 않습니다.")
+        @RequestParam(required = false) String cursor,
         @AuthenticationPrincipal UserDetailsImpl currentUser
     ) {
         Pageable pageable = createPageable(sort, page, size);
@@ -143,7 +153,7 @@ public class CampaignController {
             campaignType = null;
         }
         Long userId = (currentUser != null) ? currentUser.getId() : null;
-        PageListResponseDTO<CampaignResponseDTO> result = campaignService.getCampaigns(campaignType, sort, pageable, userId);
+        PageListResponseDTO<CampaignResponseDTO> result = campaignService.getCampaigns(campaignType, sort, pageable, cursor, userId);
         return ResponseEntity.ok(ApiResponse.success("캠페인 목록 조회가 완료되었습니다.", result));
     }
 
@@ -158,11 +168,13 @@ public class CampaignController {
         @RequestParam(required = false, defaultValue = "0") int page,
         @Parameter(description = "페이지 크기", example = "20")
         @RequestParam(required = false, defaultValue = "20") int size,
+        @Parameter(description = "커서 (무한 스크롤용, 첫 요청은 빈 값). 지정하면 page 는 무시되고 전체 건수를 계산하지 않습니다.")
+        @RequestParam(required = false) String cursor,
         @AuthenticationPrincipal UserDetailsImpl currentUser
     ) {
         Pageable pageable = createPageable(sort, page, size);
         Long userId = (currentUser != null) ? currentUser.getId() : null;
-        PageListResponseDTO<CampaignResponseDTO> result = campaignService.getCampaignsByCampaignPlatform(platform, sort, pageable, userId);
+        PageListResponseDTO<CampaignResponseDTO> result = campaignService.getCampaignsByCampaignPlatform(platform, sort, pageable, cursor, userId);
         return ResponseEntity.ok(ApiResponse.success("캠페인 목록 조회가 완료되었습니다.", result));
     }
 
@@ -177,11 +189,13 @@ public class CampaignController {
         @RequestParam(required = false, defaultValue = "0") int page,
         @Parameter(description = "페이지 크기", example = "20")
         @RequestParam(required = false, defaultValue = "20") int size,
+        @Parameter(description = "커서 (무한 스크롤용, 첫 요청은 빈 값). 지정하면 page 는 무시되고 전체 건수를 계산하지 않습니다.")
+        @RequestParam(required = false) String cursor,
         @AuthenticationPrincipal UserDetailsImpl currentUser
     ) {
         Pageable pageable = createPageable(sort, page, size);
         Long userId = (currentUser != null) ? currentUser.getId() : null;
-        PageListResponseDTO<CampaignResponseDTO> result = campaignService.getCampaignsBySnsPlatform(platform, sort, pageable, userId);
+        PageListResponseDTO<CampaignResponseDTO> result = campaignService.getCampaignsBySnsPlatform(platform, sort, pageable, cursor, userId);
         return ResponseEntity.ok(ApiResponse.success("SNS 플랫폼별 캠페인 목록 조회가 완료되었습니다.", result));
     }
 
@@ -0,0 +1,169 @@
+package com.example.cherrydan.campaign.index;
+
+import com.example.cherrydan.campaign.domain.Campaign;
+import com.example.cherrydan.campaign.repository.CampaignRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 활성 캠페인 인메모리 인덱스
+ *
+ * 캠페인 목록 API 의 필터/정렬/페이징을 DB 조회(페이지 조회 + COUNT) 없이 처리합니다.
+ * - 기동 시 활성 캠페인 전체를 적재
+ * - 이후 created_at/updated_at 워터마크 기준으로 변경분만 반영
+ * - 적재 전이거나 지원하지 않는 정렬이면 빈 값을 반환하여 DB 조회로 폴백
+ * - 적재/변경 결과는 {@link ActiveCampaignListener} 에 전달
+ */
+@Slf4j
+@Component
+public class ActiveCampaignIndex {
+
+    private final CampaignRepository campaignRepository;
+    private final List<ActiveCampaignListener> listeners;
+
+    private final Map<Long, Campaign> activeCampaigns = new HashMap<>();
+    private volatile ActiveCampaignSnapshot snapshot = ActiveCampaignSnapshot.empty();
+    private volatile boolean ready = false;
+    private LocalDateTime watermark;
+
+    public ActiveCampaignIndex(CampaignRepository campaignRepository, MeterRegistry meterRegistry, List<ActiveCampaignListener> listeners) {
+        this.campaignRepository = campaignRepository;
+        this.listeners = listeners;
+        Gauge.builder("campaign.index.size", this, index -> index.snapshot.size())
+            .description("Active campaigns held in the in-memory index")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("활성 캠페인 인덱스 초기 적재 실패 - DB 조회로 폴백합니다.", e);
+        }
+    }
+
+    /**
+     * 활성 캠페인 전체를 다시 적재합니다.
+     */
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        List<Campaign> campaigns = campaignRepository.findAllActive();
+
+        activeCampaigns.clear();
+        watermark = null;
+        for (Campaign campaign : campaigns) {
+            activeCampaigns.put(campaign.getId(), campaign);
+            advanceWatermark(campaign);
+        }
+        publish();
+        notifyListeners(listener -> listener.onReload(activeCampaigns.values()));
+
+        log.info("활성 캠페인 인덱스 전체 적재 완료 - {}건, {}ms", activeCampaigns.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 워터마크 이후 생성/수정된 캠페인만 반영합니다.
+     * 워터마크와 같은 시각의 행도 다시 읽어 같은 초에 기록된 변경을 놓치지 않습니다.
+     */
+    public synchronized void refresh() {
+        if (!ready || watermark == null) {
+            rebuild();
+            return;
+        }
+
+        List<Campaign> changed = campaignRepository.findChangedSince(watermark);
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        List<Campaign> upserted = new ArrayList<>();
+        List<Long> removedIds = new ArrayList<>();
+        for (Campaign campaign : changed) {
+            if (Boolean.TRUE.equals(campaign.getIsActive())) {
+                activeCampaigns.put(campaign.getId(), campaign);
+                upserted.add(campaign);
+            } else if (activeCampaigns.remove(campaign.getId()) != null) {
+                removedIds.add(campaign.getId());
+            }
+            advanceWatermark(campaign);
+        }
+        publish();
+        notifyListeners(listener -> listener.onChange(upserted, removedIds));
+
+        log.debug("활성 캠페인 인덱스 변경분 반영 - 변경: {}건, 전체: {}건", changed.size(), activeCampaigns.size());
+    }
+
+    /**
+     * 인덱스에서 캠페인 페이지를 조회합니다.
+     *
+     * @return 인덱스로 처리할 수 없으면 Optional.empty()
+     */
+    public Optional<Page<Campaign>> search(ActiveCampaignQuery query, Pageable pageable) {
+        if (!ready || pageable.isUnpaged()) {
+            return Optional.empty();
+        }
+        return CampaignSortKey.from(pageable.getSort())
+            .map(sortKey -> snapshot.search(query, sortKey, pageable));
+    }
+
+    /**
+     * 인덱스에서 커서 이후의 캠페인을 조회합니다.
+     *
+     * @param cursor 첫 페이지이면 null
+     * @return 인덱스가 적재되지 않았으면 Optional.empty()
+     */
+    public Optional<Slice<Campaign>> searchAfter(ActiveCampaignQuery query, CampaignSortKey sortKey, CampaignCursor cursor, int size) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot.searchAfter(query, sortKey, cursor, size));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void publish() {
+        snapshot = ActiveCampaignSnapshot.build(activeCampaigns.values());
+        ready = true;
+    }
+
+    private void notifyListeners(Consumer<ActiveCampaignListener> action) {
+        for (ActiveCampaignListener listener : listeners) {
+            try {
+                action.accept(listener);
+            } catch (Exception e) {
+                log.error("활성 캠페인 인덱스 리스너 처리 실패 - {}", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private void advanceWatermark(Campaign campaign) {
+        LocalDateTime changedAt = latestOf(campaign.getCreatedAt(), campaign.getUpdatedAt());
+        if (changedAt != null && (watermark == null || changedAt.isAfter(watermark))) {
+            watermark = changedAt;
+        }
+    }
+
+    private static LocalDateTime latestOf(LocalDateTime createdAt, LocalDateTime updatedAt) {
+        if (createdAt == null) return updatedAt;
+        if (updatedAt == null) return createdAt;
+        return updatedAt.isAfter(createdAt) ? updatedAt : createdAt;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.cherrydan.campaign.index;
+
+import com.example.cherrydan.campaign.domain.Campaign;
+
+import java.util.Collection;
+
+/**
+ * 활성 캠페인 인덱스 변경 리스너
+ * 인덱스와 같은 캠페인 집합을 기반으로 하는 부가 인덱스(검색 등)가 DB 를 따로 조회하지 않고 변경분을 받아 갱신합니다.
+ * 인덱스 갱신 락 안에서 순차적으로 호출됩니다.
+ */
+public interface ActiveCampaignListener {
+
+    /**
+     * 활성 캠페인 전체가 다시 적재되었을 때 호출됩니다.
+     */
+    void onReload(Collection<Campaign> campaigns);
+
+    /**
+     * 변경분이 반영되었을 때 호출됩니다.
+     *
+     * @param upserted 새로 추가되었거나 수정된 활성 캠페인
+     * @param removedIds 비활성화되어 인덱스에서 빠진 캠페인 ID
+     */
+    void onChange(Collection<Campaign> upserted, Collection<Long> removedIds);
+}
@@ -0,0 +1,66 @@
+package com.example.cherrydan.campaign.index;
+
+import com.example.cherrydan.campaign.domain.CampaignType;
+import com.example.cherrydan.campaign.domain.SnsPlatformType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 활성 캠페인 인덱스 조회 조건
+ * 각 조건은 값 목록 내에서 OR, 조건끼리는 AND 로 결합됩니다.
+ * null 이거나 비어있는 조건은 필터링하지 않습니다.
+ */
+@Getter
+@Builder
+public class ActiveCampaignQuery {
+    private final Set<CampaignType> campaignTypes;
+    private final Set<SnsPlatformType> snsPlatforms;
+    private final Set<String> sourceSites;
+    private final Set<Integer> regionGroups;
+    private final Set<Integer> regionDetails;
+    private final Set<Integer> localCategories;
+    private final Set<Integer> productCategories;
+
+    /**
+     * 카테고리 검색의 타입별 조건 (서로 OR 로 결합)
+     * ex) (지역 AND 맛집) OR (제품 AND 식품) OR 기자단
+     */
+    private final List<TypeFilter> typeFilters;
+
+    // 마감일(applyEnd) 범위, 양 끝 포함
+    private final LocalDate applyEndFrom;
+    private final LocalDate applyEndTo;
+
+    /**
+     * 허용할 캠페인 ID (제목 검색 결과 등)
+     * 다른 조건과 달리 null 일 때만 필터링하지 않으며, 비어있으면 아무것도 일치하지 않습니다.
+     */
+    private final Set<Long> campaignIds;
+
+    static boolean isConstrained(Set<?> values) {
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * 캠페인 타입과 해당 타입의 카테고리 코드 조건
+     * REGION 은 localCategory, PRODUCT 는 productCategory 와 비교하며 categoryCodes 가 비어있으면 타입만 확인합니다.
+     */
+    @Getter
+    public static class TypeFilter {
+        private final CampaignType campaignType;
+        private final Set<Integer> categoryCodes;
+
+        public TypeFilter(CampaignType campaignType, Set<Integer> categoryCodes) {
+            this.campaignType = campaignType;
+            this.categoryCodes = categoryCodes;
+        }
+
+        public static TypeFilter of(CampaignType campaignType) {
+            return new TypeFilter(campaignType, Set.of());
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.cherrydan.campaign.index;
+
+import com.example.cherrydan.campaign.domain.Campaign;
+import com.example.cherrydan.campaign.domain.CampaignType;
+import com.example.cherrydan.campaign.domain.SnsPlatformType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * 활성 캠페인 불변 스냅샷
+ * 정렬에 쓰이는 컬럼은 원시 타입 배열로, 필터 값은 값별 행 비트맵(posting)으로 보관하고
+ * 정렬 기준별 행 순서를 미리 계산해 둡니다.
+ * 갱신 시에는 새 스냅샷을 만들어 교체하므로 조회 측은 락 없이 읽습니다.
+ */
+final class ActiveCampaignSnapshot {
+
+    static final int NULL_DATE = Integer.MIN_VALUE;
+    static final float NULL_RATE = Float.NEGATIVE_INFINITY;
+
+    private final Campaign[] rows;
+    private final long[] ids;
+    private final float[] competitionRates;
+    private final int[] applyStarts;
+    private final int[] applyEnds;
+    private final Map<Long, Integer> rowById;
+
+    private final Map<CampaignType, RowBitmap> campaignTypePostings = new EnumMap<>(CampaignType.class);
+    private final Map<SnsPlatformType, RowBitmap> snsPostings = new EnumMap<>(SnsPlatformType.class);
+    private final Map<String, RowBitmap> sourceSitePostings = new HashMap<>();
+    private final Map<Integer, RowBitmap> regionGroupPostings = new HashMap<>();
+    private final Map<Integer, RowBitmap> regionDetailPostings = new HashMap<>();
+    private final Map<Integer, RowBitmap> localCategoryPostings = new HashMap<>();
+    private final Map<Integer, RowBitmap> productCategoryPostings = new HashMap<>();
+    private final Map<CampaignSortKey, int[]> orderings = new EnumMap<>(CampaignSortKey.class);
+
+    private ActiveCampaignSnapshot(Collection<Campaign> campaigns) {
+        int size = campaigns.size();
+        this.rows = campaigns.toArray(new Campaign[0]);
+        this.ids = new long[size];
+        this.competitionRates = new float[size];
+        this.applyStarts = new int[size];
+        this.applyEnds = new int[size];
+        this.rowById = new HashMap<>(size * 2);
+
+        for (int i = 0; i < size; i++) {
+            Campaign campaign = rows[i];
+            ids[i] = campaign.getId();
+            rowById.put(campaign.getId(), i);
+            competitionRates[i] = campaign.getCompetitionRate() != null ? campaign.getCompetitionRate() : NULL_RATE;
+            applyStarts[i] = toEpochDay(campaign.getApplyStart());
+            applyEnds[i] = toEpochDay(campaign.getApplyEnd());
+
+            addPosting(campaignTypePostings, campaign.getCampaignType(), i);
+            addPosting(sourceSitePostings, campaign.getSourceSite(), i);
+            addPosting(regionGroupPostings, campaign.getRegionGroup(), i);
+            addPosting(regionDetailPostings, campaign.getRegionDetail(), i);
+            addPosting(localCategoryPostings, campaign.getLocalCategory(), i);
+            addPosting(productCategoryPostings, campaign.getProductCategory(), i);
+            for (SnsPlatformType snsPlatformType : snsPlatformsOf(campaign)) {
+                addPosting(snsPostings, snsPlatformType, i);
+            }
+        }
+
+        for (CampaignSortKey sortKey : CampaignSortKey.values()) {
+            orderings.put(sortKey, IntStream.range(0, size)
+                .boxed()
+                .sorted(comparator(sortKey))
+                .mapToInt(Integer::intValue)
+                .toArray());
+        }
+    }
+
+    static ActiveCampaignSnapshot build(Collection<Campaign> campaigns) {
+        return new ActiveCampaignSnapshot(campaigns);
+    }
+
+    static ActiveCampaignSnapshot empty() {
+        return new ActiveCampaignSnapshot(List.of());
+    }
+
+    int size() {
+        return rows.length;
+    }
+
+    /**
+     * 조건 비트맵을 계산해 전체 건수는 cardinality 로 구하고,
+     * 정렬 순서대로 훑으며 요청한 페이지만 수집합니다.
+     */
+    Page<Campaign> search(ActiveCampaignQuery query, CampaignSortKey sortKey, Pageable pageable) {
+        RowBitmap matched = evaluate(query);
+        long total = matched.cardinality();
+        long offset = pageable.getOffset();
+        int pageSize = pageable.getPageSize();
+
+        List<Campaign> content = new ArrayList<>(pageSize);
+        if (offset < total) {
+            long position = 0;
+            for (int row : orderings.get(sortKey)) {
+                if (!matched.get(row)) {
+                    continue;
+                }
+                if (position++ < offset) {
+                    continue;
+                }
+                content.add(rows[row]);
+                if (content.size() == pageSize) {
+                    break;
+                }
+            }
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 커서 이후의 캠페인을 size 건 조회합니다. (전체 건수는 계산하지 않음)
+     * 정렬 순서 배열에서 커서 위치를 이진 탐색으로 찾은 뒤 앞으로 훑습니다.
+     */
+    Slice<Campaign> searchAfter(ActiveCampaignQuery query, CampaignSortKey sortKey, CampaignCursor cursor, int size) {
+        RowBitmap matched = evaluate(query);
+        int[] ordering = orderings.get(sortKey);
+        int start = cursor != null ? firstPositionAfter(ordering, sortKey, cursor) : 0;
+
+        List<Campaign> content = new ArrayList<>(size);
+        boolean hasNext = false;
+        for (int i = start; i < ordering.length; i++) {
+            int row = ordering[i];
+            if (!matched.get(row)) {
+                continue;
+            }
+            if (content.size() == size) {
+                hasNext = true;
+                break;
+            }
+            content.add(rows[row]);
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    private int firstPositionAfter(int[] ordering, CampaignSortKey sortKey, CampaignCursor cursor) {
+        int low = 0;
+        int high = ordering.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareToCursor(sortKey, ordering[mid], cursor) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compareToCursor(CampaignSortKey sortKey, int row, CampaignCursor cursor) {
+        int byValue = switch (sortKey) {
+            case POPULAR, LOW_COMPETITION -> Float.compare(competitionRates[row],
+                cursor.getCompetitionRate() != null ? cursor.getCompetitionRate() : NULL_RATE);
+            case LATEST -> Integer.compare(applyStarts[row], toEpochDay(cursor.getDate()));
+            case DEADLINE -> Integer.compare(applyEnds[row], toEpochDay(cursor.getDate()));
+        };
+        int result = byValue != 0 ? byValue : Long.compare(ids[row], cursor.getId());
+        return sortKey.isAscending() ? result : -result;
+    }
+
+    RowBitmap evaluate(ActiveCampaignQuery query) {
+        RowBitmap matched = RowBitmap.full(rows.length);
+
+        if (ActiveCampaignQuery.isConstrained(query.getCampaignTypes())) {
+            matched.and(union(campaignTypePostings, query.getCampaignTypes()));
+        }
+        if (ActiveCampaignQuery.isConstrained(query.getSnsPlatforms())) {
+            matched.and(union(snsPostings, query.getSnsPlatforms()));
+        }
+        if (ActiveCampaignQuery.isConstrained(query.getSourceSites())) {
+            matched.and(union(sourceSitePostings, query.getSourceSites()));
+        }
+        if (ActiveCampaignQuery.isConstrained(query.getRegionGroups())) {
+            matched.and(union(regionGroupPostings, query.getRegionGroups()));
+        }
+        if (ActiveCampaignQuery.isConstrained(query.getRegionDetails())) {
+            matched.and(union(regionDetailPostings, query.getRegionDetails()));
+        }
+        if (ActiveCampaignQuery.isConstrained(query.getLocalCategories())) {
+            matched.and(union(localCategoryPostings, query.getLocalCategories()));
+        }
+        if (ActiveCampaignQuery.isConstrained(query.getProductCategories())) {
+            matched.and(union(productCategoryPostings, query.getProductCategories()));
+        }
+        if (query.getTypeFilters() != null && !query.getTypeFilters().isEmpty()) {
+            matched.and(typeFilterUnion(query.getTypeFilters()));
+        }
+        if (query.getApplyEndFrom() != null || query.getApplyEndTo() != null) {
+            matched.and(applyEndRange(query.getApplyEndFrom(), query.getApplyEndTo()));
+        }
+        if (query.getCampaignIds() != null) {
+            matched.and(rowsOf(query.getCampaignIds()));
+        }
+        return matched;
+    }
+
+    private RowBitmap typeFilterUnion(List<ActiveCampaignQuery.TypeFilter> typeFilters) {
+        RowBitmap result = RowBitmap.empty(rows.length);
+        for (ActiveCampaignQuery.TypeFilter typeFilter : typeFilters) {
+            RowBitmap typePosting = campaignTypePostings.get(typeFilter.getCampaignType());
+            if (typePosting == null) {
+                continue;
+            }
+            RowBitmap clause = typePosting.copy();
+            Map<Integer, RowBitmap> categoryPostings = categoryPostingsOf(typeFilter.getCampaignType());
+            if (categoryPostings != null && ActiveCampaignQuery.isConstrained(typeFilter.getCategoryCodes())) {
+                clause.and(union(categoryPostings, typeFilter.getCategoryCodes()));
+            }
+            result.or(clause);
+        }
+        return result;
+    }
+
+    private Map<Integer, RowBitmap> categoryPostingsOf(CampaignType campaignType) {
+        return switch (campaignType) {
+            case REGION -> localCategoryPostings;
+            case PRODUCT -> productCategoryPostings;
+            default -> null;
+        };
+    }
+
+    private RowBitmap applyEndRange(LocalDate from, LocalDate to) {
+        int lower = from != null ? (int) from.toEpochDay() : NULL_DATE + 1;
+        int upper = to != null ? (int) to.toEpochDay() : Integer.MAX_VALUE;
+        RowBitmap result = RowBitmap.empty(rows.length);
+        for (int i = 0; i < applyEnds.length; i++) {
+            if (applyEnds[i] != NULL_DATE && applyEnds[i] >= lower && applyEnds[i] <= upper) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    private RowBitmap rowsOf(Set<Long> campaignIds) {
+        RowBitmap result = RowBitmap.empty(rows.length);
+        for (Long campaignId : campaignIds) {
+            Integer row = rowById.get(campaignId);
+            if (row != null) {
+                result.set(row);
+            }
+        }
+        return result;
+    }
+
+    private <K> RowBitmap union(Map<K, RowBitmap> postings, Set<K> keys) {
+        RowBitmap result = RowBitmap.empty(rows.length);
+        for (K key : keys) {
+            RowBitmap posting = postings.get(key);
+            if (posting != null) {
+                result.or(posting);
+            }
+        }
+        return result;
+    }
+
+    private <K> void addPosting(Map<K, RowBitmap> postings, K key, int row) {
+        if (key == null) {
+            return;
+        }
+        postings.computeIfAbsent(key, k -> RowBitmap.empty(rows.length)).set(row);
+    }
+
+    private Comparator<Integer> comparator(CampaignSortKey sortKey) {
+        Comparator<Integer> byValue = switch (sortKey) {
+            case POPULAR, LOW_COMPETITION -> (a, b) -> Float.compare(competitionRates[a], competitionRates[b]);
+            case LATEST -> (a, b) -> Integer.compare(applyStarts[a], applyStarts[b]);
+            case DEADLINE -> (a, b) -> Integer.compare(applyEnds[a], applyEnds[b]);
+        };
+        // NULL 은 가장 작은 값으로 취급 (MySQL 정렬과 동일: ASC 는 앞, DESC 는 뒤)
+        Comparator<Integer> ordered = byValue.thenComparing((a, b) -> Long.compare(ids[a], ids[b]));
+        return sortKey.isAscending() ? ordered : ordered.reversed();
+    }
+
+    private static int toEpochDay(LocalDate date) {
+        return date != null ? (int) date.toEpochDay() : NULL_DATE;
+    }
+
+    private static List<SnsPlatformType> snsPlatformsOf(Campaign campaign) {
+        List<SnsPlatformType> platforms = new ArrayList<>();
+        if (Boolean.TRUE.equals(campaign.getBlog())) platforms.add(SnsPlatformType.BLOG);
+        if (Boolean.TRUE.equals(campaign.getClip())) platforms.add(SnsPlatformType.CLIP);
+        if (Boolean.TRUE.equals(campaign.getInsta())) platforms.add(SnsPlatformType.INSTAGRAM);
+        if (Boolean.TRUE.equals(campaign.getReels())) platforms.add(SnsPlatformType.REELS);
+        if (Boolean.TRUE.equals(campaign.getYoutube())) platforms.add(SnsPlatformType.YOUTUBE);
+        if (Boolean.TRUE.equals(campaign.getShorts())) platforms.add(SnsPlatformType.SHORTS);
+        if (Boolean.TRUE.equals(campaign.getTiktok())) platforms.add(SnsPlatformType.TIKTOK);
+        if (Boolean.TRUE.equals(campaign.getThread())) platforms.add(SnsPlatformType.THREAD);
+        if (Boolean.TRUE.equals(campaign.getEtc())) platforms.add(SnsPlatformType.ETC);
+        return platforms;
+    }
+}
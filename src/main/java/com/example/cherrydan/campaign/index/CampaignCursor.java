@@ -0,0 +1,79 @@
+package com.example.cherrydan.campaign.index;
+
+import com.example.cherrydan.campaign.domain.Campaign;
+import com.example.cherrydan.common.exception.CampaignException;
+import com.example.cherrydan.common.exception.ErrorMessage;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 캠페인 목록 커서 (keyset 페이지네이션)
+ * 마지막으로 내려준 캠페인의 (정렬값, id) 를 담아 다음 페이지를 그 이후부터 조회합니다.
+ * 클라이언트에는 "정렬기준|정렬값|id" 를 Base64 로 인코딩한 불투명 토큰으로 전달합니다.
+ */
+@Getter
+public class CampaignCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final CampaignSortKey sortKey;
+    private final Float competitionRate;
+    private final LocalDate date;
+    private final long id;
+
+    private CampaignCursor(CampaignSortKey sortKey, Float competitionRate, LocalDate date, long id) {
+        this.sortKey = sortKey;
+        this.competitionRate = competitionRate;
+        this.date = date;
+        this.id = id;
+    }
+
+    /**
+     * 주어진 캠페인 바로 다음부터 조회하는 커서
+     */
+    public static CampaignCursor after(CampaignSortKey sortKey, Campaign campaign) {
+        return switch (sortKey) {
+            case POPULAR, LOW_COMPETITION -> new CampaignCursor(sortKey, campaign.getCompetitionRate(), null, campaign.getId());
+            case LATEST -> new CampaignCursor(sortKey, null, campaign.getApplyStart(), campaign.getId());
+            case DEADLINE -> new CampaignCursor(sortKey, null, campaign.getApplyEnd(), campaign.getId());
+        };
+    }
+
+    /**
+     * 토큰을 해석합니다. 요청한 정렬 기준과 다른 커서이거나 형식이 잘못되면 예외를 던집니다.
+     */
+    public static CampaignCursor decode(String token, CampaignSortKey expectedSortKey) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new CampaignException(ErrorMessage.CAMPAIGN_CURSOR_INVALID);
+            }
+
+            CampaignSortKey sortKey = CampaignSortKey.valueOf(parts[0]);
+            if (sortKey != expectedSortKey) {
+                throw new CampaignException(ErrorMessage.CAMPAIGN_CURSOR_INVALID);
+            }
+
+            String value = parts[1];
+            long id = Long.parseLong(parts[2]);
+            return switch (sortKey) {
+                case POPULAR, LOW_COMPETITION -> new CampaignCursor(sortKey, value.isEmpty() ? null : Float.valueOf(value), null, id);
+                case LATEST, DEADLINE -> new CampaignCursor(sortKey, null, value.isEmpty() ? null : LocalDate.parse(value), id);
+            };
+        } catch (CampaignException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new CampaignException(ErrorMessage.CAMPAIGN_CURSOR_INVALID);
+        }
+    }
+
+    public String encode() {
+        Object value = sortKey == CampaignSortKey.LATEST || sortKey == CampaignSortKey.DEADLINE ? date : competitionRate;
+        String raw = sortKey.name() + DELIMITER + (value != null ? value.toString() : "") + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.cherrydan.campaign.index;
+
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.util.Optional;
+
+/**
+ * 캠페인 목록 정렬 기준
+ * CampaignController.createPageable 에서 만들어지는 Sort 와 1:1 로 대응합니다.
+ * 동일 정렬값은 id 를 같은 방향으로 정렬해 페이지 간 순서를 고정합니다.
+ */
+@Getter
+public enum CampaignSortKey {
+    POPULAR("competitionRate", Sort.Direction.DESC),
+    LATEST("applyStart", Sort.Direction.DESC),
+    DEADLINE("applyEnd", Sort.Direction.ASC),
+    LOW_COMPETITION("competitionRate", Sort.Direction.ASC);
+
+    private final String property;
+    private final Sort.Direction direction;
+
+    CampaignSortKey(String property, Sort.Direction direction) {
+        this.property = property;
+        this.direction = direction;
+    }
+
+    public boolean isAscending() {
+        return direction.isAscending();
+    }
+
+    /**
+     * Pageable 의 Sort 로부터 정렬 기준을 찾습니다.
+     * 지원하지 않는 정렬이면 빈 값을 반환하고 호출 측은 DB 조회로 폴백합니다.
+     */
+    public static Optional<CampaignSortKey> from(Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return Optional.empty();
+        }
+        Sort.Order order = sort.iterator().next();
+        for (CampaignSortKey key : values()) {
+            if (key.property.equals(order.getProperty()) && key.direction == order.getDirection()) {
+                return Optional.of(key);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.cherrydan.campaign.index;
+
+import java.util.Arrays;
+
+/**
+ * 스냅샷 행 번호 비트맵
+ *
+ * 스냅샷의 행 번호는 0..n-1 로 조밀하기 때문에 64비트 워드 배열 하나로 표현합니다.
+ * (roaring 비트맵도 조밀한 구간은 같은 비트맵 컨테이너를 사용)
+ * 다중 선택 필터는 값별 posting 의 OR, 필터끼리는 AND 로 계산하고 건수는 cardinality 로 구합니다.
+ */
+final class RowBitmap {
+
+    private final long[] words;
+    private final int size;
+
+    private RowBitmap(long[] words, int size) {
+        this.words = words;
+        this.size = size;
+    }
+
+    static RowBitmap empty(int size) {
+        return new RowBitmap(new long[wordCount(size)], size);
+    }
+
+    static RowBitmap full(int size) {
+        RowBitmap bitmap = empty(size);
+        Arrays.fill(bitmap.words, -1L);
+        int tail = size & 63;
+        if (tail != 0) {
+            bitmap.words[bitmap.words.length - 1] = (1L << tail) - 1;
+        }
+        return bitmap;
+    }
+
+    void set(int row) {
+        words[row >>> 6] |= 1L << row;
+    }
+
+    boolean get(int row) {
+        return (words[row >>> 6] & (1L << row)) != 0;
+    }
+
+    RowBitmap copy() {
+        return new RowBitmap(words.clone(), size);
+    }
+
+    RowBitmap and(RowBitmap other) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= other.words[i];
+        }
+        return this;
+    }
+
+    RowBitmap or(RowBitmap other) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+        return this;
+    }
+
+    int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static int wordCount(int size) {
+        return (size + 63) >>> 6;
+    }
+}
@@ -45,6 +45,14 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
            "AND b.isActive = true")
     Set<Long> findBookmarkedCampaignIds(@Param("userId") Long userId, @Param("campaignIds") List<Long> campaignIds);
 
+    /**
+     * 특정 사용자의 활성 북마크 캠페인 ID 목록 조회 (북마크 ID 캐시 적재용, 엔티티 미로딩)
+     */
+    @Query("SELECT b.campaign.id FROM Bookmark b " +
+           "WHERE b.user.id = :userId " +
+           "AND b.isActive = true")
+    List<Long> findActiveBookmarkedCampaignIds(@Param("userId") Long userId, Pageable pageable);
+
     /**
      * 특정 사용자의 여러 캠페인 북마크를 벌크 삭제
      */
@@ -53,19 +61,21 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     void deleteByUserAndCampaignIds(@Param("user") User user, @Param("campaignIds") List<Long> campaignIds);
 
     /**
-     * 마감 D-1, D-day 북마크 조회 (페이징, 알림 허용 사용자만)
+     * 마감 D-1, D-day 북마크 조회 (알림 수신 가능 여부는 FcmTokenRegistry 로 확인)
+     * id 기준 keyset 페이징: lastId 이후부터 pageable 크기만큼 (OFFSET, COUNT 없음)
      */
-    @Query("SELECT DISTINCT b FROM Bookmark b " +
+    @Query("SELECT b FROM Bookmark b " +
            "JOIN FETCH b.campaign c " +
            "JOIN FETCH b.user u " +
-           "JOIN UserFCMToken ud ON ud.userId = u.id " +
            "WHERE c.applyEnd = :applyEndDate " +
+           "AND b.id > :lastId " +
            "AND b.isActive = true " +
            "AND c.isActive = true " +
            "AND u.isActive = true " +
-           "AND ud.isAllowed = true " +
-           "AND ud.isActive = true")
-    Page<Bookmark> findActiveBookmarksByApplyEndDate(@Param("applyEndDate") LocalDate applyEndDate, Pageable pageable);
+           "ORDER BY b.id")
+    List<Bookmark> findActiveBookmarksByApplyEndDateAfterId(@Param("applyEndDate") LocalDate applyEndDate,
+                                                            @Param("lastId") Long lastId,
+                                                            Pageable pageable);
 
     @Modifying
     @Query("DELETE FROM Bookmark b WHERE b.user.id = :userId")
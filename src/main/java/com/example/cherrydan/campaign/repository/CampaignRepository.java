@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -38,8 +39,28 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long>, JpaSp
     @Query("SELECT c FROM Campaign c WHERE c.isActive = true")
     Page<Campaign> findActiveCampaigns(Pageable pageable);
 
-    @Query(value = "SELECT * FROM campaigns WHERE MATCH(title) AGAINST(:keyword IN BOOLEAN MODE) and is_active = 1 GROUP BY title ORDER BY competition_rate LIMIT 20", nativeQuery = true)
-    List<Campaign> searchByTitleFullText(@Param("keyword") String keyword);
+    // 활성 캠페인 인덱스 적재용
+    @Query("SELECT c FROM Campaign c WHERE c.isActive = true")
+    List<Campaign> findAllActive();
+
+    // 활성 캠페인 인덱스 변경분 반영용 (비활성화된 캠페인 포함)
+    // OR 조건은 단일 인덱스 범위 탐색이 안 되므로 created_at, updated_at 인덱스 구간을 각각 읽어 ID 로 합침
+    @Query(value = """
+        SELECT c.*
+        FROM campaigns c
+        JOIN (
+          SELECT id FROM campaigns FORCE INDEX(campaigns_created_at_is_active_IDX) WHERE created_at >= :since
+          UNION
+          SELECT id FROM campaigns FORCE INDEX(campaigns_updated_at_IDX) WHERE updated_at >= :since
+        ) changed ON changed.id = c.id
+        """, nativeQuery = true)
+    List<Campaign> findChangedSince(@Param("since") LocalDateTime since);
+
+    @Query(value = "SELECT * FROM campaigns WHERE MATCH(title) AGAINST(:keyword IN BOOLEAN MODE) and is_active = 1 GROUP BY title ORDER BY competition_rate LIMIT :offset, :limit", nativeQuery = true)
+    List<Campaign> searchByTitleFullText(@Param("keyword") String keyword, @Param("offset") int offset, @Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(DISTINCT title) FROM campaigns WHERE MATCH(title) AGAINST(:keyword IN BOOLEAN MODE) and is_active = 1", nativeQuery = true)
+    long countByTitleFullText(@Param("keyword") String keyword);
 
     /**
      * 키워드 맞춤형 캠페인 FULLTEXT 검색 (지정 날짜 기준 전일)
@@ -125,11 +146,13 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long>, JpaSp
         FROM campaigns_daily_search cds
         INNER JOIN campaigns c ON c.id = cds.id
         WHERE MATCH(cds.title) AGAINST(:keyword IN BOOLEAN MODE)
+          AND cds.search_date = :searchDate
         ORDER BY cds.created_at
         LIMIT :offset, :limit
         """, nativeQuery = true)
     List<Campaign> searchDailyCampaignsByFulltext(
         @Param("keyword") String keyword,
+        @Param("searchDate") LocalDate searchDate,
         @Param("offset") int offset,
         @Param("limit") int limit
     );
@@ -138,6 +161,7 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long>, JpaSp
         SELECT COUNT(*)
         FROM campaigns_daily_search cds
         WHERE MATCH(cds.title) AGAINST(:keyword IN BOOLEAN MODE)
+          AND cds.search_date = :searchDate
         """, nativeQuery = true)
-    long countDailyCampaignsByFulltext(@Param("keyword") String keyword);
+    long countDailyCampaignsByFulltext(@Param("keyword") String keyword, @Param("searchDate") LocalDate searchDate);
 } 
\ No newline at end of file
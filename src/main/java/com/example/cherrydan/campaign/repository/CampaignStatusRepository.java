@@ -80,28 +80,25 @@ public interface CampaignStatusRepository extends JpaRepository<CampaignStatus,
     List<CampaignStatus> findTop4ByUserAndStatusAndExpired(@Param("user") User user, @Param("status") CampaignStatusType status, @Param("today") LocalDate today);
     
     /**
-     * 결과 발표일 APPLY 상태 조회 (페이징, 알림 허용 사용자만)
+     * 결과 발표일 APPLY 상태 조회 (id 기준 keyset 페이징, 알림 수신 가능 여부는 FcmTokenRegistry 로 확인)
      */
     @Query("SELECT cs FROM CampaignStatus cs " +
            "JOIN FETCH cs.campaign c " +
            "JOIN FETCH cs.user u " +
            "WHERE cs.status = :status " +
            "AND c.reviewerAnnouncement = :date " +
+           "AND cs.id > :lastId " +
            "AND cs.isActive = true " +
            "AND u.isActive = true " +
-           "AND EXISTS (" +
-           "  SELECT 1 FROM UserFCMToken ud " +
-           "  WHERE ud.userId = u.id " +
-           "  AND ud.isAllowed = true " +
-           "  AND ud.isActive = true" +
-           ")")
-    Page<CampaignStatus> findByStatusAndReviewerAnnouncementDate(
+           "ORDER BY cs.id")
+    List<CampaignStatus> findByStatusAndReviewerAnnouncementDateAfterId(
         @Param("status") CampaignStatusType status,
         @Param("date") LocalDate date,
+        @Param("lastId") Long lastId,
         Pageable pageable);
     
     /**
-     * SELECTED + REGION 타입 방문 마감 조회 (페이징, 알림 허용 사용자만)
+     * SELECTED + REGION 타입 방문 마감 조회 (id 기준 keyset 페이징, 알림 수신 가능 여부는 FcmTokenRegistry 로 확인)
      */
     @Query("SELECT cs FROM CampaignStatus cs " +
            "JOIN FETCH cs.campaign c " +
@@ -109,51 +106,45 @@ public interface CampaignStatusRepository extends JpaRepository<CampaignStatus,
            "WHERE cs.status = :selectedStatus " +
            "AND c.campaignType = :regionType " +
            "AND c.contentSubmissionEnd = :visitEndDate " +
+           "AND cs.id > :lastId " +
            "AND cs.isActive = true " +
            "AND u.isActive = true " +
-           "AND EXISTS (" +
-           "  SELECT 1 FROM UserFCMToken ud " +
-           "  WHERE ud.userId = u.id " +
-           "  AND ud.isAllowed = true " +
-           "  AND ud.isActive = true" +
-           ")")
-    Page<CampaignStatus> findSelectedRegionCampaignsByVisitEndDate(
+           "ORDER BY cs.id")
+    List<CampaignStatus> findSelectedRegionCampaignsByVisitEndDateAfterId(
         @Param("visitEndDate") LocalDate visitEndDate,
+        @Param("lastId") Long lastId,
         Pageable pageable,
         @Param("selectedStatus") CampaignStatusType selectedStatus,
         @Param("regionType") CampaignType regionType);
 
-    default Page<CampaignStatus> findSelectedRegionCampaignsByVisitEndDate(
-        LocalDate visitEndDate, Pageable pageable) {
-        return findSelectedRegionCampaignsByVisitEndDate(visitEndDate, pageable, 
+    default List<CampaignStatus> findSelectedRegionCampaignsByVisitEndDateAfterId(
+        LocalDate visitEndDate, Long lastId, Pageable pageable) {
+        return findSelectedRegionCampaignsByVisitEndDateAfterId(visitEndDate, lastId, pageable,
             CampaignStatusType.SELECTED, CampaignType.REGION);
     }
     
     /**
-     * REVIEWING 상태 리뷰 마감 조회 (페이징, 알림 허용 사용자만)
+     * REVIEWING 상태 리뷰 마감 조회 (id 기준 keyset 페이징, 알림 수신 가능 여부는 FcmTokenRegistry 로 확인)
      */
     @Query("SELECT cs FROM CampaignStatus cs " +
            "JOIN FETCH cs.campaign c " +
            "JOIN FETCH cs.user u " +
            "WHERE cs.status = :reviewingStatus " +
            "AND c.contentSubmissionEnd = :reviewEndDate " +
+           "AND cs.id > :lastId " +
            "AND cs.isActive = true " +
            "AND u.isActive = true " +
-           "AND EXISTS (" +
-           "  SELECT 1 FROM UserFCMToken ud " +
-           "  WHERE ud.userId = u.id " +
-           "  AND ud.isAllowed = true " +
-           "  AND ud.isActive = true" +
-           ")")
-    Page<CampaignStatus> findReviewingCampaignsByReviewEndDate(
+           "ORDER BY cs.id")
+    List<CampaignStatus> findReviewingCampaignsByReviewEndDateAfterId(
         @Param("reviewEndDate") LocalDate reviewEndDate,
+        @Param("lastId") Long lastId,
         Pageable pageable,
         @Param("reviewingStatus") CampaignStatusType reviewingStatus);
     
     // 오버로딩 메서드 (파라미터 간소화)
-    default Page<CampaignStatus> findReviewingCampaignsByReviewEndDate(
-        LocalDate reviewEndDate, Pageable pageable) {
-        return findReviewingCampaignsByReviewEndDate(reviewEndDate, pageable,
+    default List<CampaignStatus> findReviewingCampaignsByReviewEndDateAfterId(
+        LocalDate reviewEndDate, Long lastId, Pageable pageable) {
+        return findReviewingCampaignsByReviewEndDateAfterId(reviewEndDate, lastId, pageable,
             CampaignStatusType.REVIEWING);
     }
 
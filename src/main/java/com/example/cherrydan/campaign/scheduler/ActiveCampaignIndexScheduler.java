@@ -0,0 +1,37 @@
+package com.example.cherrydan.campaign.scheduler;
+
+import com.example.cherrydan.campaign.index.ActiveCampaignIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActiveCampaignIndexScheduler {
+
+    private final ActiveCampaignIndex activeCampaignIndex;
+
+    @Scheduled(fixedDelayString = "${campaign.index.refresh-interval-ms:60000}",
+               initialDelayString = "${campaign.index.refresh-interval-ms:60000}")
+    public void refreshIndex() {
+        try {
+            activeCampaignIndex.refresh();
+        } catch (Exception e) {
+            log.error("활성 캠페인 인덱스 변경분 반영 실패", e);
+        }
+    }
+
+    /**
+     * 워터마크로 잡히지 않는 변경(직접 삭제 등)을 정리하기 위한 주기적 전체 재적재
+     */
+    @Scheduled(cron = "${campaign.index.rebuild-cron:0 0 * * * ?}", zone = "Asia/Seoul")
+    public void rebuildIndex() {
+        try {
+            activeCampaignIndex.rebuild();
+        } catch (Exception e) {
+            log.error("활성 캠페인 인덱스 전체 재적재 실패", e);
+        }
+    }
+}
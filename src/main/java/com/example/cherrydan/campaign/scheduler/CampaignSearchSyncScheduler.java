@@ -1,26 +1,65 @@
 package com.example.cherrydan.campaign.scheduler;
 
+import com.example.cherrydan.campaign.service.CampaignSearchIncrementalSyncService;
 import com.example.cherrydan.campaign.service.CampaignSearchSyncService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
 
+/**
+ * campaigns_daily_search 동기화 스케줄러
+ * - swap(기본): 매일 06:30 전날 데이터로 테이블을 새로 만들어 교체
+ * - incremental: 주기적으로 신규 캠페인을 증분 반영하고 06:30 에는 날짜 구간만 이동
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class CampaignSearchSyncScheduler {
 
+    private static final String INCREMENTAL_MODE = "incremental";
+
     private final CampaignSearchSyncService syncService;
+    private final CampaignSearchIncrementalSyncService incrementalSyncService;
+    private final boolean incremental;
+
+    public CampaignSearchSyncScheduler(
+            CampaignSearchSyncService syncService,
+            CampaignSearchIncrementalSyncService incrementalSyncService,
+            @Value("${campaign.daily-search.sync-mode:swap}") String syncMode) {
+        this.syncService = syncService;
+        this.incrementalSyncService = incrementalSyncService;
+        this.incremental = INCREMENTAL_MODE.equalsIgnoreCase(syncMode);
+    }
 
     @Scheduled(cron = "0 30 6 * * ?", zone = "Asia/Seoul")
     public void syncDailySearchTable() {
         LocalDate yesterday = LocalDate.now(ZoneId.of("Asia/Seoul")).minusDays(1);
-        log.info("campaigns_daily_search 동기화 시작 - 날짜: {}", yesterday);
 
+        if (incremental) {
+            log.info("campaigns_daily_search 구간 이동 시작 - 기준 날짜: {}", yesterday);
+            incrementalSyncService.rollWindow();
+            return;
+        }
+
+        log.info("campaigns_daily_search 동기화 시작 - 날짜: {}", yesterday);
         syncService.performSyncWithRetry(yesterday);
     }
+
+    @Scheduled(
+        fixedDelayString = "${campaign.daily-search.sync-interval-ms:30000}",
+        initialDelayString = "${campaign.daily-search.sync-interval-ms:30000}"
+    )
+    public void syncNewCampaigns() {
+        if (!incremental) {
+            return;
+        }
+        try {
+            incrementalSyncService.syncNewCampaigns();
+        } catch (Exception e) {
+            log.error("campaigns_daily_search 증분 동기화 실패 - 다음 주기에 워터마크부터 재시도합니다.", e);
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package com.example.cherrydan.campaign.search;
+
+import com.example.cherrydan.campaign.domain.Campaign;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 캠페인 제목 검색 엔진
+ * 구현체: 인메모리 n-gram 역색인({@link NgramCampaignSearchEngine}), MySQL FULLTEXT({@link FullTextCampaignSearchEngine})
+ */
+public interface CampaignSearchEngine {
+
+    /**
+     * 지금 검색을 처리할 수 있는지 (색인 적재 완료 등)
+     */
+    boolean isAvailable();
+
+    /**
+     * 활성 캠페인 제목을 관련도 순으로 검색합니다.
+     * 같은 제목의 캠페인은 하나만 반환하며 Page 의 전체 건수는 중복 제거 후 일치 건수(추정치일 수 있음)입니다.
+     */
+    Page<Campaign> search(String keyword, Pageable pageable);
+
+    /**
+     * 제목에 검색어가 포함된 활성 캠페인 ID 전체를 반환합니다. (다른 필터와 결합하는 용도, 순서/중복 제거 없음)
+     *
+     * @return 지원하지 않거나 처리할 수 없으면 Optional.empty()
+     */
+    default Optional<Set<Long>> findMatchingIds(String keyword) {
+        return Optional.empty();
+    }
+}
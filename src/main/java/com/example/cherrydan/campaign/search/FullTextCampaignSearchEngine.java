@@ -0,0 +1,48 @@
+package com.example.cherrydan.campaign.search;
+
+import com.example.cherrydan.campaign.domain.Campaign;
+import com.example.cherrydan.campaign.repository.CampaignRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL FULLTEXT(BOOLEAN MODE) 기반 검색 엔진
+ * n-gram 색인이 적재되기 전 폴백으로 사용합니다. 각 검색 단어를 "+단어*" 로 변환하여 모두 포함(접두 일치)하는 제목을 찾습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FullTextCampaignSearchEngine implements CampaignSearchEngine {
+
+    private final CampaignRepository campaignRepository;
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public Page<Campaign> search(String keyword, Pageable pageable) {
+        List<String> terms = HangulNgramTokenizer.terms(keyword);
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        // BOOLEAN MODE 연산자 문자는 토크나이저에서 제거되므로 그대로 조합
+        String booleanQuery = terms.stream()
+            .map(term -> "+" + term + "*")
+            .collect(Collectors.joining(" "));
+        List<Campaign> content = campaignRepository.searchByTitleFullText(
+            booleanQuery,
+            (int) pageable.getOffset(),
+            pageable.getPageSize()
+        );
+        long total = campaignRepository.countByTitleFullText(booleanQuery);
+        return new PageImpl<>(content, pageable, total);
+    }
+}
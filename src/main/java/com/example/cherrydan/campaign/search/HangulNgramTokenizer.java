@@ -0,0 +1,84 @@
+package com.example.cherrydan.campaign.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 캠페인 제목 n-gram 토크나이저
+ *
+ * 한글은 띄어쓰기 없이 붙여 쓰는 복합어가 많아(ex. "강남맛집체험단") 공백 단위 토큰으로는 부분 검색이 되지 않으므로
+ * 문자/숫자 연속 구간을 2글자(bigram) 단위로 잘라 색인합니다. 한 글자 구간은 그대로 색인합니다.
+ * 색인/검색 모두 NFKC 정규화 후 소문자로 비교합니다.
+ */
+final class HangulNgramTokenizer {
+
+    private HangulNgramTokenizer() {
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 검색어를 정규화하여 문자/숫자 연속 구간(검색 단어) 목록으로 나눕니다.
+     * 특수문자는 구분자로 취급합니다.
+     */
+    static List<String> terms(String keyword) {
+        return split(normalize(keyword));
+    }
+
+    /**
+     * 정규화된 제목의 색인 단위(중복 제거)
+     */
+    static Set<String> indexGrams(String normalizedTitle) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String term : split(normalizedTitle)) {
+            if (term.length() == 1) {
+                grams.add(term);
+            } else {
+                addBigrams(term, grams);
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색 단어들의 bigram (중복 제거)
+     * 한 글자 단어는 bigram 이 없으므로 후보 추출에 쓰지 않고 제목 포함 여부로만 확인합니다.
+     */
+    static List<String> queryGrams(List<String> terms) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String term : terms) {
+            addBigrams(term, grams);
+        }
+        return new ArrayList<>(grams);
+    }
+
+    private static List<String> split(String normalized) {
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                terms.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static void addBigrams(String term, Set<String> grams) {
+        for (int i = 0; i + 2 <= term.length(); i++) {
+            grams.add(term.substring(i, i + 2));
+        }
+    }
+}
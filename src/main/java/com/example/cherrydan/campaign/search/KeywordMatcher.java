@@ -0,0 +1,144 @@
+package com.example.cherrydan.campaign.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * 다중 키워드 매처 (Aho-Corasick)
+ *
+ * 여러 키워드를 하나의 오토마톤으로 만들어 제목을 한 번 훑는 것으로 포함된 키워드를 모두 찾습니다.
+ * 비용이 키워드 수와 무관하게 제목 길이에 비례하므로, 키워드마다 DB 검색을 하던 일일 키워드 알림 배치에 사용합니다.
+ * 키워드/제목 모두 NFKC 정규화, 소문자, 연속 공백 하나로 합친 뒤 부분 문자열로 비교합니다. (제목 LIKE '%키워드%' 와 동일한 의미)
+ */
+public final class KeywordMatcher {
+
+    private static final int ROOT = 0;
+
+    // 정규화 결과가 같은 키워드는 하나의 패턴을 공유
+    private final List<List<String>> keywordsByPattern = new ArrayList<>();
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<Integer> patternOfNode = new ArrayList<>();
+    private int[] failure;
+    private int[] outputLink;
+
+    private KeywordMatcher() {
+        newNode();
+    }
+
+    public static KeywordMatcher compile(Collection<String> keywords) {
+        KeywordMatcher matcher = new KeywordMatcher();
+        Map<String, Integer> patternIndex = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            String pattern = normalize(keyword);
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            Integer index = patternIndex.get(pattern);
+            if (index == null) {
+                index = matcher.addPattern(pattern);
+                patternIndex.put(pattern, index);
+            }
+            matcher.keywordsByPattern.get(index).add(keyword);
+        }
+        matcher.buildFailureLinks();
+        return matcher;
+    }
+
+    static String normalize(String text) {
+        return HangulNgramTokenizer.normalize(text).replaceAll("\\s+", " ").trim();
+    }
+
+    /**
+     * 제목에 포함된 키워드(원래 표기)를 한 번씩 전달합니다.
+     */
+    public void match(String title, Consumer<String> onKeyword) {
+        String text = normalize(title);
+        BitSet emitted = null;
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            int node = patternOfNode.get(state) >= 0 ? state : outputLink[state];
+            while (node > ROOT) {
+                int pattern = patternOfNode.get(node);
+                if (emitted == null) {
+                    emitted = new BitSet(keywordsByPattern.size());
+                }
+                if (!emitted.get(pattern)) {
+                    emitted.set(pattern);
+                    keywordsByPattern.get(pattern).forEach(onKeyword);
+                }
+                node = outputLink[node];
+            }
+        }
+    }
+
+    private int next(int state, char ch) {
+        while (true) {
+            Integer target = transitions.get(state).get(ch);
+            if (target != null) {
+                return target;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failure[state];
+        }
+    }
+
+    private int addPattern(String pattern) {
+        int node = ROOT;
+        for (int i = 0; i < pattern.length(); i++) {
+            char ch = pattern.charAt(i);
+            Integer target = transitions.get(node).get(ch);
+            if (target == null) {
+                target = newNode();
+                transitions.get(node).put(ch, target);
+            }
+            node = target;
+        }
+        int index = keywordsByPattern.size();
+        keywordsByPattern.add(new ArrayList<>(1));
+        patternOfNode.set(node, index);
+        return index;
+    }
+
+    private int newNode() {
+        transitions.add(new HashMap<>(4));
+        patternOfNode.add(-1);
+        return transitions.size() - 1;
+    }
+
+    /**
+     * BFS 로 실패 링크와 출력 링크(실패 경로상 가장 가까운 패턴 끝 노드)를 계산합니다.
+     */
+    private void buildFailureLinks() {
+        int size = transitions.size();
+        failure = new int[size];
+        outputLink = new int[size];
+
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : transitions.get(ROOT).values()) {
+            failure[child] = ROOT;
+            outputLink[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(node).entrySet()) {
+                int child = edge.getValue();
+                int fallback = next(failure[node], edge.getKey());
+                failure[child] = fallback;
+                outputLink[child] = patternOfNode.get(fallback) >= 0 ? fallback : outputLink[fallback];
+                queue.add(child);
+            }
+        }
+    }
+}
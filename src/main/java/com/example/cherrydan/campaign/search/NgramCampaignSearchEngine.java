@@ -0,0 +1,176 @@
+package com.example.cherrydan.campaign.search;
+
+import com.example.cherrydan.campaign.domain.Campaign;
+import com.example.cherrydan.campaign.index.ActiveCampaignListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 인메모리 n-gram 역색인 기반 캠페인 제목 검색 엔진
+ *
+ * 활성 캠페인 인덱스의 적재/변경 결과를 받아 색인합니다. (DB 를 따로 조회하지 않음)
+ * - base 세그먼트: 마지막 전체 색인 시점의 문서
+ * - delta 세그먼트: 그 이후 추가/수정된 문서 (변경 시 delta 만 다시 색인)
+ * - base 에서 수정/삭제된 문서는 제외 비트맵으로 가리고, delta 가 커지면 전체를 다시 색인(compaction)
+ * 정렬은 BM25 관련도 내림차순, 같으면 경쟁률 오름차순(기존 FULLTEXT 검색과 동일)입니다.
+ */
+@Slf4j
+@Component
+public class NgramCampaignSearchEngine implements CampaignSearchEngine, ActiveCampaignListener {
+
+    private static final Comparator<NgramSegment.SearchHit> RANKING = Comparator
+        .comparingDouble(NgramSegment.SearchHit::score).reversed()
+        .thenComparing(hit -> hit.campaign().getCompetitionRate(), Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(hit -> hit.campaign().getId(), Comparator.reverseOrder());
+
+    private final int compactionThreshold;
+
+    // 아래 상태는 색인 갱신(synchronized)에서만 변경
+    private final Map<Long, Campaign> liveDocs = new HashMap<>();
+    private final Map<Long, Campaign> deltaDocs = new HashMap<>();
+    private final Set<Long> changedSinceBase = new HashSet<>();
+
+    private volatile SearchState state = SearchState.EMPTY;
+    private volatile boolean ready = false;
+
+    public NgramCampaignSearchEngine(
+            @Value("${campaign.search.delta-compaction-size:2000}") int compactionThreshold,
+            MeterRegistry meterRegistry) {
+        this.compactionThreshold = compactionThreshold;
+        Gauge.builder("campaign.search.index.size", this, engine -> engine.state.liveCount)
+            .description("Campaigns held in the in-memory title search index")
+            .register(meterRegistry);
+        Gauge.builder("campaign.search.index.delta.size", this, engine -> engine.state.delta.size())
+            .description("Campaigns in the delta segment of the title search index")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void onReload(Collection<Campaign> campaigns) {
+        liveDocs.clear();
+        for (Campaign campaign : campaigns) {
+            liveDocs.put(campaign.getId(), campaign);
+        }
+        compact();
+        ready = true;
+    }
+
+    @Override
+    public synchronized void onChange(Collection<Campaign> upserted, Collection<Long> removedIds) {
+        for (Campaign campaign : upserted) {
+            liveDocs.put(campaign.getId(), campaign);
+            deltaDocs.put(campaign.getId(), campaign);
+            changedSinceBase.add(campaign.getId());
+        }
+        for (Long removedId : removedIds) {
+            liveDocs.remove(removedId);
+            deltaDocs.remove(removedId);
+            changedSinceBase.add(removedId);
+        }
+
+        if (deltaDocs.size() > compactionThreshold) {
+            compact();
+            return;
+        }
+        NgramSegment base = state.base;
+        state = new SearchState(base, NgramSegment.build(deltaDocs.values()), base.rowsOf(changedSinceBase), liveDocs.size());
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return ready;
+    }
+
+    @Override
+    public Page<Campaign> search(String keyword, Pageable pageable) {
+        List<NgramSegment.SearchHit> hits = collect(state, HangulNgramTokenizer.terms(keyword));
+
+        // 같은 제목은 가장 관련도 높은 캠페인 하나만 (기존 FULLTEXT 검색의 GROUP BY title)
+        hits.sort(RANKING);
+        Map<String, NgramSegment.SearchHit> distinct = new LinkedHashMap<>();
+        for (NgramSegment.SearchHit hit : hits) {
+            distinct.putIfAbsent(hit.normalizedTitle(), hit);
+        }
+
+        List<Campaign> content = distinct.values().stream()
+            .skip(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .map(NgramSegment.SearchHit::campaign)
+            .toList();
+        return new PageImpl<>(content, pageable, distinct.size());
+    }
+
+    @Override
+    public Optional<Set<Long>> findMatchingIds(String keyword) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        Set<Long> ids = new HashSet<>();
+        for (NgramSegment.SearchHit hit : collect(state, HangulNgramTokenizer.terms(keyword))) {
+            ids.add(hit.campaign().getId());
+        }
+        return Optional.of(ids);
+    }
+
+    private List<NgramSegment.SearchHit> collect(SearchState current, List<String> terms) {
+        List<NgramSegment.SearchHit> hits = new ArrayList<>();
+        if (terms.isEmpty()) {
+            return hits;
+        }
+
+        List<String> grams = HangulNgramTokenizer.queryGrams(terms);
+        double[] idfs = new double[grams.size()];
+        int documentCount = Math.max(1, current.liveCount);
+        for (int i = 0; i < grams.size(); i++) {
+            String gram = grams.get(i);
+            int documentFrequency = current.base.documentFrequency(gram) + current.delta.documentFrequency(gram);
+            idfs[i] = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        }
+
+        current.base.collect(terms, grams, idfs, current.baseExcluded, hits);
+        current.delta.collect(terms, grams, idfs, null, hits);
+        return hits;
+    }
+
+    private void compact() {
+        long startTime = System.currentTimeMillis();
+        deltaDocs.clear();
+        changedSinceBase.clear();
+        state = new SearchState(NgramSegment.build(liveDocs.values()), NgramSegment.empty(), new BitSet(), liveDocs.size());
+        log.info("캠페인 제목 검색 색인 전체 재구성 완료 - {}건, {}ms", liveDocs.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private static final class SearchState {
+        static final SearchState EMPTY = new SearchState(NgramSegment.empty(), NgramSegment.empty(), new BitSet(), 0);
+
+        final NgramSegment base;
+        final NgramSegment delta;
+        final BitSet baseExcluded;
+        final int liveCount;
+
+        SearchState(NgramSegment base, NgramSegment delta, BitSet baseExcluded, int liveCount) {
+            this.base = base;
+            this.delta = delta;
+            this.baseExcluded = baseExcluded;
+            this.liveCount = liveCount;
+        }
+    }
+}
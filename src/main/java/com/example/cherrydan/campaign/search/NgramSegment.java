@@ -0,0 +1,221 @@
+package com.example.cherrydan.campaign.search;
+
+import com.example.cherrydan.campaign.domain.Campaign;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * n-gram 역색인 세그먼트 (불변)
+ * gram 별로 해당 gram 을 포함하는 문서 번호를 오름차순 int[] 로 보관합니다.
+ * 후보는 검색어 bigram 의 posting 교집합으로 구하고, 정규화된 제목에 검색 단어가 실제로 포함되는지 다시 확인합니다.
+ */
+final class NgramSegment {
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 검색 단어가 단어 경계(제목 시작 또는 공백/특수문자 뒤)에서 시작할 때의 가산 비율
+    private static final double WORD_START_BONUS = 0.2;
+
+    private static final NgramSegment EMPTY = new NgramSegment(List.of());
+
+    private final Campaign[] docs;
+    private final String[] titles;
+    private final int[] lengths;
+    private final double averageLength;
+    private final Map<Long, Integer> rowById;
+    private final Map<String, int[]> postings;
+
+    private NgramSegment(Collection<Campaign> campaigns) {
+        int size = campaigns.size();
+        this.docs = campaigns.toArray(new Campaign[0]);
+        this.titles = new String[size];
+        this.lengths = new int[size];
+        this.rowById = new HashMap<>(size * 2);
+
+        Map<String, PostingBuilder> builders = new HashMap<>();
+        long totalLength = 0;
+        for (int row = 0; row < size; row++) {
+            titles[row] = HangulNgramTokenizer.normalize(docs[row].getTitle());
+            rowById.put(docs[row].getId(), row);
+
+            Set<String> grams = HangulNgramTokenizer.indexGrams(titles[row]);
+            lengths[row] = grams.size();
+            totalLength += grams.size();
+            for (String gram : grams) {
+                builders.computeIfAbsent(gram, k -> new PostingBuilder()).add(row);
+            }
+        }
+        this.averageLength = size > 0 ? Math.max(1.0, (double) totalLength / size) : 1.0;
+
+        this.postings = new HashMap<>(builders.size() * 2);
+        builders.forEach((gram, builder) -> postings.put(gram, builder.toArray()));
+    }
+
+    static NgramSegment build(Collection<Campaign> campaigns) {
+        return campaigns.isEmpty() ? EMPTY : new NgramSegment(campaigns);
+    }
+
+    static NgramSegment empty() {
+        return EMPTY;
+    }
+
+    int size() {
+        return docs.length;
+    }
+
+    int documentFrequency(String gram) {
+        int[] posting = postings.get(gram);
+        return posting != null ? posting.length : 0;
+    }
+
+    /**
+     * 주어진 캠페인 ID 에 해당하는 문서 번호 집합
+     */
+    BitSet rowsOf(Collection<Long> campaignIds) {
+        BitSet rows = new BitSet(docs.length);
+        for (Long campaignId : campaignIds) {
+            Integer row = rowById.get(campaignId);
+            if (row != null) {
+                rows.set(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 검색 단어를 모두 포함하는 문서를 점수와 함께 hits 에 추가합니다.
+     *
+     * @param grams 검색 단어들의 bigram, 비어있으면(한 글자 단어만 있으면) 전체 문서를 확인
+     * @param idfs grams 와 같은 순서의 역문서빈도 (전체 세그먼트 기준)
+     * @param excluded 제외할 문서 번호 (다른 세그먼트에서 갱신/삭제된 문서), 없으면 null
+     */
+    void collect(List<String> terms, List<String> grams, double[] idfs, BitSet excluded, List<SearchHit> hits) {
+        int[] candidates = candidates(grams);
+        int count = candidates != null ? candidates.length : docs.length;
+        for (int i = 0; i < count; i++) {
+            int row = candidates != null ? candidates[i] : i;
+            if (excluded != null && excluded.get(row)) {
+                continue;
+            }
+            if (!containsAll(titles[row], terms)) {
+                continue;
+            }
+            hits.add(new SearchHit(docs[row], titles[row], score(row, terms, idfs)));
+        }
+    }
+
+    /**
+     * @return grams 가 비어있으면 null (전체 문서가 후보)
+     */
+    private int[] candidates(List<String> grams) {
+        if (grams.isEmpty()) {
+            return null;
+        }
+
+        List<int[]> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            int[] posting = postings.get(gram);
+            if (posting == null) {
+                return new int[0];
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(posting -> posting.length));
+
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private double score(int row, List<String> terms, double[] idfs) {
+        double lengthNorm = (K1 + 1) / (1 + K1 * (1 - B + B * lengths[row] / averageLength));
+        double score = lengthNorm;
+        if (idfs.length > 0) {
+            score = 0;
+            for (double idf : idfs) {
+                score += idf * lengthNorm;
+            }
+        }
+
+        int wordStarts = 0;
+        for (String term : terms) {
+            if (startsAtWordBoundary(titles[row], term)) {
+                wordStarts++;
+            }
+        }
+        return score * (1 + WORD_START_BONUS * wordStarts / terms.size());
+    }
+
+    private static boolean containsAll(String title, List<String> terms) {
+        for (String term : terms) {
+            if (!title.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsAtWordBoundary(String title, String term) {
+        int from = 0;
+        int index;
+        while ((index = title.indexOf(term, from)) >= 0) {
+            if (index == 0 || !Character.isLetterOrDigit(title.charAt(index - 1))) {
+                return true;
+            }
+            from = index + 1;
+        }
+        return false;
+    }
+
+    /**
+     * 짧은 목록을 기준으로 긴 목록에서 이진 탐색
+     */
+    private static int[] intersect(int[] shorter, int[] longer) {
+        int[] result = new int[shorter.length];
+        int size = 0;
+        int from = 0;
+        for (int row : shorter) {
+            int found = Arrays.binarySearch(longer, from, longer.length, row);
+            if (found >= 0) {
+                result[size++] = row;
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+            if (from >= longer.length) {
+                break;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    record SearchHit(Campaign campaign, String normalizedTitle, double score) {
+    }
+
+    private static final class PostingBuilder {
+        private int[] rows = new int[4];
+        private int size;
+
+        void add(int row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(rows, size);
+        }
+    }
+}
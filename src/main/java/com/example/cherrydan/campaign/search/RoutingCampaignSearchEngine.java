@@ -0,0 +1,43 @@
+package com.example.cherrydan.campaign.search;
+
+import com.example.cherrydan.campaign.domain.Campaign;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 기본 검색 엔진
+ * n-gram 색인이 적재되어 있으면 n-gram 검색을, 아니면 MySQL FULLTEXT 검색을 사용합니다.
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+public class RoutingCampaignSearchEngine implements CampaignSearchEngine {
+
+    private final NgramCampaignSearchEngine ngramCampaignSearchEngine;
+    private final FullTextCampaignSearchEngine fullTextCampaignSearchEngine;
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public Page<Campaign> search(String keyword, Pageable pageable) {
+        return selectEngine().search(keyword, pageable);
+    }
+
+    @Override
+    public Optional<Set<Long>> findMatchingIds(String keyword) {
+        return selectEngine().findMatchingIds(keyword);
+    }
+
+    private CampaignSearchEngine selectEngine() {
+        return ngramCampaignSearchEngine.isAvailable() ? ngramCampaignSearchEngine : fullTextCampaignSearchEngine;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.cherrydan.campaign.service;
+
+import com.example.cherrydan.campaign.domain.Campaign;
+import com.example.cherrydan.campaign.repository.BookmarkRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 북마크 캠페인 ID 캐시
+ *
+ * 캠페인 목록 페이지마다 사용자의 북마크 엔티티 전체를 읽던 것을 대체합니다.
+ * - 사용자별 활성 북마크 캠페인 ID 를 정렬된 long[] 로 보관 (LRU, 최대 사용자 수 + TTL)
+ * - 미스 시 ID 전용 프로젝션으로 적재하며, 북마크가 너무 많은 사용자는 그 사실만 기억하고 TTL 동안 현재 페이지 ID 로만 조회
+ * - 북마크 추가/취소/삭제 시 해당 사용자 항목을 무효화 (커밋 이후 한 번 더 무효화)
+ * - 적재 중 무효화가 일어나면 (사용자 ID 구간별 세대 번호가 바뀌면) 읽은 값을 캐시에 넣지 않음
+ * - 무효화는 인스턴스 안에서만 전파되므로 다른 인스턴스의 변경은 짧은 TTL 로 반영
+ */
+@Component
+public class BookmarkIdCache {
+
+    private static final int GENERATION_STRIPES = 64;
+
+    private final BookmarkRepository bookmarkRepository;
+    private final long ttlMillis;
+    private final int maxIdsPerUser;
+    private final Map<Long, Entry> entries;
+    // 사용자 ID 구간별 무효화 세대 (적재 시작 후 무효화되었는지 확인)
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public BookmarkIdCache(
+            BookmarkRepository bookmarkRepository,
+            MeterRegistry meterRegistry,
+            @Value("${bookmark.id-cache.max-users:10000}") int maxUsers,
+            @Value("${bookmark.id-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${bookmark.id-cache.max-ids-per-user:1000}") int maxIdsPerUser) {
+        this.bookmarkRepository = bookmarkRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxIdsPerUser = maxIdsPerUser;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxUsers;
+            }
+        };
+        this.hitCounter = Counter.builder("bookmark.id.cache").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("bookmark.id.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 주어진 캠페인 중 사용자가 북마크한 캠페인 ID 를 반환합니다.
+     */
+    public Set<Long> findBookmarkedAmong(Long userId, List<Campaign> campaigns) {
+        if (userId == null || campaigns.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<Long> campaignIds = campaigns.stream().map(Campaign::getId).collect(Collectors.toList());
+
+        long[] bookmarkedIds = getOrLoad(userId);
+        if (bookmarkedIds == null) {
+            return bookmarkRepository.findBookmarkedCampaignIds(userId, campaignIds);
+        }
+
+        Set<Long> result = new HashSet<>();
+        for (Long campaignId : campaignIds) {
+            if (Arrays.binarySearch(bookmarkedIds, campaignId) >= 0) {
+                result.add(campaignId);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 사용자의 캐시 항목을 무효화합니다.
+     * 트랜잭션 안에서 호출되면 커밋 전 조회로 다시 채워진 값을 지우기 위해 완료 후 한 번 더 무효화합니다.
+     */
+    public void invalidate(Long userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * @return 캐시할 수 없는(북마크가 너무 많은) 사용자면 null
+     */
+    private long[] getOrLoad(Long userId) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null && entry.expiresAt > now) {
+                hitCounter.increment();
+                return entry.campaignIds;
+            }
+        }
+        missCounter.increment();
+
+        int stripe = stripe(userId);
+        long generation = generations.get(stripe);
+        List<Long> loaded = bookmarkRepository.findActiveBookmarkedCampaignIds(userId, PageRequest.of(0, maxIdsPerUser + 1));
+        // 북마크가 너무 많은 사용자도 기억해 두어 TTL 동안 전체 적재를 반복하지 않음
+        long[] campaignIds = loaded.size() > maxIdsPerUser
+            ? null
+            : loaded.stream().mapToLong(Long::longValue).sorted().toArray();
+        synchronized (entries) {
+            // 적재하는 동안 무효화되었으면 커밋 전 값일 수 있으므로 넣지 않음
+            if (generations.get(stripe) == generation) {
+                entries.put(userId, new Entry(campaignIds, now + ttlMillis));
+            }
+        }
+        return campaignIds;
+    }
+
+    private void evict(Long userId) {
+        synchronized (entries) {
+            generations.incrementAndGet(stripe(userId));
+            entries.remove(userId);
+        }
+    }
+
+    private static int stripe(Long userId) {
+        return (int) Math.floorMod(userId, (long) GENERATION_STRIPES);
+    }
+
+    /**
+     * @param campaignIds 정렬된 북마크 캠페인 ID, 북마크가 너무 많아 현재 페이지로만 조회할 사용자면 null
+     */
+    private record Entry(long[] campaignIds, long expiresAt) {
+    }
+}
@@ -35,6 +35,7 @@ public class BookmarkServiceImpl implements BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final UserRepository userRepository;
     private final CampaignRepository campaignRepository;
+    private final BookmarkIdCache bookmarkIdCache;
 
     @Override
     @Transactional
@@ -54,6 +55,7 @@ public class BookmarkServiceImpl implements BookmarkService {
 
         bookmark.activate();
         bookmarkRepository.save(bookmark);
+        bookmarkIdCache.invalidate(userId);
     }
 
     @Override
@@ -63,6 +65,7 @@ public class BookmarkServiceImpl implements BookmarkService {
                 .orElseThrow(() -> new UserException(ErrorMessage.USER_NOT_FOUND));
         
         bookmarkRepository.deleteByUserAndCampaignIds(user, request.getCampaignIds());
+        bookmarkIdCache.invalidate(userId);
     }
 
     @Override
@@ -77,6 +80,7 @@ public class BookmarkServiceImpl implements BookmarkService {
                 bookmark.setIsActive(false);
             }
             bookmarkRepository.saveAll(bookmarks);
+            bookmarkIdCache.invalidate(userId);
         } catch (Exception e) {
             throw new BaseException(ErrorMessage.RESOURCE_NOT_FOUND);
         }
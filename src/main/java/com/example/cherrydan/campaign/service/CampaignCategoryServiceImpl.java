@@ -3,7 +3,6 @@ package com.example.cherrydan.campaign.service;
 import com.example.cherrydan.campaign.domain.Campaign;
 import com.example.cherrydan.campaign.dto.CampaignResponseDTO;
 import com.example.cherrydan.campaign.repository.CampaignRepository;
-import com.example.cherrydan.campaign.domain.RegionGroup;
 import com.example.cherrydan.common.exception.ErrorMessage;
 import com.example.cherrydan.common.exception.CampaignException;
 import com.example.cherrydan.campaign.domain.CampaignPlatformType;
@@ -22,15 +21,16 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
 import com.example.cherrydan.campaign.domain.CampaignType;
-import com.example.cherrydan.campaign.domain.LocalCategory;
-import com.example.cherrydan.campaign.domain.ProductCategory;
 import com.example.cherrydan.campaign.domain.SnsPlatformType;
 import com.example.cherrydan.common.response.PageListResponseDTO;
 import com.example.cherrydan.campaign.dto.CampaignResponseMapper;
-import com.example.cherrydan.campaign.repository.BookmarkRepository;
 import com.example.cherrydan.campaign.domain.Bookmark;
+import com.example.cherrydan.campaign.index.ActiveCampaignIndex;
+import com.example.cherrydan.campaign.index.ActiveCampaignQuery;
+import com.example.cherrydan.campaign.search.CampaignSearchEngine;
 
 import java.util.Collections;
+import java.util.Optional;
 import java.util.Set;
 
 @Service
@@ -38,141 +38,58 @@ import java.util.Set;
 public class CampaignCategoryServiceImpl implements CampaignCategoryService {
 
     private final CampaignRepository campaignRepository;
-    private final BookmarkRepository bookmarkRepository;
+    private final BookmarkIdCache bookmarkIdCache;
+    private final ActiveCampaignIndex activeCampaignIndex;
+    private final CampaignSearchEngine campaignSearchEngine;
 
     @Override
     public PageListResponseDTO<CampaignResponseDTO> searchByCategory(String title, List<String> regionGroup, List<String> subRegion, List<String> local, List<String> product, String reporter, List<String> snsPlatform, List<String> campaignPlatform, String applyStart, String applyEnd, Pageable pageable, Long userId) {
+        Set<Integer> regionGroupCodes = CampaignFilterParser.parseRegionGroupCodes(regionGroup);
+        Set<Integer> subRegionCodes = CampaignFilterParser.parseSubRegionCodes(subRegion);
+        List<ActiveCampaignQuery.TypeFilter> typeFilters = parseTypeFilters(local, product, reporter);
+        Set<SnsPlatformType> snsPlatformTypes = CampaignFilterParser.parseSnsPlatforms(snsPlatform);
+        Set<String> sourceSites = CampaignFilterParser.parseSourceSites(campaignPlatform);
+        LocalDate applyEndFrom = parseDate(applyStart);
+        LocalDate applyEndTo = parseDate(applyEnd);
+        boolean hasTitle = title != null && !title.trim().isEmpty();
+
         Specification<Campaign> spec = (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
             predicates.add(cb.equal(root.get("isActive"), true));
 
             // 제목 조건 처리
-            if (title != null && !title.trim().isEmpty()) {
+            if (hasTitle) {
                 predicates.add(cb.like(root.get("title"), "%" + title.trim() + "%"));
             }
 
-            // regionGroup 조건 처리 (복수 선택 가능)
-            if (regionGroup != null && !regionGroup.isEmpty() && !regionGroup.contains("all")) {
-                List<Predicate> regionGroupPredicates = new ArrayList<>();
-                for (String regionGroupItem : regionGroup) {
-                    if (regionGroupItem != null && !regionGroupItem.isEmpty()) {
-                        try {
-                            RegionGroup regionGroupEnum = RegionGroup.fromCodeName(regionGroupItem);
-                            regionGroupPredicates.add(cb.equal(root.get("regionGroup"), regionGroupEnum.getCode()));
-                        } catch (IllegalArgumentException e) {
-                            throw new CampaignException(ErrorMessage.CAMPAIGN_REGION_GROUP_NOT_FOUND);
-                        }
-                    }
-                }
-                if (!regionGroupPredicates.isEmpty()) {
-                    predicates.add(cb.or(regionGroupPredicates.toArray(new Predicate[0])));
-                }
+            // regionGroup / subRegion 조건 처리 (복수 선택 가능)
+            if (!regionGroupCodes.isEmpty()) {
+                predicates.add(root.get("regionGroup").in(regionGroupCodes));
             }
-
-            // subRegion 조건 처리 (복수 선택 가능)
-            if (subRegion != null && !subRegion.isEmpty()) {
-                List<Predicate> subRegionPredicates = new ArrayList<>();
-                for (String subRegionItem : subRegion) {
-                    if (subRegionItem != null && !subRegionItem.isEmpty()) {
-                        try {
-                            RegionGroup.RegionGroupSubRegionMatch match = RegionGroup.findBySubRegionCodeName(subRegionItem)
-                                    .orElseThrow(() -> new CampaignException(ErrorMessage.CAMPAIGN_REGION_DETAIL_NOT_FOUND));
-                            subRegionPredicates.add(cb.equal(root.get("regionDetail"), match.getSubRegion().getCode()));
-                        } catch (IllegalArgumentException e) {
-                            throw new CampaignException(ErrorMessage.CAMPAIGN_REGION_DETAIL_NOT_FOUND);
-                        }
-                    }
-                }
-                if (!subRegionPredicates.isEmpty()) {
-                    predicates.add(cb.or(subRegionPredicates.toArray(new Predicate[0])));
-                }
+            if (!subRegionCodes.isEmpty()) {
+                predicates.add(root.get("regionDetail").in(subRegionCodes));
             }
 
-            List<Predicate> typePredicates = new ArrayList<>();
-
-            // 지역 카테고리 조건 처리 (복수 선택 가능)
-            if (local != null && !local.isEmpty()) {
-                if (local.size() == 1 && local.get(0).equalsIgnoreCase("all")) {
-                    // all만 있으면 campaign_type=1만 추가
-                    typePredicates.add(cb.equal(root.get("campaignType"), CampaignType.REGION));
-                } else {
-                    List<Predicate> localPredicates = new ArrayList<>();
-                    for (String localItem : local) {
-                        if (localItem != null && !localItem.isEmpty() && !localItem.equalsIgnoreCase("all")) {
-                            try {
-                                int code = LocalCategory.fromString(localItem).getCode();
-                                localPredicates.add(cb.and(
-                                    cb.equal(root.get("campaignType"), CampaignType.REGION),
-                                    cb.equal(root.get("localCategory"), code)
-                                ));
-                            } catch (IllegalArgumentException e) {
-                                throw new CampaignException(ErrorMessage.CAMPAIGN_REGION_DETAIL_NOT_FOUND);
-                            }
-                        }
-                    }
-                    if (!localPredicates.isEmpty()) {
-                        typePredicates.add(cb.or(localPredicates.toArray(new Predicate[0])));
+            // 지역/제품/기자단 조건은 OR 로 묶어서 추가
+            if (!typeFilters.isEmpty()) {
+                List<Predicate> typePredicates = new ArrayList<>();
+                for (ActiveCampaignQuery.TypeFilter typeFilter : typeFilters) {
+                    Predicate typePredicate = cb.equal(root.get("campaignType"), typeFilter.getCampaignType());
+                    if (!typeFilter.getCategoryCodes().isEmpty()) {
+                        String categoryField = typeFilter.getCampaignType() == CampaignType.REGION ? "localCategory" : "productCategory";
+                        typePredicate = cb.and(typePredicate, root.get(categoryField).in(typeFilter.getCategoryCodes()));
                     }
+                    typePredicates.add(typePredicate);
                 }
-            }
-
-            // 제품 카테고리 조건 처리 (복수 선택 가능)
-            if (product != null && !product.isEmpty()) {
-                if (product.size() == 1 && product.get(0).equalsIgnoreCase("all")) {
-                    // all만 있으면 campaign_type=2만 추가
-                    typePredicates.add(cb.equal(root.get("campaignType"), CampaignType.PRODUCT));
-                } else {
-                    List<Predicate> productPredicates = new ArrayList<>();
-                    for (String productItem : product) {
-                        if (productItem != null && !productItem.isEmpty() && !productItem.equalsIgnoreCase("all")) {
-                            try {
-                                int code = ProductCategory.fromString(productItem).getCode();
-                                productPredicates.add(cb.and(
-                                    cb.equal(root.get("campaignType"), CampaignType.PRODUCT),
-                                    cb.equal(root.get("productCategory"), code)
-                                ));
-                            } catch (IllegalArgumentException e) {
-                                throw new CampaignException(ErrorMessage.CAMPAIGN_PRODUCT_CATEGORY_NOT_FOUND);
-                            }
-                        }
-                    }
-                    if (!productPredicates.isEmpty()) {
-                        typePredicates.add(cb.or(productPredicates.toArray(new Predicate[0])));
-                    }
-                }
-            }
-
-            // 기자단 카테고리 조건 처리
-            if (reporter != null && reporter.equalsIgnoreCase("all")) {
-                typePredicates.add(cb.equal(root.get("campaignType"), CampaignType.REPORTER));
-            }            
-
-            // typePredicates가 비어있지 않으면 OR로 묶어서 predicates에 추가
-            if (!typePredicates.isEmpty()) {
                 predicates.add(cb.or(typePredicates.toArray(new Predicate[0])));
             }
 
             // SNS 플랫폼 조건 처리 (복수 선택 가능)
-            if (snsPlatform != null && !snsPlatform.isEmpty() && !snsPlatform.contains("all")) {
+            if (!snsPlatformTypes.isEmpty()) {
                 List<Predicate> snsPlatformPredicates = new ArrayList<>();
-                for (String snsPlatformItem : snsPlatform) {
-                    if (snsPlatformItem != null && !snsPlatformItem.trim().isEmpty() && !snsPlatformItem.trim().equalsIgnoreCase("all")) {
-                        try {
-                            SnsPlatformType snsPlatformType = SnsPlatformType.fromCode(snsPlatformItem);
-                            String[] relatedFields = snsPlatformType.getRelatedFields();
-                            
-                            if (relatedFields.length == 1) {
-                                snsPlatformPredicates.add(cb.isTrue(root.get(relatedFields[0])));
-                            } else if (relatedFields.length > 1) {
-                                List<Predicate> platformPredicates = new ArrayList<>();
-                                for (String field : relatedFields) {
-                                    platformPredicates.add(cb.isTrue(root.get(field)));
-                                }
-                                snsPlatformPredicates.add(cb.or(platformPredicates.toArray(new Predicate[0])));
-                            }
-                        } catch (IllegalArgumentException e) {
-                            throw new CampaignException(ErrorMessage.CAMPAIGN_SNS_NOT_FOUND);
-                        }
+                for (SnsPlatformType snsPlatformType : snsPlatformTypes) {
+                    for (String field : snsPlatformType.getRelatedFields()) {
+                        snsPlatformPredicates.add(cb.isTrue(root.get(field)));
                     }
                 }
                 if (!snsPlatformPredicates.isEmpty()) {
@@ -181,42 +98,40 @@ public class CampaignCategoryServiceImpl implements CampaignCategoryService {
             }
 
             // 캠페인 플랫폼 조건 처리 (복수 선택 가능)
-            if (campaignPlatform != null && !campaignPlatform.isEmpty() && !campaignPlatform.contains("all")) {
-                List<Predicate> campaignPlatformPredicates = new ArrayList<>();
-                for (String campaignPlatformItem : campaignPlatform) {
-                    if (campaignPlatformItem != null && !campaignPlatformItem.trim().isEmpty()) {
-                        campaignPlatformPredicates.add(cb.equal(root.get("sourceSite"), campaignPlatformItem.trim()));
-                    }
-                }
-                if (!campaignPlatformPredicates.isEmpty()) {
-                    predicates.add(cb.or(campaignPlatformPredicates.toArray(new Predicate[0])));
-                }
+            if (!sourceSites.isEmpty()) {
+                predicates.add(root.get("sourceSite").in(sourceSites));
             }
 
             // 마감일 조건 처리
-            if (applyStart != null && !applyStart.trim().isEmpty()) {
-                try {
-                    LocalDate startDate = LocalDate.parse(applyStart.trim());
-                    predicates.add(cb.greaterThanOrEqualTo(root.get("applyEnd"), startDate));
-                } catch (DateTimeParseException e) {
-                    throw new CampaignException(ErrorMessage.INVALID_PARAMETER);
-                }
+            if (applyEndFrom != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("applyEnd"), applyEndFrom));
             }
-            
-            if (applyEnd != null && !applyEnd.trim().isEmpty()) {
-                try {
-                    LocalDate endDate = LocalDate.parse(applyEnd.trim());
-                    predicates.add(cb.lessThanOrEqualTo(root.get("applyEnd"), endDate));
-                } catch (DateTimeParseException e) {
-                    throw new CampaignException(ErrorMessage.INVALID_PARAMETER);
-                }
+            if (applyEndTo != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("applyEnd"), applyEndTo));
             }
 
             return cb.and(predicates.toArray(new Predicate[0]));
         };
 
-        Page<Campaign> campaigns = campaignRepository.findAll(spec, pageable);
-        final Set<Long> bookmarkedCampaignIds = CampaignResponseMapper.getBookmarkedCampaignIds(bookmarkRepository, userId);
+        // 제목 조건은 n-gram 검색 색인에서 일치하는 ID 로 바꿔 인덱스 조건에 결합, 색인이 없으면 DB LIKE 조회
+        Optional<Set<Long>> titleMatchedIds = hasTitle ? campaignSearchEngine.findMatchingIds(title.trim()) : Optional.empty();
+        Optional<Page<Campaign>> indexed = Optional.empty();
+        if (!hasTitle || titleMatchedIds.isPresent()) {
+            ActiveCampaignQuery indexQuery = ActiveCampaignQuery.builder()
+                .regionGroups(regionGroupCodes)
+                .regionDetails(subRegionCodes)
+                .typeFilters(typeFilters)
+                .snsPlatforms(snsPlatformTypes)
+                .sourceSites(sourceSites)
+                .applyEndFrom(applyEndFrom)
+                .applyEndTo(applyEndTo)
+                .campaignIds(titleMatchedIds.orElse(null))
+                .build();
+            indexed = activeCampaignIndex.search(indexQuery, pageable);
+        }
+
+        Page<Campaign> campaigns = indexed.orElseGet(() -> campaignRepository.findAll(spec, pageable));
+        final Set<Long> bookmarkedCampaignIds = bookmarkIdCache.findBookmarkedAmong(userId, campaigns.getContent());
         List<CampaignResponseDTO> content = CampaignResponseMapper.toResponseDTOList(campaigns.getContent(), bookmarkedCampaignIds);
         return PageListResponseDTO.<CampaignResponseDTO>builder()
                 .content(content)
@@ -228,4 +143,50 @@ public class CampaignCategoryServiceImpl implements CampaignCategoryService {
                 .hasPrevious(campaigns.hasPrevious())
                 .build();
     }
+
+    /**
+     * 지역/제품/기자단 조건을 타입별 조건으로 변환
+     * local, product 가 "all" 하나뿐이면 해당 타입 전체를 의미합니다.
+     */
+    private List<ActiveCampaignQuery.TypeFilter> parseTypeFilters(List<String> local, List<String> product, String reporter) {
+        List<ActiveCampaignQuery.TypeFilter> typeFilters = new ArrayList<>();
+
+        if (local != null && !local.isEmpty()) {
+            if (local.size() == 1 && local.get(0).equalsIgnoreCase("all")) {
+                typeFilters.add(ActiveCampaignQuery.TypeFilter.of(CampaignType.REGION));
+            } else {
+                Set<Integer> localCodes = CampaignFilterParser.parseLocalCategoryCodes(local);
+                if (!localCodes.isEmpty()) {
+                    typeFilters.add(new ActiveCampaignQuery.TypeFilter(CampaignType.REGION, localCodes));
+                }
+            }
+        }
+
+        if (product != null && !product.isEmpty()) {
+            if (product.size() == 1 && product.get(0).equalsIgnoreCase("all")) {
+                typeFilters.add(ActiveCampaignQuery.TypeFilter.of(CampaignType.PRODUCT));
+            } else {
+                Set<Integer> productCodes = CampaignFilterParser.parseProductCategoryCodes(product);
+                if (!productCodes.isEmpty()) {
+                    typeFilters.add(new ActiveCampaignQuery.TypeFilter(CampaignType.PRODUCT, productCodes));
+                }
+            }
+        }
+
+        if (reporter != null && reporter.equalsIgnoreCase("all")) {
+            typeFilters.add(ActiveCampaignQuery.TypeFilter.of(CampaignType.REPORTER));
+        }
+        return typeFilters;
+    }
+
+    private LocalDate parseDate(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new CampaignException(ErrorMessage.INVALID_PARAMETER);
+        }
+    }
 } 
\ No newline at end of file
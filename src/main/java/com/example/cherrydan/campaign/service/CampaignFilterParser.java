@@ -0,0 +1,120 @@
+package com.example.cherrydan.campaign.service;
+
+import com.example.cherrydan.campaign.domain.LocalCategory;
+import com.example.cherrydan.campaign.domain.ProductCategory;
+import com.example.cherrydan.campaign.domain.RegionGroup;
+import com.example.cherrydan.campaign.domain.SnsPlatformType;
+import com.example.cherrydan.common.exception.CampaignException;
+import com.example.cherrydan.common.exception.ErrorMessage;
+
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 캠페인 목록 필터 파라미터 파싱
+ * 요청 문자열을 코드 값으로 변환하며, DB 조회와 인메모리 인덱스 조회가 같은 결과를 공유합니다.
+ * "all" 또는 빈 값은 필터 없음(빈 Set)으로 취급합니다.
+ */
+final class CampaignFilterParser {
+
+    private CampaignFilterParser() {
+    }
+
+    static Set<Integer> parseRegionGroupCodes(List<String> regionGroup) {
+        Set<Integer> codes = new LinkedHashSet<>();
+        if (regionGroup == null || regionGroup.isEmpty() || regionGroup.contains("all")) {
+            return codes;
+        }
+        for (String regionGroupItem : regionGroup) {
+            if (regionGroupItem != null && !regionGroupItem.isEmpty()) {
+                try {
+                    codes.add(RegionGroup.fromCodeName(regionGroupItem).getCode());
+                } catch (IllegalArgumentException e) {
+                    throw new CampaignException(ErrorMessage.CAMPAIGN_REGION_GROUP_NOT_FOUND);
+                }
+            }
+        }
+        return codes;
+    }
+
+    static Set<Integer> parseSubRegionCodes(List<String> subRegion) {
+        Set<Integer> codes = new LinkedHashSet<>();
+        if (subRegion == null || subRegion.isEmpty()) {
+            return codes;
+        }
+        for (String subRegionItem : subRegion) {
+            if (subRegionItem != null && !subRegionItem.isEmpty()) {
+                RegionGroup.RegionGroupSubRegionMatch match = RegionGroup.findBySubRegionCodeName(subRegionItem)
+                        .orElseThrow(() -> new CampaignException(ErrorMessage.CAMPAIGN_REGION_DETAIL_NOT_FOUND));
+                codes.add(match.getSubRegion().getCode());
+            }
+        }
+        return codes;
+    }
+
+    static Set<Integer> parseLocalCategoryCodes(List<String> localCategory) {
+        Set<Integer> codes = new LinkedHashSet<>();
+        if (localCategory == null || localCategory.isEmpty()) {
+            return codes;
+        }
+        for (String localItem : localCategory) {
+            if (localItem != null && !localItem.isEmpty() && !localItem.equalsIgnoreCase("all")) {
+                try {
+                    codes.add(LocalCategory.fromString(localItem).getCode());
+                } catch (IllegalArgumentException e) {
+                    throw new CampaignException(ErrorMessage.CAMPAIGN_REGION_DETAIL_NOT_FOUND);
+                }
+            }
+        }
+        return codes;
+    }
+
+    static Set<Integer> parseProductCategoryCodes(List<String> productCategory) {
+        Set<Integer> codes = new LinkedHashSet<>();
+        if (productCategory == null || productCategory.isEmpty()) {
+            return codes;
+        }
+        for (String productItem : productCategory) {
+            if (productItem != null && !productItem.isEmpty() && !productItem.equalsIgnoreCase("all")) {
+                try {
+                    codes.add(ProductCategory.fromString(productItem).getCode());
+                } catch (IllegalArgumentException e) {
+                    throw new CampaignException(ErrorMessage.CAMPAIGN_PRODUCT_CATEGORY_NOT_FOUND);
+                }
+            }
+        }
+        return codes;
+    }
+
+    static Set<SnsPlatformType> parseSnsPlatforms(List<String> snsPlatform) {
+        Set<SnsPlatformType> types = EnumSet.noneOf(SnsPlatformType.class);
+        if (snsPlatform == null || snsPlatform.isEmpty() || snsPlatform.contains("all")) {
+            return types;
+        }
+        for (String snsPlatformItem : snsPlatform) {
+            if (snsPlatformItem != null && !snsPlatformItem.trim().isEmpty() && !snsPlatformItem.trim().equalsIgnoreCase("all")) {
+                try {
+                    types.add(SnsPlatformType.fromCode(snsPlatformItem));
+                } catch (IllegalArgumentException e) {
+                    throw new CampaignException(ErrorMessage.CAMPAIGN_SNS_NOT_FOUND);
+                }
+            }
+        }
+        return types;
+    }
+
+    static Set<String> parseSourceSites(List<String> platform) {
+        Set<String> sourceSites = new LinkedHashSet<>();
+        if (platform == null || platform.isEmpty() || platform.contains("all")) {
+            return sourceSites;
+        }
+        for (String platformItem : platform) {
+            if (platformItem != null && !platformItem.trim().isEmpty()) {
+                sourceSites.add(platformItem.trim());
+            }
+        }
+        return sourceSites;
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.cherrydan.campaign.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * campaigns_daily_search 증분 동기화
+ *
+ * 매일 아침 테이블을 새로 만들어 교체하는 대신, 하루 종일 campaigns 의 신규 행을
+ * (created_at, id) 워터마크 기준으로 작은 배치씩 따라가며 반영합니다.
+ * - 테이블은 search_date(= DATE(created_at)) 기준 최근 N일 구간을 유지
+ * - 같은 id 는 덮어쓰므로 워터마크를 겹쳐 읽어도 안전 (늦게 커밋된 행 보정)
+ * - 06:30 작업은 밀린 변경분 반영 후 구간 밖 날짜 삭제만 수행
+ */
+@Slf4j
+@Service
+public class CampaignSearchIncrementalSyncService {
+
+    private static final String TABLE = "campaigns_daily_search";
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CampaignSearchSyncService campaignSearchSyncService;
+    private final int windowDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration overlap;
+    private final Counter syncedRowCounter;
+
+    // 마지막으로 반영한 (created_at, id), 배치 수 제한으로 끊겼으면 다음 실행은 겹쳐 읽지 않고 이어서 시작
+    private LocalDateTime watermarkCreatedAt;
+    private long watermarkId;
+    private boolean drained = true;
+    private volatile boolean initialized = false;
+
+    private volatile long lagSeconds = 0;
+    private volatile long lastSuccessEpochMillis = 0;
+
+    public CampaignSearchIncrementalSyncService(
+            JdbcTemplate jdbcTemplate,
+            CampaignSearchSyncService campaignSearchSyncService,
+            MeterRegistry meterRegistry,
+            @Value("${campaign.daily-search.window-days:3}") int windowDays,
+            @Value("${campaign.daily-search.batch-size:500}") int batchSize,
+            @Value("${campaign.daily-search.max-batches-per-run:20}") int maxBatchesPerRun,
+            @Value("${campaign.daily-search.overlap-seconds:120}") long overlapSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.campaignSearchSyncService = campaignSearchSyncService;
+        this.windowDays = windowDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.overlap = Duration.ofSeconds(overlapSeconds);
+
+        this.syncedRowCounter = Counter.builder("campaign.daily_search.sync.rows")
+            .description("Rows upserted into campaigns_daily_search by the incremental sync")
+            .register(meterRegistry);
+        Gauge.builder("campaign.daily_search.sync.lag.seconds", this, service -> service.lagSeconds)
+            .description("Newest campaigns.created_at minus newest synced created_at")
+            .register(meterRegistry);
+        Gauge.builder("campaign.daily_search.sync.last_success.age.seconds", this,
+                service -> service.lastSuccessEpochMillis == 0 ? -1 : (System.currentTimeMillis() - service.lastSuccessEpochMillis) / 1000.0)
+            .description("Seconds since the last successful incremental sync run")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 워터마크 이후 신규 캠페인을 배치 단위로 반영합니다.
+     *
+     * @return 반영한 행 수
+     */
+    public synchronized int syncNewCampaigns() {
+        LocalDate today = LocalDate.now(KST);
+        initializeIfNeeded(today);
+
+        LocalDateTime windowStart = firstDateOfWindow(today).atStartOfDay();
+        LocalDateTime cursorCreatedAt = watermarkCreatedAt;
+        long cursorId = watermarkId;
+        if (drained) {
+            // 늦게 커밋된 행을 놓치지 않도록 겹쳐 읽기
+            cursorCreatedAt = watermarkCreatedAt.minus(overlap);
+            cursorId = 0;
+        }
+        if (cursorCreatedAt.isBefore(windowStart)) {
+            cursorCreatedAt = windowStart;
+            cursorId = 0;
+        }
+
+        int synced = 0;
+        int batches = 0;
+        boolean more = true;
+        while (more && batches < maxBatchesPerRun) {
+            List<DailySearchRow> rows = jdbcTemplate.query("""
+                SELECT id, title, created_at
+                FROM campaigns
+                WHERE is_active = 1
+                  AND created_at >= ?
+                  AND (created_at > ? OR id > ?)
+                ORDER BY created_at, id
+                LIMIT ?
+                """,
+                (rs, rowNum) -> new DailySearchRow(rs.getLong("id"), rs.getString("title"), rs.getTimestamp("created_at").toLocalDateTime()),
+                Timestamp.valueOf(cursorCreatedAt), Timestamp.valueOf(cursorCreatedAt), cursorId, batchSize);
+
+            if (!rows.isEmpty()) {
+                upsert(rows);
+                DailySearchRow last = rows.get(rows.size() - 1);
+                cursorCreatedAt = last.createdAt();
+                cursorId = last.id();
+                advanceWatermark(last);
+                synced += rows.size();
+            }
+            more = rows.size() == batchSize;
+            batches++;
+        }
+        drained = !more;
+
+        syncedRowCounter.increment(synced);
+        updateLag();
+        lastSuccessEpochMillis = System.currentTimeMillis();
+        if (synced > 0) {
+            log.debug("campaigns_daily_search 증분 반영 - {}건, 워터마크: {}", synced, watermarkCreatedAt);
+        }
+        return synced;
+    }
+
+    /**
+     * 날짜 구간을 이동합니다. 밀린 신규 캠페인을 먼저 반영한 뒤 구간 밖 날짜를 배치 삭제합니다.
+     */
+    public synchronized void rollWindow() {
+        LocalDate today = LocalDate.now(KST);
+        int synced = syncNewCampaigns();
+        while (!drained) {
+            synced += syncNewCampaigns();
+        }
+
+        LocalDate firstDate = firstDateOfWindow(today);
+        int deleted = 0;
+        int batchDeleted;
+        do {
+            batchDeleted = jdbcTemplate.update(
+                "DELETE FROM " + TABLE + " WHERE search_date < ? LIMIT ?",
+                Date.valueOf(firstDate), batchSize * 10);
+            deleted += batchDeleted;
+        } while (batchDeleted > 0);
+
+        log.info("campaigns_daily_search 구간 이동 완료 - 유지 시작일: {}, 반영: {}건, 삭제: {}건", firstDate, synced, deleted);
+    }
+
+    private void initializeIfNeeded(LocalDate today) {
+        if (initialized) {
+            return;
+        }
+
+        // 이전 스키마(search_date 없음) 테이블이면 유지 구간 전체를 한 번 다시 적재
+        if (!campaignSearchSyncService.hasSearchDateColumn()) {
+            campaignSearchSyncService.rebuildWindow(firstDateOfWindow(today), today);
+        }
+
+        Timestamp newest = jdbcTemplate.queryForObject("SELECT MAX(created_at) FROM " + TABLE, Timestamp.class);
+        LocalDateTime windowStart = firstDateOfWindow(today).atStartOfDay();
+        watermarkCreatedAt = newest != null && newest.toLocalDateTime().isAfter(windowStart) ? newest.toLocalDateTime() : windowStart;
+        watermarkId = 0;
+        drained = true;
+        initialized = true;
+        log.info("campaigns_daily_search 증분 동기화 시작 - 워터마크: {}", watermarkCreatedAt);
+    }
+
+    private void upsert(List<DailySearchRow> rows) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO " + TABLE + " (id, title, created_at, search_date) VALUES (?, ?, ?, ?) "
+                + "ON DUPLICATE KEY UPDATE title = VALUES(title)",
+            rows,
+            rows.size(),
+            (ps, row) -> {
+                ps.setLong(1, row.id());
+                ps.setString(2, row.title());
+                ps.setTimestamp(3, Timestamp.valueOf(row.createdAt()));
+                ps.setDate(4, Date.valueOf(row.createdAt().toLocalDate()));
+            });
+    }
+
+    private void advanceWatermark(DailySearchRow row) {
+        if (row.createdAt().isAfter(watermarkCreatedAt)
+                || (row.createdAt().isEqual(watermarkCreatedAt) && row.id() > watermarkId)) {
+            watermarkCreatedAt = row.createdAt();
+            watermarkId = row.id();
+        }
+    }
+
+    private void updateLag() {
+        Timestamp newestSource = jdbcTemplate.queryForObject(
+            "SELECT MAX(created_at) FROM campaigns WHERE is_active = 1", Timestamp.class);
+        if (newestSource == null) {
+            lagSeconds = 0;
+            return;
+        }
+        long lag = Duration.between(watermarkCreatedAt, newestSource.toLocalDateTime()).getSeconds();
+        lagSeconds = Math.max(0, lag);
+    }
+
+    private LocalDate firstDateOfWindow(LocalDate today) {
+        return today.minusDays(windowDays - 1L);
+    }
+
+    private record DailySearchRow(long id, String title, LocalDateTime createdAt) {
+    }
+}
@@ -2,6 +2,8 @@ package com.example.cherrydan.campaign.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.retry.annotation.Backoff;
@@ -11,6 +13,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @Service
 @RequiredArgsConstructor
@@ -35,12 +38,52 @@ public class CampaignSearchSyncService {
         log.info("동기화 시도 - 날짜: {}", targetDate);
 
         prepareTemporaryTable();
-        int count = performSync(targetDate);
+        int count = performSync(targetDate, targetDate);
         swapTables();
 
         log.info("동기화 성공 - 날짜: {}, 건수: {}", targetDate, count);
     }
 
+    /**
+     * 조회 쿼리가 search_date 로 날짜를 거르므로, 이전 스키마(search_date 없음) 테이블이면 기동 시 전날 데이터로 한 번 교체합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyTable() {
+        try {
+            if (!hasSearchDateColumn()) {
+                LocalDate yesterday = LocalDate.now(ZoneId.of("Asia/Seoul")).minusDays(1);
+                rebuildWindow(yesterday, yesterday);
+            }
+        } catch (Exception e) {
+            log.error("campaigns_daily_search 스키마 전환 실패", e);
+        }
+    }
+
+    public boolean hasSearchDateColumn() {
+        Integer columns = jdbcTemplate.queryForObject("""
+            SELECT COUNT(*)
+            FROM information_schema.COLUMNS
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = ?
+              AND COLUMN_NAME = 'search_date'
+            """, Integer.class, MAIN_TABLE);
+        return columns != null && columns > 0;
+    }
+
+    /**
+     * 여러 날짜를 한 번에 다시 적재합니다. (증분 동기화 모드의 초기 적재/스키마 전환용, 재시도 없음)
+     */
+    public int rebuildWindow(LocalDate firstDate, LocalDate lastDate) {
+        log.info("campaigns_daily_search 기간 재적재 시작 - {} ~ {}", firstDate, lastDate);
+
+        prepareTemporaryTable();
+        int count = performSync(firstDate, lastDate);
+        swapTables();
+
+        log.info("campaigns_daily_search 기간 재적재 완료 - {} ~ {}, 건수: {}", firstDate, lastDate, count);
+        return count;
+    }
+
     private void prepareTemporaryTable() {
         try {
             jdbcTemplate.execute(String.format("DROP TABLE IF EXISTS %s", TEMP_TABLE));
@@ -50,6 +93,8 @@ public class CampaignSearchSyncService {
                     id BIGINT PRIMARY KEY,
                     title VARCHAR(255),
                     created_at DATETIME,
+                    search_date DATE NOT NULL,
+                    INDEX idx_search_date (search_date),
                     FULLTEXT INDEX idx_title (title)
                 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
                 """, TEMP_TABLE);
@@ -63,26 +108,26 @@ public class CampaignSearchSyncService {
         }
     }
 
-    private int performSync(LocalDate targetDate) {
+    private int performSync(LocalDate firstDate, LocalDate lastDate) {
         try {
             String insertSql = String.format("""
-                INSERT INTO %s (id, title, created_at)
-                SELECT id, title, created_at
+                INSERT INTO %s (id, title, created_at, search_date)
+                SELECT id, title, created_at, DATE(created_at)
                 FROM campaigns
                 WHERE is_active = 1
                   AND created_at >= ?
                   AND created_at < ?
                 """, TEMP_TABLE);
 
-            LocalDateTime startOfDay = targetDate.atStartOfDay();
-            LocalDateTime startOfNextDay = targetDate.plusDays(1).atStartOfDay();
+            LocalDateTime startOfDay = firstDate.atStartOfDay();
+            LocalDateTime startOfNextDay = lastDate.plusDays(1).atStartOfDay();
 
             int count = jdbcTemplate.update(insertSql, startOfDay, startOfNextDay);
             log.debug("임시 테이블 데이터 삽입 완료 - 건수: {}", count);
 
             return count;
         } catch (Exception e) {
-            log.error("데이터 동기화 실패 - 날짜: {}", targetDate, e);
+            log.error("데이터 동기화 실패 - 날짜: {} ~ {}", firstDate, lastDate, e);
             throw new RuntimeException("데이터 동기화 실패", e);
         }
     }
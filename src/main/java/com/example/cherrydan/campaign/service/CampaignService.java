@@ -16,6 +16,7 @@ public interface CampaignService {
         CampaignType type,
         String sort,
         Pageable pageable,
+        String cursor,
         Long userId
     );
     
@@ -23,6 +24,7 @@ public interface CampaignService {
         List<String> snsPlatform,
         String sort,
         Pageable pageable,
+        String cursor,
         Long userId
     );
     
@@ -30,6 +32,7 @@ public interface CampaignService {
         List<String> platform,
         String sort,
         Pageable pageable,
+        String cursor,
         Long userId
     );
 
@@ -37,14 +40,13 @@ public interface CampaignService {
 
     Page<CampaignResponseDTO> getPersonalizedCampaignsByKeyword(String keyword, LocalDate date, Long userId, Pageable pageable);
 
-    long getDailyCampaignCountByKeyword(String keyword, LocalDate date);
-
     PageListResponseDTO<CampaignResponseDTO> getCampaignsByLocal(
         List<String> regionGroup,
         List<String> subRegion,
         List<String> localCategory,
         String sort,
         Pageable pageable,
+        String cursor,
         Long userId
     );
 
@@ -52,6 +54,7 @@ public interface CampaignService {
         List<String> productCategory,
         String sort,
         Pageable pageable,
+        String cursor,
         Long userId
     );
 } 
\ No newline at end of file
@@ -24,12 +24,24 @@ import com.example.cherrydan.campaign.dto.CampaignResponseMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
-import com.example.cherrydan.campaign.domain.RegionGroup;
-import com.example.cherrydan.common.exception.ErrorMessage;
+import com.example.cherrydan.campaign.index.ActiveCampaignIndex;
+import com.example.cherrydan.campaign.search.CampaignSearchEngine;
+import com.example.cherrydan.campaign.index.ActiveCampaignQuery;
+import com.example.cherrydan.campaign.index.CampaignCursor;
+import com.example.cherrydan.campaign.index.CampaignSortKey;
 import com.example.cherrydan.common.exception.CampaignException;
-import com.example.cherrydan.campaign.domain.LocalCategory;
-import com.example.cherrydan.campaign.domain.ProductCategory;
+import com.example.cherrydan.common.exception.ErrorMessage;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
 import com.example.cherrydan.user.repository.KeywordCampaignAlertRepository;
+import com.example.cherrydan.user.service.KeywordDailyMatchStore;
+import java.util.EnumSet;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -37,18 +49,30 @@ public class CampaignServiceImpl implements CampaignService {
 
     private final CampaignRepository campaignRepository;
     private final BookmarkRepository bookmarkRepository;
+    private final BookmarkIdCache bookmarkIdCache;
+    private final CampaignSearchEngine campaignSearchEngine;
     private final KeywordCampaignAlertRepository keywordCampaignAlertRepository;
+    private final KeywordDailyMatchStore keywordDailyMatchStore;
+    private final ActiveCampaignIndex activeCampaignIndex;
 
     @Override
-    public PageListResponseDTO<CampaignResponseDTO> getCampaigns(CampaignType type, String sort, Pageable pageable, Long userId) {
-        Page<Campaign> campaigns;
-        
-        if (type != null) {
-            campaigns = campaignRepository.findActiveByCampaignType(type, pageable);
-        } else {
-            campaigns = campaignRepository.findActiveCampaigns(pageable);
+    public PageListResponseDTO<CampaignResponseDTO> getCampaigns(CampaignType type, String sort, Pageable pageable, String cursor, Long userId) {
+        ActiveCampaignQuery indexQuery = ActiveCampaignQuery.builder()
+            .campaignTypes(type != null ? EnumSet.of(type) : null)
+            .build();
+
+        if (cursor != null) {
+            Specification<Campaign> spec = (root, query, cb) -> type != null
+                ? cb.and(cb.equal(root.get("isActive"), true), cb.equal(root.get("campaignType"), type))
+                : cb.equal(root.get("isActive"), true);
+            return findCampaignsAfter(indexQuery, spec, pageable, cursor, userId);
         }
-        
+
+        Page<Campaign> campaigns = activeCampaignIndex.search(indexQuery, pageable)
+            .orElseGet(() -> type != null
+                ? campaignRepository.findActiveByCampaignType(type, pageable)
+                : campaignRepository.findActiveCampaigns(pageable));
+
         return convertToResponseDTO(campaigns, userId);
     }
 
@@ -57,31 +81,23 @@ public class CampaignServiceImpl implements CampaignService {
         List<String> snsPlatform,
         String sort,
         Pageable pageable,
+        String cursor,
         Long userId
     ) {
+        Set<SnsPlatformType> snsPlatformTypes = CampaignFilterParser.parseSnsPlatforms(snsPlatform);
+        ActiveCampaignQuery indexQuery = ActiveCampaignQuery.builder()
+            .snsPlatforms(snsPlatformTypes)
+            .build();
+
         Specification<Campaign> spec = (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
             predicates.add(cb.equal(root.get("isActive"), true));
 
-            if (snsPlatform != null && !snsPlatform.isEmpty() && !snsPlatform.contains("all")) {
+            if (!snsPlatformTypes.isEmpty()) {
                 List<Predicate> snsPlatformPredicates = new ArrayList<>();
-                for (String snsPlatformItem : snsPlatform) {
-                    if (snsPlatformItem != null && !snsPlatformItem.trim().isEmpty() && !snsPlatformItem.trim().equalsIgnoreCase("all")) {
-                        try {
-                            SnsPlatformType snsPlatformType = SnsPlatformType.fromCode(snsPlatformItem);
-                            String[] relatedFields = snsPlatformType.getRelatedFields();
-                            if (relatedFields.length == 1) {
-                                snsPlatformPredicates.add(cb.isTrue(root.get(relatedFields[0])));
-                            } else if (relatedFields.length > 1) {
-                                List<Predicate> platformPredicates = new ArrayList<>();
-                                for (String field : relatedFields) {
-                                    platformPredicates.add(cb.isTrue(root.get(field)));
-                                }
-                                snsPlatformPredicates.add(cb.or(platformPredicates.toArray(new Predicate[0])));
-                            }
-                        } catch (IllegalArgumentException e) {
-                            throw new CampaignException(ErrorMessage.CAMPAIGN_SNS_NOT_FOUND);
-                        }
+                for (SnsPlatformType snsPlatformType : snsPlatformTypes) {
+                    for (String field : snsPlatformType.getRelatedFields()) {
+                        snsPlatformPredicates.add(cb.isTrue(root.get(field)));
                     }
                 }
                 if (!snsPlatformPredicates.isEmpty()) {
@@ -90,8 +106,7 @@ public class CampaignServiceImpl implements CampaignService {
             }
             return cb.and(predicates.toArray(new Predicate[0]));
         };
-        Page<Campaign> campaigns = campaignRepository.findAll(spec, pageable);
-        return convertToResponseDTO(campaigns, userId);
+        return findCampaigns(indexQuery, spec, pageable, cursor, userId);
     }
 
     @Override
@@ -99,34 +114,29 @@ public class CampaignServiceImpl implements CampaignService {
         List<String> platform,
         String sort,
         Pageable pageable,
+        String cursor,
         Long userId
     ) {
+        Set<String> sourceSites = CampaignFilterParser.parseSourceSites(platform);
+        ActiveCampaignQuery indexQuery = ActiveCampaignQuery.builder()
+            .sourceSites(sourceSites)
+            .build();
+
         Specification<Campaign> spec = (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
             predicates.add(cb.equal(root.get("isActive"), true));
-            if (platform != null && !platform.isEmpty() && !platform.contains("all")) {
-                List<Predicate> platformPredicates = new ArrayList<>();
-                for (String platformItem : platform) {
-                    if (platformItem != null && !platformItem.trim().isEmpty()) {
-                        platformPredicates.add(cb.equal(root.get("sourceSite"), platformItem.trim()));
-                    }
-                }
-                if (!platformPredicates.isEmpty()) {
-                    predicates.add(cb.or(platformPredicates.toArray(new Predicate[0])));
-                }
+            if (!sourceSites.isEmpty()) {
+                predicates.add(root.get("sourceSite").in(sourceSites));
             }
             return cb.and(predicates.toArray(new Predicate[0]));
         };
-        Page<Campaign> campaigns = campaignRepository.findAll(spec, pageable);
-        return convertToResponseDTO(campaigns, userId);
+        return findCampaigns(indexQuery, spec, pageable, cursor, userId);
     }
 
     @Override
     public PageListResponseDTO<CampaignResponseDTO> searchByKeyword(String keyword, Pageable pageable, Long userId) {
         if (keyword != null && !keyword.trim().isEmpty()) {
-            String fullTextKeyword = "+" + keyword.trim() + "*";
-            List<Campaign> fullTextResult = campaignRepository.searchByTitleFullText(fullTextKeyword);
-            Page<Campaign> page = new org.springframework.data.domain.PageImpl<>(fullTextResult);
+            Page<Campaign> page = campaignSearchEngine.search(keyword.trim(), pageable);
             return convertToResponseDTO(page, userId);
         } else {
             Specification<Campaign> spec = (root, query, cb) -> {
@@ -159,15 +169,23 @@ public class CampaignServiceImpl implements CampaignService {
         List<Campaign> campaigns;
         long totalElements;
 
-        if (date.equals(today)) {
+        // 키워드 알림 배치가 저장한 매칭 결과가 있으면 텍스트 검색 없이 ID 로 페이지 조회
+        Optional<long[]> matchedCampaignIds = keywordDailyMatchStore.findCampaignIds(searchKeyword, date);
+        if (matchedCampaignIds.isPresent()) {
+            long[] ids = matchedCampaignIds.get();
+            campaigns = findCampaignsByIdSlice(ids, pageable);
+            totalElements = ids.length;
+        } else if (date.equals(today)) {
             // alertDate가 오늘이면 = 전날 캠페인 조회
             // FULLTEXT 검색 (campaigns_daily_search 테이블, 빠름)
+            LocalDate searchDate = date.minusDays(1);
             campaigns = campaignRepository.searchDailyCampaignsByFulltext(
                 "+" + searchKeyword + "*",
+                searchDate,
                 (int) pageable.getOffset(),
                 pageable.getPageSize()
             );
-            totalElements = campaignRepository.countDailyCampaignsByFulltext(searchKeyword);
+            totalElements = campaignRepository.countDailyCampaignsByFulltext(searchKeyword, searchDate);
         } else {
             // alertDate가 과거이면 = 그 날짜 기준 전날 캠페인 조회
             // Simple LIKE 검색 (campaigns 테이블, 폴백)
@@ -200,10 +218,24 @@ public class CampaignServiceImpl implements CampaignService {
         return new PageImpl<>(content, pageable, totalElements);
     }
 
-    @Override
-    public long getDailyCampaignCountByKeyword(String keyword, LocalDate date) {
-        // 이 메서드는 processKeywordAsync에서만 호출되며, 항상 전날 데이터를 조회
-        return campaignRepository.countDailyCampaignsByFulltext("+" + keyword.trim() + "*");
+    /**
+     * 저장된 매칭 결과는 캠페인 ID 오름차순입니다. (검색 폴백은 created_at 오름차순)
+     * IDENTITY 키라 수집 순서와 같으므로 대부분 같은 순서지만, created_at 이 같거나 수정된 캠페인은 순서가 다를 수 있습니다.
+     */
+    private List<Campaign> findCampaignsByIdSlice(long[] ids, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), ids.length);
+        int to = Math.min(from + pageable.getPageSize(), ids.length);
+        List<Long> pageIds = Arrays.stream(ids, from, to).boxed().collect(Collectors.toList());
+        if (pageIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Campaign> campaignsById = campaignRepository.findAllById(pageIds).stream()
+            .collect(Collectors.toMap(Campaign::getId, Function.identity()));
+        return pageIds.stream()
+            .map(campaignsById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
     }
 
     @Override
@@ -213,68 +245,36 @@ public class CampaignServiceImpl implements CampaignService {
         List<String> localCategory,
         String sort,
         Pageable pageable,
+        String cursor,
         Long userId
     ) {
+        Set<Integer> regionGroupCodes = CampaignFilterParser.parseRegionGroupCodes(regionGroup);
+        Set<Integer> subRegionCodes = CampaignFilterParser.parseSubRegionCodes(subRegion);
+        Set<Integer> localCategoryCodes = CampaignFilterParser.parseLocalCategoryCodes(localCategory);
+        ActiveCampaignQuery indexQuery = ActiveCampaignQuery.builder()
+            .campaignTypes(EnumSet.of(CampaignType.REGION))
+            .regionGroups(regionGroupCodes)
+            .regionDetails(subRegionCodes)
+            .localCategories(localCategoryCodes)
+            .build();
+
         Specification<Campaign> spec = (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
             predicates.add(cb.equal(root.get("isActive"), true));
             predicates.add(cb.equal(root.get("campaignType"), CampaignType.REGION));
-            
-            if (regionGroup != null && !regionGroup.isEmpty() && !regionGroup.contains("all")) {
-                List<Predicate> regionGroupPredicates = new ArrayList<>();
-                for (String regionGroupItem : regionGroup) {
-                    if (regionGroupItem != null && !regionGroupItem.isEmpty()) {
-                        try {
-                            RegionGroup regionGroupEnum = RegionGroup.fromCodeName(regionGroupItem);
-                            regionGroupPredicates.add(cb.equal(root.get("regionGroup"), regionGroupEnum.getCode()));
-                        } catch (IllegalArgumentException e) {
-                            throw new CampaignException(ErrorMessage.CAMPAIGN_REGION_GROUP_NOT_FOUND);
-                        }
-                    }
-                }
-                if (!regionGroupPredicates.isEmpty()) {
-                    predicates.add(cb.or(regionGroupPredicates.toArray(new Predicate[0])));
-                }
-            }
 
-            if (subRegion != null && !subRegion.isEmpty()) {
-                List<Predicate> subRegionPredicates = new ArrayList<>();
-                for (String subRegionItem : subRegion) {
-                    if (subRegionItem != null && !subRegionItem.isEmpty()) {
-                        try {
-                            RegionGroup.RegionGroupSubRegionMatch match = RegionGroup.findBySubRegionCodeName(subRegionItem)
-                                    .orElseThrow(() -> new CampaignException(ErrorMessage.CAMPAIGN_REGION_DETAIL_NOT_FOUND));
-                            subRegionPredicates.add(cb.equal(root.get("regionDetail"), match.getSubRegion().getCode()));
-                        } catch (IllegalArgumentException e) {
-                            throw new CampaignException(ErrorMessage.CAMPAIGN_REGION_DETAIL_NOT_FOUND);
-                        }
-                    }
-                }
-                if (!subRegionPredicates.isEmpty()) {
-                    predicates.add(cb.or(subRegionPredicates.toArray(new Predicate[0])));
-                }
+            if (!regionGroupCodes.isEmpty()) {
+                predicates.add(root.get("regionGroup").in(regionGroupCodes));
             }
-
-            if (localCategory != null && !localCategory.isEmpty()) {   
-                List<Predicate> localPredicates = new ArrayList<>();
-                for (String localItem : localCategory) {
-                    if (localItem != null && !localItem.isEmpty() && !localItem.equalsIgnoreCase("all")) {
-                        try {
-                            int code = LocalCategory.fromString(localItem).getCode();
-                            localPredicates.add(cb.equal(root.get("localCategory"), code));
-                        } catch (IllegalArgumentException e) {
-                            throw new CampaignException(ErrorMessage.CAMPAIGN_REGION_DETAIL_NOT_FOUND);
-                        }
-                    }
-                }
-                if (!localPredicates.isEmpty()) {
-                    predicates.add(cb.or(localPredicates.toArray(new Predicate[0])));
-                }
+            if (!subRegionCodes.isEmpty()) {
+                predicates.add(root.get("regionDetail").in(subRegionCodes));
+            }
+            if (!localCategoryCodes.isEmpty()) {
+                predicates.add(root.get("localCategory").in(localCategoryCodes));
             }
             return cb.and(predicates.toArray(new Predicate[0]));
         };
-        Page<Campaign> campaigns = campaignRepository.findAll(spec, pageable);
-        return convertToResponseDTO(campaigns, userId);
+        return findCampaigns(indexQuery, spec, pageable, cursor, userId);
     }
 
     @Override
@@ -282,37 +282,145 @@ public class CampaignServiceImpl implements CampaignService {
         List<String> productCategory,
         String sort,
         Pageable pageable,
+        String cursor,
         Long userId
     ) {
+        Set<Integer> productCategoryCodes = CampaignFilterParser.parseProductCategoryCodes(productCategory);
+        ActiveCampaignQuery indexQuery = ActiveCampaignQuery.builder()
+            .campaignTypes(EnumSet.of(CampaignType.PRODUCT))
+            .productCategories(productCategoryCodes)
+            .build();
+
         Specification<Campaign> spec = (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
             predicates.add(cb.equal(root.get("isActive"), true));
             predicates.add(cb.equal(root.get("campaignType"), CampaignType.PRODUCT));
 
-            if (productCategory != null && !productCategory.isEmpty()) {
-                List<Predicate> productPredicates = new ArrayList<>();
-                for (String productItem : productCategory) {
-                    if (productItem != null && !productItem.isEmpty() && !productItem.equalsIgnoreCase("all")) {
-                        try {
-                            int code = ProductCategory.fromString(productItem).getCode();
-                            productPredicates.add(cb.equal(root.get("productCategory"), code));
-                        } catch (IllegalArgumentException e) {
-                            throw new CampaignException(ErrorMessage.CAMPAIGN_PRODUCT_CATEGORY_NOT_FOUND);
-                        }
-                    }
-                }
-                if (!productPredicates.isEmpty()) {
-                    predicates.add(cb.or(productPredicates.toArray(new Predicate[0])));
-                }
+            if (!productCategoryCodes.isEmpty()) {
+                predicates.add(root.get("productCategory").in(productCategoryCodes));
             }
             return cb.and(predicates.toArray(new Predicate[0]));
         };
-        Page<Campaign> campaigns = campaignRepository.findAll(spec, pageable);
+        return findCampaigns(indexQuery, spec, pageable, cursor, userId);
+    }
+
+    /**
+     * 인덱스 우선 조회 후 DB 로 폴백합니다. cursor 가 있으면 커서(keyset) 모드로 조회합니다.
+     */
+    private PageListResponseDTO<CampaignResponseDTO> findCampaigns(
+        ActiveCampaignQuery indexQuery,
+        Specification<Campaign> spec,
+        Pageable pageable,
+        String cursor,
+        Long userId
+    ) {
+        if (cursor != null) {
+            return findCampaignsAfter(indexQuery, spec, pageable, cursor, userId);
+        }
+        Page<Campaign> campaigns = activeCampaignIndex.search(indexQuery, pageable)
+            .orElseGet(() -> campaignRepository.findAll(spec, pageable));
         return convertToResponseDTO(campaigns, userId);
     }
 
+    /**
+     * 커서 이후 캠페인 조회 (COUNT 쿼리 없음)
+     * 빈 커서는 첫 페이지를 의미합니다.
+     */
+    private PageListResponseDTO<CampaignResponseDTO> findCampaignsAfter(
+        ActiveCampaignQuery indexQuery,
+        Specification<Campaign> spec,
+        Pageable pageable,
+        String cursorToken,
+        Long userId
+    ) {
+        CampaignSortKey sortKey = CampaignSortKey.from(pageable.getSort())
+            .orElseThrow(() -> new CampaignException(ErrorMessage.CAMPAIGN_CURSOR_INVALID));
+        CampaignCursor cursor = cursorToken.isBlank() ? null : CampaignCursor.decode(cursorToken.trim(), sortKey);
+        int size = pageable.getPageSize();
+
+        Slice<Campaign> campaigns = activeCampaignIndex.searchAfter(indexQuery, sortKey, cursor, size)
+            .orElseGet(() -> seekCampaigns(spec, sortKey, cursor, size));
+        return convertToCursorResponseDTO(campaigns, sortKey, cursor != null, userId);
+    }
+
+    /**
+     * DB keyset 조회: (정렬값, id) 가 커서보다 뒤인 행을 size + 1 건만 읽어 다음 페이지 여부를 판단합니다.
+     * campaigns_is_active_*_IDX 인덱스를 그대로 타도록 정렬값 → id 순으로 정렬합니다.
+     */
+    private Slice<Campaign> seekCampaigns(Specification<Campaign> spec, CampaignSortKey sortKey, CampaignCursor cursor, int size) {
+        Specification<Campaign> seekSpec = cursor != null ? spec.and(seekAfter(cursor)) : spec;
+        Sort sort = Sort.by(sortKey.getDirection(), sortKey.getProperty(), "id");
+
+        List<Campaign> rows = campaignRepository.findBy(seekSpec, query -> query.sortBy(sort).limit(size + 1).all());
+        boolean hasNext = rows.size() > size;
+        List<Campaign> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size, sort), hasNext);
+    }
+
+    private Specification<Campaign> seekAfter(CampaignCursor cursor) {
+        CampaignSortKey sortKey = cursor.getSortKey();
+        return (root, query, cb) -> switch (sortKey) {
+            case POPULAR, LOW_COMPETITION -> seekPredicate(cb, root.<Float>get("competitionRate"), root.<Long>get("id"),
+                floatValue(cb, cursor.getCompetitionRate()), cursor.getId(), sortKey.isAscending());
+            case LATEST, DEADLINE -> seekPredicate(cb, root.<LocalDate>get(sortKey.getProperty()), root.<Long>get("id"),
+                cursor.getDate() != null ? cb.literal(cursor.getDate()) : null, cursor.getId(), sortKey.isAscending());
+        };
+    }
+
+    /**
+     * competition_rate 는 MySQL FLOAT (단정밀도) 입니다.
+     * Float 파라미터는 "0.3" 같은 십진 리터럴로 전송되어 저장값(0.30000001…)과 = 비교가 성립하지 않으므로,
+     * 커서 값을 단정밀도 값 그대로의 double (0.30000001192092896) 로 바인딩해 컬럼과 같은 값으로 비교합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private static Expression<Float> floatValue(CriteriaBuilder cb, Float value) {
+        if (value == null) {
+            return null;
+        }
+        return (Expression<Float>) (Expression<?>) cb.literal(value.doubleValue());
+    }
+
+    /**
+     * NULL 은 가장 작은 값으로 취급합니다. (MySQL 정렬과 동일: ASC 는 앞, DESC 는 뒤)
+     *
+     * @param cursorValue 커서의 정렬값 (NULL 이면 null)
+     */
+    private static <Y extends Comparable<? super Y>> Predicate seekPredicate(
+        CriteriaBuilder cb,
+        Path<Y> value,
+        Path<Long> id,
+        Expression<Y> cursorValue,
+        long cursorId,
+        boolean ascending
+    ) {
+        Predicate laterId = ascending ? cb.greaterThan(id, cursorId) : cb.lessThan(id, cursorId);
+        if (cursorValue == null) {
+            Predicate nullTail = cb.and(cb.isNull(value), laterId);
+            return ascending ? cb.or(nullTail, cb.isNotNull(value)) : nullTail;
+        }
+        Predicate laterValue = ascending ? cb.greaterThan(value, cursorValue) : cb.lessThan(value, cursorValue);
+        Predicate sameValue = cb.and(cb.equal(value, cursorValue), laterId);
+        return ascending ? cb.or(laterValue, sameValue) : cb.or(laterValue, sameValue, cb.isNull(value));
+    }
+
+    private PageListResponseDTO<CampaignResponseDTO> convertToCursorResponseDTO(Slice<Campaign> campaigns, CampaignSortKey sortKey, boolean hasPrevious, Long userId) {
+        List<Campaign> rows = campaigns.getContent();
+        final Set<Long> bookmarkedCampaignIds = bookmarkIdCache.findBookmarkedAmong(userId, rows);
+        List<CampaignResponseDTO> content = CampaignResponseMapper.toResponseDTOList(rows, bookmarkedCampaignIds);
+        String nextCursor = campaigns.hasNext() && !rows.isEmpty()
+            ? CampaignCursor.after(sortKey, rows.get(rows.size() - 1)).encode()
+            : null;
+        return PageListResponseDTO.<CampaignResponseDTO>builder()
+            .content(content)
+            .size(campaigns.getSize())
+            .hasNext(campaigns.hasNext())
+            .hasPrevious(hasPrevious)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
     private PageListResponseDTO<CampaignResponseDTO> convertToResponseDTO(Page<Campaign> campaigns, Long userId) {
-        final Set<Long> bookmarkedCampaignIds = CampaignResponseMapper.getBookmarkedCampaignIds(bookmarkRepository, userId);
+        final Set<Long> bookmarkedCampaignIds = bookmarkIdCache.findBookmarkedAmong(userId, campaigns.getContent());
         List<CampaignResponseDTO> content = CampaignResponseMapper.toResponseDTOList(campaigns.getContent(), bookmarkedCampaignIds);
         return PageListResponseDTO.<CampaignResponseDTO>builder()
             .content(content)
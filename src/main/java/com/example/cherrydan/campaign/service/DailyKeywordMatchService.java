@@ -0,0 +1,62 @@
+package com.example.cherrydan.campaign.service;
+
+import com.example.cherrydan.campaign.search.KeywordMatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일일 키워드 매칭
+ * 지정한 날짜에 생성된 활성 캠페인 제목을 한 번만 읽으면서 모든 키워드의 매칭 캠페인을 구합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyKeywordMatchService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param createdDate 캠페인 생성일
+     * @return 키워드별 매칭된 캠페인 ID (생성 순서), 매칭이 없는 키워드는 빈 목록
+     */
+    public Map<String, List<Long>> matchCampaignsCreatedOn(LocalDate createdDate, Collection<String> keywords) {
+        long startTime = System.currentTimeMillis();
+        KeywordMatcher matcher = KeywordMatcher.compile(keywords);
+
+        Map<String, List<Long>> matches = new HashMap<>();
+        for (String keyword : keywords) {
+            matches.put(keyword, new ArrayList<>());
+        }
+
+        int[] scanned = {0};
+        jdbcTemplate.query("""
+            SELECT id, title
+            FROM campaigns
+            WHERE is_active = 1
+              AND created_at >= ?
+              AND created_at < ?
+            ORDER BY created_at, id
+            """,
+            rs -> {
+                long campaignId = rs.getLong("id");
+                matcher.match(rs.getString("title"), keyword -> matches.get(keyword).add(campaignId));
+                scanned[0]++;
+            },
+            Timestamp.valueOf(createdDate.atStartOfDay()),
+            Timestamp.valueOf(createdDate.plusDays(1).atStartOfDay()));
+
+        log.info("일일 키워드 매칭 완료 - 날짜: {}, 키워드: {}개, 캠페인: {}건, {}ms",
+            createdDate, keywords.size(), scanned[0], System.currentTimeMillis() - startTime);
+        return matches;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.cherrydan.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -11,27 +12,67 @@ import java.util.concurrent.Executor;
 @EnableAsync
 public class AsyncConfig {
 
-    @Bean("keywordTaskExecutor")
-    public Executor keywordTaskExecutor() {
+    /**
+     * 활동 알림 생성 전략 실행
+     * 큐가 가득 차기 전에는 core 이상으로 스레드가 늘지 않으므로 core = max 로 동시 실행 수를 고정합니다.
+     * 전략마다 실행 동안 DB 커넥션 1개를 사용합니다.
+     */
+    @Bean("alertTaskExecutor")
+    public Executor alertTaskExecutor(@Value("${activity-alert.generation.concurrency:2}") int concurrency) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(1);         
-        executor.setMaxPoolSize(4);       
-        executor.setQueueCapacity(50);        
-        executor.setThreadNamePrefix("keyword-task-");
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("alert-batch-");
         executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
         executor.initialize();
         return executor;
     }
-    
-    @Bean("alertTaskExecutor")
-    public Executor alertTaskExecutor() {
+
+    /**
+     * FCM 묶음 전송
+     * 실제 동시 전송 수는 FcmSender 가 AIMD 로 조절하며, 스레드 수는 그 상한에 맞춥니다.
+     */
+    @Bean("fcmSendExecutor")
+    public Executor fcmSendExecutor(@Value("${fcm.send.max-concurrency:8}") int maxConcurrency) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(1);      // 순차 처리 (t2.micro 최적화)
-        executor.setMaxPoolSize(2);       // 최대 2개까지만
-        executor.setQueueCapacity(10);    // 큐 크기 축소
-        executor.setThreadNamePrefix("alert-batch-");
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("fcm-send-");
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 전송 후 FCM 토큰 상태 일괄 갱신
+     * 큐가 가득 차면 호출한 전송 스레드에서 실행해 갱신이 밀리지 않게 합니다.
+     */
+    @Bean("tokenBookkeepingExecutor")
+    public Executor tokenBookkeepingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("fcm-token-");
         executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * 10:00 활동 알림 발송
+     * 오늘 생성 완료 확인(폴링)과 발송을 스케줄러 스레드 밖에서 실행합니다. 발송은 하루 한 번이므로 스레드 1개로 충분합니다.
+     */
+    @Bean("alertSendExecutor")
+    public Executor alertSendExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("alert-send-");
+        executor.initialize();
+        return executor;
+    }
+}
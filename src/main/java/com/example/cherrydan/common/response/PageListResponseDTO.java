@@ -1,5 +1,6 @@
 package com.example.cherrydan.common.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,10 +21,10 @@ public class PageListResponseDTO<T> {
     @Schema(description = "페이지 크기", example = "20")
     private int size;
     
-    @Schema(description = "전체 요소 수", example = "100")
+    @Schema(description = "전체 요소 수 (커서 모드에서는 계산하지 않음)", example = "100")
     private long totalElements;
     
-    @Schema(description = "전체 페이지 수", example = "5")
+    @Schema(description = "전체 페이지 수 (커서 모드에서는 계산하지 않음)", example = "5")
     private int totalPages;
     
     @Schema(description = "다음 페이지 존재 여부", example = "true")
@@ -32,6 +33,10 @@ public class PageListResponseDTO<T> {
     @Schema(description = "이전 페이지 존재 여부", example = "false")
     private boolean hasPrevious;
 
+    @Schema(description = "다음 페이지 커서 (커서 모드에서 다음 페이지가 있을 때만 포함)", nullable = true, requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     /**
      * Spring Data Page 객체를 PageListResponseDTO로 변환
      */
@@ -2,62 +2,108 @@ package com.example.cherrydan.common.util;
 
 import com.example.cherrydan.activity.domain.ActivityAlert;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
- * 페이징 기반 ActivityAlert Iterator
+ * keyset 페이징 기반 ActivityAlert Iterator
  * 메모리 효율적인 대량 데이터 처리를 위한 유틸리티
+ *
+ * OFFSET 페이지 대신 마지막으로 읽은 id 이후부터 (id > :lastId ORDER BY id) 한 묶음씩 읽으므로
+ * 뒤쪽 페이지도 앞쪽과 같은 비용이고 COUNT 쿼리도 실행하지 않습니다.
+ * 다음 묶음을 읽기 전에 chunkCleaner (보통 EntityManager::clear) 를 실행해 영속성 컨텍스트가 커지지 않게 합니다.
+ * filter 로 걸러진 행도 다음 묶음의 기준 id 와 종료 판단에는 포함됩니다.
  */
 @Slf4j
 public class PagedAlertIterator<T> implements Iterator<ActivityAlert> {
-    
-    private final Function<Pageable, Page<T>> pageLoader;
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final BiFunction<Long, Pageable, List<T>> chunkLoader;
+    private final Function<T, Long> idExtractor;
     private final Function<T, ActivityAlert> alertMapper;
+    private final Runnable chunkCleaner;
+    private final Predicate<T> filter;
+    private final int chunkSize;
     private Iterator<T> currentIterator = Collections.emptyIterator();
-    private int currentPage = 0;
-    private boolean hasMorePages = true;
-    private static final int PAGE_SIZE = 500;
-    
-    public PagedAlertIterator(Function<Pageable, Page<T>> pageLoader,
-                             Function<T, ActivityAlert> alertMapper) {
-        this.pageLoader = pageLoader;
+    private long lastId = 0L;
+    private int loadedChunks = 0;
+    private boolean hasMoreChunks = true;
+
+    /**
+     * @param chunkLoader (lastId, 크기) 로 id 오름차순 다음 묶음을 읽는 함수
+     * @param idExtractor 읽은 행의 id (다음 묶음의 기준)
+     * @param alertMapper 행 → 알림 변환
+     * @param chunkCleaner 다음 묶음을 읽기 전에 실행 (이전 묶음 엔티티 해제)
+     */
+    public PagedAlertIterator(BiFunction<Long, Pageable, List<T>> chunkLoader,
+                             Function<T, Long> idExtractor,
+                             Function<T, ActivityAlert> alertMapper,
+                             Runnable chunkCleaner) {
+        this(chunkLoader, idExtractor, alertMapper, chunkCleaner, row -> true, CHUNK_SIZE);
+    }
+
+    /**
+     * @param filter 알림을 만들 행만 통과 (예: 알림을 받을 수 있는 사용자)
+     */
+    public PagedAlertIterator(BiFunction<Long, Pageable, List<T>> chunkLoader,
+                             Function<T, Long> idExtractor,
+                             Function<T, ActivityAlert> alertMapper,
+                             Runnable chunkCleaner,
+                             Predicate<T> filter) {
+        this(chunkLoader, idExtractor, alertMapper, chunkCleaner, filter, CHUNK_SIZE);
+    }
+
+    PagedAlertIterator(BiFunction<Long, Pageable, List<T>> chunkLoader,
+                       Function<T, Long> idExtractor,
+                       Function<T, ActivityAlert> alertMapper,
+                       Runnable chunkCleaner,
+                       Predicate<T> filter,
+                       int chunkSize) {
+        this.chunkLoader = chunkLoader;
+        this.idExtractor = idExtractor;
         this.alertMapper = alertMapper;
-        loadNextPage();
+        this.chunkCleaner = chunkCleaner;
+        this.filter = filter;
+        this.chunkSize = chunkSize;
     }
-    
-    private void loadNextPage() {
-        if (!hasMorePages) {
-            return;
+
+    private void loadNextChunk() {
+        if (loadedChunks > 0) {
+            chunkCleaner.run();
+        }
+        List<T> chunk = chunkLoader.apply(lastId, PageRequest.of(0, chunkSize));
+        loadedChunks++;
+        log.debug("Loaded chunk: {} (after id {}), size: {}", loadedChunks, lastId, chunk.size());
+
+        if (!chunk.isEmpty()) {
+            lastId = idExtractor.apply(chunk.get(chunk.size() - 1));
         }
-        log.info("Loading page: {}", currentPage);
-        Page<T> page = pageLoader.apply(PageRequest.of(currentPage++, PAGE_SIZE));
-        log.info("Loaded pages: {}, Current page size: {}", page.getTotalPages(), page.getNumberOfElements());
-        currentIterator = page.getContent().iterator();
-        hasMorePages = page.hasNext();
+        currentIterator = chunk.stream().filter(filter).iterator();
+        hasMoreChunks = chunk.size() == chunkSize;
     }
-    
+
     @Override
     public boolean hasNext() {
-        if (currentIterator.hasNext()) {
-            return true;
+        while (!currentIterator.hasNext() && hasMoreChunks) {
+            loadNextChunk();
         }
-        
-        if (hasMorePages) {
-            loadNextPage();
-            return currentIterator.hasNext();
-        }
-        
-        return false;
+        return currentIterator.hasNext();
     }
-    
+
     @Override
     public ActivityAlert next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
         return alertMapper.apply(currentIterator.next());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.example.cherrydan.fcm.domain;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+
+/**
+ * FCM 토큰 단위 전송 결과 분류
+ */
+public enum FcmSendOutcome {
+
+    SUCCESS,
+    INVALID_TOKEN,  // 토큰 비활성화 대상
+    RETRYABLE,      // 일시적 오류, 재시도 대상
+    FAILED;         // 재시도해도 성공할 수 없는 오류
+
+    public static FcmSendOutcome of(FirebaseMessagingException e) {
+        if (e == null) {
+            return RETRYABLE;
+        }
+        return of(e.getMessagingErrorCode());
+    }
+
+    public static FcmSendOutcome of(MessagingErrorCode errorCode) {
+        if (errorCode == null) {
+            return RETRYABLE;
+        }
+        return switch (errorCode) {
+            case INVALID_ARGUMENT, UNREGISTERED -> INVALID_TOKEN;
+            case UNAVAILABLE, QUOTA_EXCEEDED, INTERNAL -> RETRYABLE;
+            default -> FAILED;
+        };
+    }
+}
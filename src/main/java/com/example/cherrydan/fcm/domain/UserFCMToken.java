@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(
-    name = "user_devices")
+    name = "user_devices",
+    indexes = @Index(name = "idx_user_devices_updated_at", columnList = "updated_at"))
 @Getter
 @Builder
 @AllArgsConstructor
@@ -0,0 +1,36 @@
+package com.example.cherrydan.fcm.dto;
+
+import com.example.cherrydan.fcm.domain.FcmSendOutcome;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.SendResponse;
+
+/**
+ * 메시지(토큰) 단위 FCM 전송 결과
+ */
+public record FcmSendResult(FcmSendOutcome outcome, String errorCode) {
+
+    private static final FcmSendResult SUCCESS = new FcmSendResult(FcmSendOutcome.SUCCESS, null);
+
+    public static FcmSendResult from(SendResponse response) {
+        if (response.isSuccessful()) {
+            return SUCCESS;
+        }
+        return from(response.getException());
+    }
+
+    public static FcmSendResult from(FirebaseMessagingException e) {
+        String errorCode = e != null && e.getMessagingErrorCode() != null ? e.getMessagingErrorCode().name() : "UNKNOWN";
+        return new FcmSendResult(FcmSendOutcome.of(e), errorCode);
+    }
+
+    /**
+     * 요청 자체가 실패해 개별 결과가 없는 경우 (네트워크 오류 등)
+     */
+    public static FcmSendResult requestFailed() {
+        return new FcmSendResult(FcmSendOutcome.RETRYABLE, "REQUEST_FAILED");
+    }
+
+    public boolean isSuccessful() {
+        return outcome == FcmSendOutcome.SUCCESS;
+    }
+}
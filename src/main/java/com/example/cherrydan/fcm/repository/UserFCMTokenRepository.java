@@ -1,12 +1,16 @@
 package com.example.cherrydan.fcm.repository;
 
 import com.example.cherrydan.fcm.domain.UserFCMToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -67,6 +71,41 @@ public interface UserFCMTokenRepository extends JpaRepository<UserFCMToken, Long
     @Query("SELECT t FROM UserFCMToken t WHERE t.userId IN :userIds AND t.isActive = true AND t.isAllowed = true")
     List<UserFCMToken> findActiveTokensByUserIds(@Param("userIds") List<Long> userIds);
 
+    /**
+     * 전송 성공한 토큰들의 마지막 사용 시간 일괄 업데이트
+     * @param ids 토큰 ID 리스트
+     * @param usedAt 사용 시간
+     * @return 업데이트된 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserFCMToken t SET t.lastUsedAt = :usedAt WHERE t.id IN :ids")
+    int updateLastUsedAtByIds(@Param("ids") Collection<Long> ids, @Param("usedAt") LocalDateTime usedAt);
+
+    /**
+     * 무효한 토큰들 일괄 비활성화 (다른 인스턴스의 토큰 레지스트리가 변경분으로 읽도록 updatedAt 갱신)
+     * @param ids 토큰 ID 리스트
+     * @param updatedAt 수정 시간
+     * @return 비활성화된 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserFCMToken t SET t.isActive = false, t.updatedAt = :updatedAt WHERE t.id IN :ids AND t.isActive = true")
+    int deactivateByIds(@Param("ids") Collection<Long> ids, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 토큰 레지스트리 적재용: 활성화되고 알림이 허용된 토큰을 id 순으로 조회 (keyset 페이징)
+     */
+    @Query("SELECT t FROM UserFCMToken t WHERE t.isActive = true AND t.isAllowed = true AND t.id > :lastId ORDER BY t.id")
+    List<UserFCMToken> findReachableTokensAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 토큰 레지스트리 변경분 반영용 (비활성화/알림 거부된 토큰 포함)
+     * 생성 시에도 updatedAt 이 채워지므로 updatedAt 만으로 판단합니다.
+     */
+    @Query("SELECT t FROM UserFCMToken t WHERE t.updatedAt >= :since ORDER BY t.updatedAt")
+    List<UserFCMToken> findChangedSince(@Param("since") LocalDateTime since);
+
     @Modifying
     @Query("DELETE FROM UserFCMToken t WHERE t.userId = :userId")
     void deleteByUserId(@Param("userId") Long userId);
@@ -0,0 +1,37 @@
+package com.example.cherrydan.fcm.scheduler;
+
+import com.example.cherrydan.fcm.service.FcmTokenRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FcmTokenRegistryScheduler {
+
+    private final FcmTokenRegistry tokenRegistry;
+
+    @Scheduled(fixedDelayString = "${fcm.token-registry.refresh-interval-ms:60000}",
+               initialDelayString = "${fcm.token-registry.refresh-interval-ms:60000}")
+    public void refreshRegistry() {
+        try {
+            tokenRegistry.refresh();
+        } catch (Exception e) {
+            log.error("FCM 토큰 레지스트리 변경분 반영 실패", e);
+        }
+    }
+
+    /**
+     * 워터마크로 잡히지 않는 변경(회원 데이터 삭제 등)을 정리하기 위한 전체 재적재 (07:00 활동 알림 생성 전)
+     */
+    @Scheduled(cron = "${fcm.token-registry.rebuild-cron:0 50 6 * * ?}", zone = "Asia/Seoul")
+    public void rebuildRegistry() {
+        try {
+            tokenRegistry.rebuild();
+        } catch (Exception e) {
+            log.error("FCM 토큰 레지스트리 전체 재적재 실패", e);
+        }
+    }
+}
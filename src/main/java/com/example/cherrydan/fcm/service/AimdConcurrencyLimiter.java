@@ -0,0 +1,80 @@
+package com.example.cherrydan.fcm.service;
+
+/**
+ * AIMD 방식 동시 전송 수 제한
+ * 묶음이 정상 처리되면 상한을 1 늘리고(additive increase), 과부하 응답(QUOTA_EXCEEDED, UNAVAILABLE 등)이면
+ * 절반으로 줄입니다(multiplicative decrease).
+ * 같은 과부하 구간에 보낸 여러 묶음이 한꺼번에 실패해도 한 번만 줄이도록, 마지막으로 줄인 뒤에
+ * 시작한 묶음의 실패만 반영합니다.
+ */
+final class AimdConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private int limit;
+    private int inFlight;
+    private long epoch;
+
+    AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("invalid limits: min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 자리가 날 때까지 기다린 뒤 점유합니다. 인터럽트되어도 점유할 때까지 기다리고 인터럽트 상태는 유지합니다.
+     *
+     * @param onBlocked 바로 점유하지 못해 기다리게 될 때 한 번 실행
+     * @return release 에 넘길 점유 시점
+     */
+    synchronized long acquire(Runnable onBlocked) {
+        boolean interrupted = false;
+        if (inFlight >= limit) {
+            onBlocked.run();
+        }
+        while (inFlight >= limit) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        inFlight++;
+        return epoch;
+    }
+
+    /**
+     * @param acquiredEpoch acquire 가 돌려준 점유 시점
+     * @param overloaded 과부하 응답을 받았는지
+     * @return 이번 반납으로 상한을 줄였는지
+     */
+    synchronized boolean release(long acquiredEpoch, boolean overloaded) {
+        inFlight--;
+        boolean decreased = false;
+        if (overloaded) {
+            if (acquiredEpoch == epoch) {
+                limit = Math.max(minLimit, limit / 2);
+                epoch++;
+                decreased = true;
+            }
+        } else if (limit < maxLimit) {
+            limit++;
+        }
+        notifyAll();
+        return decreased;
+    }
+
+    synchronized int limit() {
+        return limit;
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+}
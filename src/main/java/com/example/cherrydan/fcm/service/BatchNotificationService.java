@@ -0,0 +1,240 @@
+package com.example.cherrydan.fcm.service;
+
+import com.example.cherrydan.fcm.domain.FcmSendOutcome;
+import com.example.cherrydan.fcm.dto.FcmSendResult;
+import com.example.cherrydan.fcm.dto.NotificationRequest;
+import com.example.cherrydan.fcm.service.FcmTokenRegistry.TokenRef;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MulticastMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+/**
+ * 배치 알림 전송 서비스
+ * 알림마다 토큰 조회와 FCM 호출을 반복하지 않고, 수신자 토큰을 FcmTokenRegistry 에서 찾은 뒤
+ * 토큰별 메시지를 sendEach 로 500건씩 묶어 제한된 동시성으로 전송합니다.
+ * DB 트랜잭션 밖에서 호출하는 것을 전제로 하며, 토큰 상태 갱신은 FcmTokenBookkeeper 가 비동기 일괄 UPDATE 로 처리합니다.
+ */
+@Slf4j
+@Service
+public class BatchNotificationService {
+
+    private static final int SEND_EACH_LIMIT = 500;
+
+    private final FcmTokenRegistry tokenRegistry;
+    private final NotificationService notificationService;
+    private final FcmSender fcmSender;
+    private final FcmTokenBookkeeper tokenBookkeeper;
+
+    public BatchNotificationService(
+            FcmTokenRegistry tokenRegistry,
+            NotificationService notificationService,
+            FcmSender fcmSender,
+            FcmTokenBookkeeper tokenBookkeeper) {
+        this.tokenRegistry = tokenRegistry;
+        this.notificationService = notificationService;
+        this.fcmSender = fcmSender;
+        this.tokenBookkeeper = tokenBookkeeper;
+    }
+
+    /**
+     * 같은 내용으로 보낼 수신 사용자 묶음
+     */
+    public record MulticastTarget(NotificationRequest request, List<Long> userIds) {
+    }
+
+    /**
+     * 한 번의 FCM 호출로 보낸 토큰 묶음 (결과와 같은 순서)
+     */
+    private record SentBatch(CompletableFuture<List<FcmSendResult>> results, List<Long> tokenIds, List<Long> userIds) {
+    }
+
+    /**
+     * 항목별 알림을 해당 사용자의 모든 활성 토큰으로 전송합니다.
+     *
+     * @param items 전송할 항목 (예: 활동 알림)
+     * @param userIdOf 항목의 수신 사용자 ID
+     * @param requestOf 항목의 알림 내용
+     * @return 하나 이상의 토큰으로 전송에 성공한 항목
+     */
+    public <T> List<T> sendToUsers(List<T> items, Function<T, Long> userIdOf, Function<T, NotificationRequest> requestOf) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+
+        List<Message> messages = new ArrayList<>();
+        List<TokenRef> messageTokens = new ArrayList<>();
+        List<Integer> messageItems = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            List<TokenRef> tokens = tokenRegistry.tokensOf(userIdOf.apply(item));
+            if (tokens.isEmpty()) {
+                continue;
+            }
+            NotificationRequest request = requestOf.apply(item);
+            for (TokenRef token : tokens) {
+                messages.add(notificationService.buildMessage(token.fcmToken(), request));
+                messageTokens.add(token);
+                messageItems.add(i);
+            }
+        }
+
+        if (messages.isEmpty()) {
+            log.info("배치 알림 전송 대상 토큰 없음 - 항목: {}건", items.size());
+            return List.of();
+        }
+
+        List<FcmSendResult> results = sendEach(messages);
+
+        BitSet deliveredItems = new BitSet(items.size());
+        LongStream.Builder successfulTokenIds = LongStream.builder();
+        LongStream.Builder invalidTokenIds = LongStream.builder();
+        int failureCount = 0;
+        int invalidCount = 0;
+        for (int i = 0; i < results.size(); i++) {
+            FcmSendResult result = results.get(i);
+            TokenRef token = messageTokens.get(i);
+            if (result.isSuccessful()) {
+                deliveredItems.set(messageItems.get(i));
+                successfulTokenIds.add(token.id());
+                continue;
+            }
+            failureCount++;
+            if (result.outcome() == FcmSendOutcome.INVALID_TOKEN) {
+                invalidTokenIds.add(token.id());
+                invalidCount++;
+            } else {
+                log.debug("토큰 전송 실패: {}", result.errorCode());
+            }
+        }
+
+        tokenBookkeeper.record(successfulTokenIds.build().toArray(), invalidTokenIds.build().toArray());
+
+        List<T> delivered = new ArrayList<>(deliveredItems.cardinality());
+        deliveredItems.stream().forEach(i -> delivered.add(items.get(i)));
+
+        log.info("배치 알림 전송 완료 - 항목: {}건 중 {}건 성공, 메시지: {}건 (실패: {}), 무효 토큰: {}",
+                items.size(), delivered.size(), messages.size(), failureCount, invalidCount);
+        return delivered;
+    }
+
+    /**
+     * 같은 내용의 알림을 여러 사용자에게 전송합니다.
+     * 내용별 토큰이 500개 단위로 꽉 차는 부분은 멀티캐스트로 보내고, 남는 작은 묶음은 내용이 달라도
+     * 토큰별 메시지로 모아 sendEach 500건 단위로 보내므로 내용 종류가 많아도 FCM 호출 수는 토큰 수 / 500 수준입니다.
+     *
+     * @param targets 내용별 수신 사용자 (사용자는 한 묶음에만 포함되어야 함)
+     * @return 하나 이상의 토큰으로 전송에 성공한 사용자 ID
+     */
+    public Set<Long> multicastToUsers(List<MulticastTarget> targets) {
+        List<Long> userIds = targets.stream().flatMap(target -> target.userIds().stream()).distinct().toList();
+
+        List<SentBatch> batches = new ArrayList<>();
+        List<Message> packedMessages = new ArrayList<>();
+        List<Long> packedTokenIds = new ArrayList<>();
+        List<Long> packedUsers = new ArrayList<>();
+        int tokenCount = 0;
+        int multicastCalls = 0;
+        for (MulticastTarget target : targets) {
+            List<String> tokens = new ArrayList<>();
+            List<Long> tokenIds = new ArrayList<>();
+            List<Long> tokenUsers = new ArrayList<>();
+            for (Long userId : target.userIds()) {
+                for (TokenRef token : tokenRegistry.tokensOf(userId)) {
+                    tokens.add(token.fcmToken());
+                    tokenIds.add(token.id());
+                    tokenUsers.add(userId);
+                }
+            }
+            if (tokens.isEmpty()) {
+                continue;
+            }
+            tokenCount += tokens.size();
+
+            int fullChunksEnd = tokens.size() - tokens.size() % SEND_EACH_LIMIT;
+            if (fullChunksEnd > 0) {
+                Function<List<String>, MulticastMessage> template = notificationService.multicastTemplate(target.request());
+                for (int from = 0; from < fullChunksEnd; from += SEND_EACH_LIMIT) {
+                    int to = from + SEND_EACH_LIMIT;
+                    batches.add(new SentBatch(
+                            fcmSender.sendEachForMulticast(template.apply(tokens.subList(from, to)), SEND_EACH_LIMIT),
+                            tokenIds.subList(from, to), tokenUsers.subList(from, to)));
+                    multicastCalls++;
+                }
+            }
+            if (fullChunksEnd == tokens.size()) {
+                continue;
+            }
+
+            Function<String, Message> template = notificationService.messageTemplate(target.request());
+            for (int i = fullChunksEnd; i < tokens.size(); i++) {
+                packedMessages.add(template.apply(tokens.get(i)));
+                packedTokenIds.add(tokenIds.get(i));
+                packedUsers.add(tokenUsers.get(i));
+                if (packedMessages.size() == SEND_EACH_LIMIT) {
+                    batches.add(new SentBatch(fcmSender.sendEach(packedMessages), packedTokenIds, packedUsers));
+                    packedMessages = new ArrayList<>();
+                    packedTokenIds = new ArrayList<>();
+                    packedUsers = new ArrayList<>();
+                }
+            }
+        }
+        if (!packedMessages.isEmpty()) {
+            batches.add(new SentBatch(fcmSender.sendEach(packedMessages), packedTokenIds, packedUsers));
+        }
+
+        if (batches.isEmpty()) {
+            log.info("멀티캐스트 전송 대상 토큰 없음 - 내용: {}건, 사용자: {}명", targets.size(), userIds.size());
+            return Set.of();
+        }
+
+        Set<Long> deliveredUsers = new HashSet<>();
+        LongStream.Builder successfulTokenIds = LongStream.builder();
+        LongStream.Builder invalidTokenIds = LongStream.builder();
+        int invalidCount = 0;
+        for (SentBatch batch : batches) {
+            List<FcmSendResult> results = batch.results().join();
+            for (int j = 0; j < results.size(); j++) {
+                FcmSendResult result = results.get(j);
+                if (result.isSuccessful()) {
+                    deliveredUsers.add(batch.userIds().get(j));
+                    successfulTokenIds.add(batch.tokenIds().get(j));
+                } else if (result.outcome() == FcmSendOutcome.INVALID_TOKEN) {
+                    invalidTokenIds.add(batch.tokenIds().get(j));
+                    invalidCount++;
+                }
+            }
+        }
+
+        tokenBookkeeper.record(successfulTokenIds.build().toArray(), invalidTokenIds.build().toArray());
+
+        log.info("멀티캐스트 전송 완료 - 내용: {}건, FCM 호출: {}회 (멀티캐스트 {}회), 토큰: {}개, 사용자: {}명 중 {}명 성공, 무효 토큰: {}",
+                targets.size(), batches.size(), multicastCalls, tokenCount, userIds.size(), deliveredUsers.size(), invalidCount);
+        return deliveredUsers;
+    }
+
+    /**
+     * 메시지를 sendEach 로 500건씩 나눠 FcmSender 의 예산/동시성 제한 안에서 전송합니다.
+     *
+     * @return 메시지 순서와 같은 순서의 전송 결과 (요청 자체가 실패한 묶음은 재시도 가능 결과로 채움)
+     */
+    public List<FcmSendResult> sendEach(List<Message> messages) {
+        List<CompletableFuture<List<FcmSendResult>>> futures = new ArrayList<>();
+        for (int from = 0; from < messages.size(); from += SEND_EACH_LIMIT) {
+            futures.add(fcmSender.sendEach(messages.subList(from, Math.min(from + SEND_EACH_LIMIT, messages.size()))));
+        }
+
+        List<FcmSendResult> results = new ArrayList<>(messages.size());
+        futures.forEach(future -> results.addAll(future.join()));
+        return results;
+    }
+}
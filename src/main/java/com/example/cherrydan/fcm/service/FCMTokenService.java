@@ -27,6 +27,7 @@ import java.util.stream.Collectors;
 public class FCMTokenService {
     
     private final UserFCMTokenRepository tokenRepository;
+    private final FcmTokenRegistry tokenRegistry;
     
     /**
      * 특정 디바이스의 FCM 토큰 수정
@@ -43,6 +44,7 @@ public class FCMTokenService {
             }
             
             token.updateFcmToken(newFcmToken);
+            tokenRegistry.applyAfterCommit(token);
             log.info("FCM 토큰 수정 완료 - 사용자: {}, 디바이스 ID: {}, 디바이스: {}", 
                     userId, deviceId, token.getDeviceType());
             
@@ -77,6 +79,7 @@ public class FCMTokenService {
             if (request.getIsAllowed() != null) {
                 token.updateAllowedStatus(request.getIsAllowed());
             }
+            tokenRegistry.applyAfterCommit(token);
             
             log.info("FCM 토큰 및 상태 수정 완료 - 사용자: {}, 디바이스 ID: {}", userId, request.getDeviceId());
             
@@ -119,6 +122,7 @@ public class FCMTokenService {
 
             userFCMToken.activate();
             tokenRepository.save(userFCMToken);
+            tokenRegistry.applyAfterCommit(userFCMToken);
 
             log.info("{} FCM 토큰 - 사용자: {}, 디바이스: {}",
                     isNewToken ? "새" : "업데이트",
@@ -158,6 +162,7 @@ public class FCMTokenService {
     public void deactivateUserTokens(Long userId) {
         List<UserFCMToken> tokens = tokenRepository.findByUserId(userId);
         tokens.forEach(UserFCMToken::deactivate);
+        tokenRegistry.removeUserAfterCommit(userId);
         log.info("사용자 {}의 모든 FCM 토큰 비활성화 완료: {} 개", userId, tokens.size());
     }
 
@@ -169,6 +174,7 @@ public class FCMTokenService {
     public void activateUserTokens(Long userId) {
         List<UserFCMToken> tokens = tokenRepository.findByUserId(userId);
         tokens.forEach(UserFCMToken::activate);
+        tokens.forEach(tokenRegistry::applyAfterCommit);
         log.info("사용자 {}의 모든 FCM 토큰 활성화 완료: {} 개", userId, tokens.size());
     }
 }
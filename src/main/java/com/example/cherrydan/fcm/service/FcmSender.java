@@ -0,0 +1,165 @@
+package com.example.cherrydan.fcm.service;
+
+import com.example.cherrydan.fcm.dto.FcmSendResult;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MulticastMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * FCM 전송 창구
+ * 모든 묶음 전송(sendEach, sendEachForMulticast)이 이곳을 거치며, 전체 초당 메시지 예산(토큰 버킷)과
+ * AIMD 동시 전송 수 제한 안에서 fcmSendExecutor 로 보냅니다.
+ * 자리나 예산이 없으면 호출한 스레드가 기다리므로 호출부는 묶음을 순서대로 넘기기만 하면 됩니다.
+ */
+@Slf4j
+@Component
+public class FcmSender {
+
+    private static final Set<String> OVERLOAD_ERROR_CODES = Set.of("QUOTA_EXCEEDED", "UNAVAILABLE", "REQUEST_FAILED");
+
+    private final Supplier<FirebaseMessaging> messaging;
+    private final Executor fcmSendExecutor;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final AimdConcurrencyLimiter concurrencyLimiter;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Counter rateThrottledCounter;
+    private final Counter concurrencyThrottledCounter;
+    private final Counter backoffCounter;
+
+    @Autowired
+    public FcmSender(
+            @Qualifier("fcmSendExecutor") Executor fcmSendExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${fcm.send.rate-per-second:2000}") int ratePerSecond,
+            @Value("${fcm.send.initial-concurrency:2}") int initialConcurrency,
+            @Value("${fcm.send.max-concurrency:8}") int maxConcurrency) {
+        this(FirebaseMessaging::getInstance, fcmSendExecutor, meterRegistry,
+            ratePerSecond, initialConcurrency, maxConcurrency, System::nanoTime);
+    }
+
+    FcmSender(Supplier<FirebaseMessaging> messaging,
+              Executor fcmSendExecutor,
+              MeterRegistry meterRegistry,
+              int ratePerSecond,
+              int initialConcurrency,
+              int maxConcurrency,
+              LongSupplier nanoClock) {
+        this.messaging = messaging;
+        this.fcmSendExecutor = fcmSendExecutor;
+        this.rateLimiter = new TokenBucketRateLimiter(ratePerSecond, nanoClock);
+        this.concurrencyLimiter = new AimdConcurrencyLimiter(initialConcurrency, 1, maxConcurrency);
+        this.rateThrottledCounter = Counter.builder("fcm.send.throttled").tag("reason", "rate").register(meterRegistry);
+        this.concurrencyThrottledCounter = Counter.builder("fcm.send.throttled").tag("reason", "concurrency").register(meterRegistry);
+        this.backoffCounter = Counter.builder("fcm.send.throttled").tag("reason", "backoff").register(meterRegistry);
+        Gauge.builder("fcm.send.in_flight", concurrencyLimiter, AimdConcurrencyLimiter::inFlight).register(meterRegistry);
+        Gauge.builder("fcm.send.concurrency.limit", concurrencyLimiter, AimdConcurrencyLimiter::limit).register(meterRegistry);
+        Gauge.builder("fcm.send.queue.depth", waiting, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface FcmCall {
+        BatchResponse send(FirebaseMessaging messaging) throws FirebaseMessagingException;
+    }
+
+    /**
+     * 토큰별 메시지 묶음(최대 500건) 전송
+     *
+     * @return 메시지 순서와 같은 순서의 결과 (요청 자체가 실패하면 재시도 가능 결과로 채움)
+     */
+    public CompletableFuture<List<FcmSendResult>> sendEach(List<Message> messages) {
+        return submit(messages.size(), firebaseMessaging -> firebaseMessaging.sendEach(messages));
+    }
+
+    /**
+     * 같은 내용의 멀티캐스트 묶음(최대 500 토큰) 전송
+     *
+     * @return 토큰 순서와 같은 순서의 결과
+     */
+    public CompletableFuture<List<FcmSendResult>> sendEachForMulticast(MulticastMessage message, int tokenCount) {
+        return submit(tokenCount, firebaseMessaging -> firebaseMessaging.sendEachForMulticast(message));
+    }
+
+    int concurrencyLimit() {
+        return concurrencyLimiter.limit();
+    }
+
+    private CompletableFuture<List<FcmSendResult>> submit(int messageCount, FcmCall call) {
+        long epoch = admit(messageCount);
+        try {
+            return CompletableFuture.supplyAsync(() -> send(call, messageCount), fcmSendExecutor)
+                .whenComplete((results, error) -> release(epoch, results));
+        } catch (RuntimeException e) {
+            concurrencyLimiter.release(epoch, false);
+            throw e;
+        }
+    }
+
+    /**
+     * 동시 전송 자리와 메시지 예산을 얻을 때까지 호출 스레드에서 기다립니다.
+     */
+    private long admit(int messageCount) {
+        waiting.incrementAndGet();
+        try {
+            long epoch = concurrencyLimiter.acquire(concurrencyThrottledCounter::increment);
+            long waitNanos = rateLimiter.reserve(messageCount);
+            if (waitNanos > 0) {
+                rateThrottledCounter.increment();
+                sleepNanos(waitNanos);
+            }
+            return epoch;
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private List<FcmSendResult> send(FcmCall call, int messageCount) {
+        try {
+            return call.send(messaging.get()).getResponses().stream()
+                .map(FcmSendResult::from)
+                .toList();
+        } catch (FirebaseMessagingException e) {
+            log.error("FCM 묶음 전송 실패 - {}건: {}", messageCount, e.getMessage());
+        } catch (Exception e) {
+            log.error("FCM 묶음 전송 중 오류 - {}건: {}", messageCount, e.getMessage(), e);
+        }
+        return Collections.nCopies(messageCount, FcmSendResult.requestFailed());
+    }
+
+    private void release(long epoch, List<FcmSendResult> results) {
+        boolean overloaded = results == null || results.stream()
+            .anyMatch(result -> result.errorCode() != null && OVERLOAD_ERROR_CODES.contains(result.errorCode()));
+        if (concurrencyLimiter.release(epoch, overloaded)) {
+            backoffCounter.increment();
+            log.warn("FCM 과부하 응답으로 동시 전송 수를 {} 으로 줄입니다.", concurrencyLimiter.limit());
+        }
+    }
+
+    private static void sleepNanos(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            // 종료 중이면 예산보다 조금 일찍 보내더라도 바로 진행
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.cherrydan.fcm.service;
+
+import com.example.cherrydan.fcm.repository.UserFCMTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 전송 후 FCM 토큰 상태 갱신
+ * 전송 루프가 모은 토큰 ID 를 받아 마지막 사용 시간 갱신과 무효 토큰 비활성화를 묶음 단위 UPDATE 로 처리합니다.
+ * 전송 결과를 돌려주는 흐름을 막지 않도록 tokenBookkeepingExecutor 에서 비동기로 실행합니다.
+ */
+@Slf4j
+@Service
+public class FcmTokenBookkeeper {
+
+    private final UserFCMTokenRepository tokenRepository;
+    private final FcmTokenRegistry tokenRegistry;
+    private final int chunkSize;
+    private final Counter lastUsedCounter;
+    private final Counter deactivatedCounter;
+
+    public FcmTokenBookkeeper(
+            UserFCMTokenRepository tokenRepository,
+            FcmTokenRegistry tokenRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${fcm.token-bookkeeping.chunk-size:1000}") int chunkSize) {
+        this.tokenRepository = tokenRepository;
+        this.tokenRegistry = tokenRegistry;
+        this.chunkSize = chunkSize;
+        this.lastUsedCounter = Counter.builder("fcm.token.bookkeeping.rows").tag("action", "last_used").register(meterRegistry);
+        this.deactivatedCounter = Counter.builder("fcm.token.bookkeeping.rows").tag("action", "deactivated").register(meterRegistry);
+    }
+
+    /**
+     * @param successfulTokenIds 전송에 성공한 토큰 ID (중복 허용)
+     * @param invalidTokenIds 무효 응답을 받은 토큰 ID (중복 허용)
+     */
+    @Async("tokenBookkeepingExecutor")
+    public void record(long[] successfulTokenIds, long[] invalidTokenIds) {
+        LocalDateTime usedAt = LocalDateTime.now();
+        try {
+            // 정렬된 순서로 잠그도록 해 동시에 도는 갱신끼리 교착되지 않게 함
+            for (List<Long> chunk : chunks(sortedDistinct(successfulTokenIds))) {
+                lastUsedCounter.increment(tokenRepository.updateLastUsedAtByIds(chunk, usedAt));
+            }
+            long[] invalid = sortedDistinct(invalidTokenIds);
+            for (List<Long> chunk : chunks(invalid)) {
+                deactivatedCounter.increment(tokenRepository.deactivateByIds(chunk, usedAt));
+            }
+            tokenRegistry.removeTokens(invalid);
+        } catch (Exception e) {
+            // 토큰 상태 갱신 실패로 이미 전송한 알림의 결과를 버리지 않음
+            log.error("FCM 토큰 상태 일괄 갱신 실패 - 성공: {}개, 무효: {}개: {}",
+                    successfulTokenIds.length, invalidTokenIds.length, e.getMessage(), e);
+        }
+    }
+
+    private static long[] sortedDistinct(long[] tokenIds) {
+        return Arrays.stream(tokenIds).distinct().sorted().toArray();
+    }
+
+    private List<List<Long>> chunks(long[] sorted) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < sorted.length; from += chunkSize) {
+            chunks.add(Arrays.stream(sorted, from, Math.min(from + chunkSize, sorted.length)).boxed().toList());
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.cherrydan.fcm.service;
+
+import com.example.cherrydan.fcm.domain.UserFCMToken;
+import com.example.cherrydan.fcm.repository.UserFCMTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 발송 가능 FCM 토큰 인메모리 레지스트리
+ *
+ * 알림 생성/발송마다 user_devices 를 조인하거나 조회하던 것을 대체합니다.
+ * - 활성 + 알림 허용 토큰만 사용자 ID → 작은 TokenRef 배열로 보관 (무효 토큰 제외용 토큰 ID → 사용자 ID 색인 포함)
+ * - 기동 시 전체 적재, 이후 updatedAt 워터마크 기준으로 변경분만 반영 (다른 인스턴스의 변경 포함)
+ * - 이 인스턴스의 토큰 등록/수정/비활성화는 커밋 직후 바로 반영
+ * - 워터마크로 잡히지 않는 변경(직접 삭제 등)은 주기적 전체 재적재로 정리
+ */
+@Slf4j
+@Component
+public class FcmTokenRegistry {
+
+    private static final int LOAD_CHUNK_SIZE = 5000;
+    private static final TokenRef[] NO_TOKENS = new TokenRef[0];
+
+    /**
+     * 워터마크를 이만큼 앞당겨 다시 읽습니다.
+     * - 재적재 중에 커밋된 변경이 교체로 덮이지 않도록
+     * - 먼저 flush 됐지만 더 늦게 커밋된 행(updatedAt 이 이미 읽은 행보다 이전)을 다음 변경분 조회에서 놓치지 않도록
+     */
+    private static final long WATERMARK_OVERLAP_SECONDS = 60;
+
+    private final UserFCMTokenRepository tokenRepository;
+
+    private volatile Map<Long, TokenRef[]> tokensByUser = new ConcurrentHashMap<>();
+    private volatile Map<Long, Long> userByTokenId = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+    private LocalDateTime watermark;
+
+    public FcmTokenRegistry(UserFCMTokenRepository tokenRepository, MeterRegistry meterRegistry) {
+        this.tokenRepository = tokenRepository;
+        Gauge.builder("fcm.token.registry.users", this, registry -> registry.tokensByUser.size())
+            .description("Users with at least one active, allowed FCM token")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 발송 대상 토큰 (user_devices.id, fcm_token)
+     */
+    public record TokenRef(long id, String fcmToken) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("FCM 토큰 레지스트리 초기 적재 실패 - 첫 사용 시 다시 적재합니다.", e);
+        }
+    }
+
+    /**
+     * 알림을 받을 수 있는(활성 + 허용 토큰이 있는) 사용자인지 확인합니다.
+     */
+    public boolean isReachable(Long userId) {
+        ensureReady();
+        return userId != null && tokensByUser.containsKey(userId);
+    }
+
+    /**
+     * 사용자의 발송 대상 토큰
+     */
+    public List<TokenRef> tokensOf(Long userId) {
+        ensureReady();
+        return List.of(tokensByUser.getOrDefault(userId, NO_TOKENS));
+    }
+
+    /**
+     * 발송 가능 토큰 전체를 다시 적재합니다.
+     */
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime loadStartedAt = LocalDateTime.now();
+
+        Map<Long, List<TokenRef>> loaded = new HashMap<>();
+        long lastId = 0L;
+        int tokenCount = 0;
+        List<UserFCMToken> chunk;
+        do {
+            chunk = tokenRepository.findReachableTokensAfterId(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (UserFCMToken token : chunk) {
+                if (hasToken(token)) {
+                    loaded.computeIfAbsent(token.getUserId(), id -> new ArrayList<>(1))
+                        .add(new TokenRef(token.getId(), token.getFcmToken()));
+                    tokenCount++;
+                }
+                lastId = token.getId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        Map<Long, TokenRef[]> rebuilt = new ConcurrentHashMap<>(Math.max(16, loaded.size() * 4 / 3 + 1));
+        Map<Long, Long> rebuiltOwners = new ConcurrentHashMap<>(Math.max(16, tokenCount * 4 / 3 + 1));
+        loaded.forEach((userId, refs) -> {
+            rebuilt.put(userId, refs.toArray(NO_TOKENS));
+            refs.forEach(ref -> rebuiltOwners.put(ref.id(), userId));
+        });
+        tokensByUser = rebuilt;
+        userByTokenId = rebuiltOwners;
+        watermark = loadStartedAt.minusSeconds(WATERMARK_OVERLAP_SECONDS);
+        ready = true;
+
+        log.info("FCM 토큰 레지스트리 전체 적재 완료 - 사용자: {}명, 토큰: {}개, {}ms",
+            rebuilt.size(), tokenCount, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 워터마크 이후 수정된 토큰만 반영합니다.
+     * 다음 워터마크는 읽은 행 중 가장 최근 updatedAt 에서 WATERMARK_OVERLAP_SECONDS 를 뺀 값이라
+     * 겹치는 구간의 행은 다시 읽습니다. (apply 는 같은 행을 여러 번 반영해도 결과가 같음)
+     */
+    public synchronized void refresh() {
+        if (!ready || watermark == null) {
+            rebuild();
+            return;
+        }
+
+        List<UserFCMToken> changed = tokenRepository.findChangedSince(watermark);
+        LocalDateTime latestSeen = null;
+        for (UserFCMToken token : changed) {
+            apply(token);
+            if (token.getUpdatedAt() != null && (latestSeen == null || token.getUpdatedAt().isAfter(latestSeen))) {
+                latestSeen = token.getUpdatedAt();
+            }
+        }
+        if (latestSeen != null && latestSeen.minusSeconds(WATERMARK_OVERLAP_SECONDS).isAfter(watermark)) {
+            watermark = latestSeen.minusSeconds(WATERMARK_OVERLAP_SECONDS);
+        }
+        if (!changed.isEmpty()) {
+            log.debug("FCM 토큰 레지스트리 변경분 반영 - 변경: {}건, 사용자: {}명", changed.size(), tokensByUser.size());
+        }
+    }
+
+    /**
+     * 토큰 등록/수정 결과를 반영합니다. 트랜잭션 안이면 커밋 이후에 반영합니다.
+     */
+    public void applyAfterCommit(UserFCMToken token) {
+        afterCommit(() -> apply(token));
+    }
+
+    /**
+     * 사용자의 토큰을 모두 제외합니다. 트랜잭션 안이면 커밋 이후에 반영합니다.
+     */
+    public void removeUserAfterCommit(Long userId) {
+        afterCommit(() -> {
+            TokenRef[] removed = tokensByUser.remove(userId);
+            if (removed != null) {
+                for (TokenRef ref : removed) {
+                    userByTokenId.remove(ref.id(), userId);
+                }
+            }
+        });
+    }
+
+    /**
+     * 비활성화된 토큰을 제외합니다. 토큰 ID 색인으로 소유 사용자만 갱신합니다.
+     *
+     * @param tokenIds 오름차순 정렬된 토큰 ID
+     */
+    public void removeTokens(long[] tokenIds) {
+        if (tokenIds.length == 0) {
+            return;
+        }
+        Map<Long, Long> owners = userByTokenId;
+        for (long tokenId : tokenIds) {
+            Long owner = owners.remove(tokenId);
+            if (owner != null) {
+                tokensByUser.computeIfPresent(owner, (userId, refs) -> without(refs, tokenIds));
+            }
+        }
+    }
+
+    private void apply(UserFCMToken token) {
+        if (token.getId() == null || token.getUserId() == null) {
+            return;
+        }
+        long[] tokenId = {token.getId()};
+        boolean reachable = Boolean.TRUE.equals(token.getIsActive()) && Boolean.TRUE.equals(token.getIsAllowed()) && hasToken(token);
+        // 같은 토큰 행이 다른 사용자로 옮겨졌으면 이전 사용자에서 제외
+        Long previousOwner = reachable
+            ? userByTokenId.put(token.getId(), token.getUserId())
+            : userByTokenId.remove(token.getId());
+        if (previousOwner != null && !previousOwner.equals(token.getUserId())) {
+            tokensByUser.computeIfPresent(previousOwner, (userId, refs) -> without(refs, tokenId));
+        }
+        tokensByUser.compute(token.getUserId(), (userId, refs) -> {
+            TokenRef[] others = refs == null ? null : without(refs, tokenId);
+            if (!reachable) {
+                return others;
+            }
+            TokenRef ref = new TokenRef(token.getId(), token.getFcmToken());
+            if (others == null) {
+                return new TokenRef[]{ref};
+            }
+            TokenRef[] updated = Arrays.copyOf(others, others.length + 1);
+            updated[others.length] = ref;
+            return updated;
+        });
+    }
+
+    /**
+     * @return 남은 토큰이 없으면 null (항목 제거)
+     */
+    private static TokenRef[] without(TokenRef[] refs, long[] sortedTokenIds) {
+        TokenRef[] remaining = Arrays.stream(refs)
+            .filter(ref -> Arrays.binarySearch(sortedTokenIds, ref.id()) < 0)
+            .toArray(TokenRef[]::new);
+        return remaining.length == 0 ? null : remaining;
+    }
+
+    private static boolean hasToken(UserFCMToken token) {
+        return token.getFcmToken() != null && !token.getFcmToken().isBlank();
+    }
+
+    private void ensureReady() {
+        if (!ready) {
+            synchronized (this) {
+                if (!ready) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.cherrydan.fcm.service;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 메시지 수 예산 (토큰 버킷)
+ * 1초 분량까지 모아 둘 수 있고, 부족하면 미리 차감(예약)한 뒤 채워질 때까지의 대기 시간을 돌려줍니다.
+ * 예약 방식이라 먼저 요청한 묶음이 먼저 나가고, 500건 묶음처럼 예산보다 큰 요청도 처리됩니다.
+ */
+final class TokenBucketRateLimiter {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+    private double available;
+    private long lastRefillNanos;
+
+    TokenBucketRateLimiter(int permitsPerSecond, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        this.permitsPerNano = permitsPerSecond / 1_000_000_000d;
+        this.capacity = permitsPerSecond;
+        this.nanoClock = nanoClock;
+        this.available = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * permits 만큼 예약합니다.
+     *
+     * @return 전송 전에 기다려야 하는 시간(나노초), 0 이면 바로 전송
+     */
+    synchronized long reserve(int permits) {
+        long now = nanoClock.getAsLong();
+        available = Math.min(capacity, available + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+        available -= permits;
+        return available >= 0 ? 0 : (long) Math.ceil(-available / permitsPerNano);
+    }
+}
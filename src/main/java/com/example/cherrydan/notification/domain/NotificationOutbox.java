@@ -0,0 +1,121 @@
+package com.example.cherrydan.notification.domain;
+
+import com.example.cherrydan.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 아웃박스
+ * 알림(원본 알림 ID) x FCM 토큰 한 건이 한 행이며, 디스패처가 행 단위로 점유해 발송하고 결과를 기록합니다.
+ * (source_type, source_id, token_id) 가 유일하므로 같은 알림을 여러 번 적재해도 한 번만 발송됩니다.
+ */
+@Entity
+@Table(name = "notification_outbox",
+    indexes = {
+        @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_outbox_source_token", columnNames = {"source_type", "source_id", "token_id"})
+    })
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source_type", nullable = false, length = 30)
+    private NotificationType sourceType;
+
+    @Column(name = "source_id", nullable = false)
+    private Long sourceId; // 원본 알림 ID (activity_alerts / keyword_campaign_alerts)
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "token_id", nullable = false)
+    private Long tokenId;
+
+    @Column(name = "fcm_token", nullable = false, length = 500)
+    private String fcmToken;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, length = 1000)
+    private String body;
+
+    @Column(name = "image_url", length = 1000)
+    private String imageUrl;
+
+    @Column(columnDefinition = "TEXT")
+    private String data; // 알림 data payload (JSON)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private NotificationOutboxStatus status = NotificationOutboxStatus.PENDING;
+
+    @Column(name = "attempt_count", nullable = false)
+    @Builder.Default
+    private Integer attemptCount = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "last_error_code", length = 50)
+    private String lastErrorCode;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public void claim(String claimId, LocalDateTime claimedUntil) {
+        this.status = NotificationOutboxStatus.SENDING;
+        this.claimedBy = claimId;
+        this.claimedUntil = claimedUntil;
+    }
+
+    public boolean isClaimedBy(String claimId) {
+        return status == NotificationOutboxStatus.SENDING && claimId.equals(claimedBy);
+    }
+
+    public void markSent(LocalDateTime sentAt) {
+        this.status = NotificationOutboxStatus.SENT;
+        this.attemptCount++;
+        this.sentAt = sentAt;
+        this.lastErrorCode = null;
+        release();
+    }
+
+    public void scheduleRetry(String errorCode, LocalDateTime nextAttemptAt) {
+        this.status = NotificationOutboxStatus.PENDING;
+        this.attemptCount++;
+        this.lastErrorCode = errorCode;
+        this.nextAttemptAt = nextAttemptAt;
+        release();
+    }
+
+    public void markFailed(String errorCode) {
+        this.status = NotificationOutboxStatus.FAILED;
+        this.attemptCount++;
+        this.lastErrorCode = errorCode;
+        release();
+    }
+
+    private void release() {
+        this.claimedBy = null;
+        this.claimedUntil = null;
+    }
+}
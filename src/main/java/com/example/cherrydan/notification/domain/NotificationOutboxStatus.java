@@ -0,0 +1,8 @@
+package com.example.cherrydan.notification.domain;
+
+public enum NotificationOutboxStatus {
+    PENDING,  // 발송 대기 (재시도 예약 포함)
+    SENDING,  // 디스패처가 점유 중, 점유 기한이 지나면 다시 대기 상태로 간주
+    SENT,
+    FAILED
+}
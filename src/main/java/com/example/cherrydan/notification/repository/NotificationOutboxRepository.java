@@ -0,0 +1,41 @@
+package com.example.cherrydan.notification.repository;
+
+import com.example.cherrydan.notification.domain.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 발송할 행 ID 를 잠그며 조회
+     * 다른 인스턴스가 잠근 행은 건너뛰므로(SKIP LOCKED) 여러 디스패처가 서로 다른 행을 가져갑니다.
+     * 점유 기한이 지난 SENDING 행(점유 중 종료된 인스턴스)도 다시 가져갑니다.
+     */
+    @Query(value = """
+        SELECT id FROM notification_outbox
+        WHERE (status = 'PENDING' AND next_attempt_at <= :now)
+           OR (status = 'SENDING' AND claimed_until <= :now)
+        ORDER BY next_attempt_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<Long> lockDispatchableIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 처리가 끝난(SENT, FAILED) 행 배치 삭제
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM notification_outbox
+        WHERE status IN ('SENT', 'FAILED') AND updated_at < :before
+        LIMIT :limit
+        """, nativeQuery = true)
+    int deleteCompletedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
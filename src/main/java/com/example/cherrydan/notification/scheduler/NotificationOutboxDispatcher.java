@@ -0,0 +1,104 @@
+package com.example.cherrydan.notification.scheduler;
+
+import com.example.cherrydan.fcm.dto.FcmSendResult;
+import com.example.cherrydan.fcm.service.BatchNotificationService;
+import com.example.cherrydan.fcm.service.NotificationService;
+import com.example.cherrydan.notification.domain.NotificationOutbox;
+import com.example.cherrydan.notification.service.NotificationOutboxService;
+import com.google.firebase.messaging.Message;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 아웃박스 디스패처
+ * outbox 모드에서 주기적으로 발송 가능한 행을 배치 단위로 점유 → FCM 전송(FcmSender 제한 안에서 병렬) → 결과 기록을 반복합니다.
+ * 점유는 SKIP LOCKED 이므로 인스턴스를 늘리면 발송도 나눠서 처리됩니다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+    private static final int PURGE_BATCH_SIZE = 5000;
+
+    private final NotificationOutboxService outboxService;
+    private final BatchNotificationService batchNotificationService;
+    private final NotificationService notificationService;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int retentionDays;
+
+    public NotificationOutboxDispatcher(
+            NotificationOutboxService outboxService,
+            BatchNotificationService batchNotificationService,
+            NotificationService notificationService,
+            @Value("${notification.outbox.batch-size:500}") int batchSize,
+            @Value("${notification.outbox.max-batches-per-run:20}") int maxBatchesPerRun,
+            @Value("${notification.outbox.retention-days:7}") int retentionDays) {
+        this.outboxService = outboxService;
+        this.batchNotificationService = batchNotificationService;
+        this.notificationService = notificationService;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(
+        fixedDelayString = "${notification.outbox.poll-interval-ms:2000}",
+        initialDelayString = "${notification.outbox.poll-interval-ms:2000}"
+    )
+    public void dispatch() {
+        if (!outboxService.isEnabled()) {
+            return;
+        }
+        try {
+            int batches = 0;
+            int claimedCount;
+            do {
+                claimedCount = dispatchBatch();
+                batches++;
+            } while (claimedCount == batchSize && batches < maxBatchesPerRun);
+        } catch (Exception e) {
+            log.error("알림 아웃박스 발송 실패 - 점유한 행은 점유 기한 후 다시 발송합니다.", e);
+        }
+    }
+
+    /**
+     * 매일 새벽 3시 - 처리가 끝난 아웃박스 행 정리
+     */
+    @Scheduled(cron = "0 0 3 * * ?", zone = "Asia/Seoul")
+    public void purgeCompleted() {
+        if (!outboxService.isEnabled()) {
+            return;
+        }
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        int deleted = 0;
+        int batchDeleted;
+        do {
+            batchDeleted = outboxService.purgeCompleted(before, PURGE_BATCH_SIZE);
+            deleted += batchDeleted;
+        } while (batchDeleted == PURGE_BATCH_SIZE);
+        log.info("알림 아웃박스 정리 완료 - {}건 삭제", deleted);
+    }
+
+    private int dispatchBatch() {
+        String claimId = UUID.randomUUID().toString();
+        List<NotificationOutbox> claimed = outboxService.claim(claimId, batchSize);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<Message> messages = claimed.stream()
+            .map(row -> notificationService.buildMessage(row.getFcmToken(), outboxService.toRequest(row)))
+            .collect(Collectors.toList());
+        List<FcmSendResult> results = batchNotificationService.sendEach(messages);
+        outboxService.record(claimId, claimed, results);
+        return claimed.size();
+    }
+}
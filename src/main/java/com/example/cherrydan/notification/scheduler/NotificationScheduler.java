@@ -1,25 +1,51 @@
 package com.example.cherrydan.notification.scheduler;
 
+import com.example.cherrydan.activity.domain.ActivityAlertGenerationStatus;
 import com.example.cherrydan.activity.service.ActivityAlertService;
+import com.example.cherrydan.notification.service.AlertRetentionService;
 import com.example.cherrydan.user.service.UserDataCleanupService;
 import com.example.cherrydan.user.service.UserKeywordService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
 /**
  * 통합 알림 스케줄러
  * 매일 오전 10시에 활동 알림과 키워드 맞춤 알림을 발송
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class NotificationScheduler {
 
     private final ActivityAlertService activityAlertService;
     private final UserKeywordService userKeywordService;
     private final UserDataCleanupService userDataCleanupService;
+    private final AlertRetentionService alertRetentionService;
+    private final Executor alertSendExecutor;
+    private final Duration activityGenerationSendWait;
+
+    public NotificationScheduler(
+            ActivityAlertService activityAlertService,
+            UserKeywordService userKeywordService,
+            UserDataCleanupService userDataCleanupService,
+            AlertRetentionService alertRetentionService,
+            @Qualifier("alertSendExecutor") Executor alertSendExecutor,
+            @Value("${activity-alert.generation.send-wait-minutes:10}") long activityGenerationSendWaitMinutes) {
+        this.activityAlertService = activityAlertService;
+        this.userKeywordService = userKeywordService;
+        this.userDataCleanupService = userDataCleanupService;
+        this.alertRetentionService = alertRetentionService;
+        this.alertSendExecutor = alertSendExecutor;
+        this.activityGenerationSendWait = Duration.ofMinutes(activityGenerationSendWaitMinutes);
+    }
     
     
     /**
@@ -60,6 +86,7 @@ public class NotificationScheduler {
 
     /**
      * 오전 7시에 실행 - 활동 알림 대상 업데이트
+     * 전략 실행은 alertTaskExecutor 에서 진행되고, 끝나면 날짜별 생성 기록이 남습니다.
      */
     @Scheduled(cron = "0 0 7 * * ?", zone = "Asia/Seoul")
     public void updateActivityAlerts() {
@@ -68,7 +95,7 @@ public class NotificationScheduler {
         try {
             activityAlertService.updateActivityAlerts();
             
-            log.info("=== 활동 알림 업데이트 작업 완료 ===");
+            log.info("=== 활동 알림 업데이트 작업 시작됨 (전략 비동기 실행) ===");
             
         } catch (Exception e) {
             log.error("활동 알림 업데이트 작업 실패: {}", e.getMessage(), e);
@@ -77,21 +104,37 @@ public class NotificationScheduler {
 
     /**
      * 오전 10시에 실행 - 활동 알림 발송
+     * 오늘 알림 생성이 아직 진행 중이면 잠시 기다리고, 끝나지 않았거나 실패했어도 저장된 알림은 발송합니다.
+     * 기다림과 발송은 alertSendExecutor 에서 이어서 실행하므로 스케줄러 스레드는 바로 반환됩니다.
      */
     @Scheduled(cron = "0 0 10 * * ?", zone = "Asia/Seoul")
     public void sendActivityNotifications() {
         log.info("=== 활동 알림 발송 작업 시작 ===");
 
         try {
-            activityAlertService.sendActivityNotifications();
-
-            log.info("=== 활동 알림 발송 작업 완료 ===");
-
+            activityAlertService.awaitTodayGeneration(activityGenerationSendWait)
+                .thenAcceptAsync(this::sendActivityNotificationsAfterGeneration, alertSendExecutor)
+                .whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        log.error("활동 알림 발송 작업 실패: {}", e.getMessage(), e);
+                    }
+                });
         } catch (Exception e) {
             log.error("활동 알림 발송 작업 실패: {}", e.getMessage(), e);
         }
     }
 
+    private void sendActivityNotificationsAfterGeneration(Optional<ActivityAlertGenerationStatus> generationStatus) {
+        if (generationStatus.filter(status -> status == ActivityAlertGenerationStatus.COMPLETED).isEmpty()) {
+            log.warn("오늘 활동 알림 생성이 완료되지 않은 상태에서 발송합니다: status={}",
+                generationStatus.map(Enum::name).orElse("NOT_STARTED"));
+        }
+
+        activityAlertService.sendActivityNotifications();
+
+        log.info("=== 활동 알림 발송 작업 완료 ===");
+    }
+
     /**
      * 매일 새벽 2시 실행 - 1년 경과한 소프트 딜리트 유저의 연관 데이터 삭제
      */
@@ -108,4 +151,23 @@ public class NotificationScheduler {
             log.error("1년 경과 유저 데이터 삭제 작업 실패: {}", e.getMessage(), e);
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 매일 새벽 4시 실행 - 보관 기간이 지난 활동/키워드 알림 삭제
+     */
+    @Scheduled(cron = "0 0 4 * * ?", zone = "Asia/Seoul")
+    public void purgeExpiredAlerts() {
+        log.info("=== 보관 기간 경과 알림 삭제 작업 시작 ===");
+
+        try {
+            AlertRetentionService.PurgeResult result =
+                alertRetentionService.purgeExpiredAlerts(LocalDate.now(ZoneId.of("Asia/Seoul")));
+
+            log.info("=== 보관 기간 경과 알림 삭제 작업 완료: {} 이전, 활동 알림 {}건, 키워드 알림 {}건 ===",
+                result.before(), result.activityAlerts(), result.keywordAlerts());
+
+        } catch (Exception e) {
+            log.error("보관 기간 경과 알림 삭제 작업 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.cherrydan.notification.service;
+
+import com.example.cherrydan.activity.repository.ActivityAlertRepository;
+import com.example.cherrydan.user.repository.KeywordCampaignAlertRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.function.BiFunction;
+
+/**
+ * 알림 보관 기간 관리
+ * activity_alerts, keyword_campaign_alerts 는 날짜(alert_date) 단위로 쌓이므로
+ * 보관 기간이 지난 날짜 구간을 오래된 순으로 배치 삭제해 테이블과 인덱스 크기를 보관 기간만큼으로 유지합니다.
+ * 배치마다 별도 트랜잭션이라 잠금과 undo 로그가 배치 크기로 제한됩니다.
+ */
+@Slf4j
+@Service
+public class AlertRetentionService {
+
+    private final ActivityAlertRepository activityAlertRepository;
+    private final KeywordCampaignAlertRepository keywordAlertRepository;
+    private final Counter activityDeletedCounter;
+    private final Counter keywordDeletedCounter;
+    private final int retentionDays;
+    private final int batchSize;
+    private final long pauseMs;
+
+    public AlertRetentionService(
+            ActivityAlertRepository activityAlertRepository,
+            KeywordCampaignAlertRepository keywordAlertRepository,
+            MeterRegistry meterRegistry,
+            @Value("${alert.retention.days:180}") int retentionDays,
+            @Value("${alert.retention.batch-size:5000}") int batchSize,
+            @Value("${alert.retention.pause-ms:100}") long pauseMs) {
+        this.activityAlertRepository = activityAlertRepository;
+        this.keywordAlertRepository = keywordAlertRepository;
+        this.activityDeletedCounter = Counter.builder("alert.retention.deleted").tag("table", "activity_alerts").register(meterRegistry);
+        this.keywordDeletedCounter = Counter.builder("alert.retention.deleted").tag("table", "keyword_campaign_alerts").register(meterRegistry);
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+    }
+
+    public record PurgeResult(LocalDate before, int activityAlerts, int keywordAlerts) {
+    }
+
+    /**
+     * today 기준 보관 기간(일)보다 오래된 알림을 삭제합니다. 보관 기간이 0 이하면 아무것도 하지 않습니다.
+     */
+    public PurgeResult purgeExpiredAlerts(LocalDate today) {
+        LocalDate before = today.minusDays(retentionDays);
+        if (retentionDays <= 0) {
+            return new PurgeResult(before, 0, 0);
+        }
+        int activityDeleted = purge(activityAlertRepository::deleteAlertDateBefore, before, activityDeletedCounter);
+        int keywordDeleted = purge(keywordAlertRepository::deleteAlertDateBefore, before, keywordDeletedCounter);
+        return new PurgeResult(before, activityDeleted, keywordDeleted);
+    }
+
+    private int purge(BiFunction<LocalDate, Integer, Integer> deleter, LocalDate before, Counter counter) {
+        int deleted = 0;
+        int batchDeleted;
+        do {
+            batchDeleted = deleter.apply(before, batchSize);
+            deleted += batchDeleted;
+            counter.increment(batchDeleted);
+        } while (batchDeleted == batchSize && pause());
+        return deleted;
+    }
+
+    /**
+     * 배치 사이에 잠시 쉬어 낮 시간대 쿼리와 복제 지연에 주는 영향을 줄입니다.
+     * @return 인터럽트되면 false (남은 구간은 다음 실행에서 삭제)
+     */
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.example.cherrydan.notification.service;
+
+import com.example.cherrydan.activity.repository.ActivityAlertRepository;
+import com.example.cherrydan.fcm.dto.FcmSendResult;
+import com.example.cherrydan.fcm.dto.NotificationRequest;
+import com.example.cherrydan.fcm.service.FcmTokenBookkeeper;
+import com.example.cherrydan.fcm.service.FcmTokenRegistry;
+import com.example.cherrydan.fcm.service.FcmTokenRegistry.TokenRef;
+import com.example.cherrydan.notification.domain.NotificationOutbox;
+import com.example.cherrydan.notification.domain.NotificationType;
+import com.example.cherrydan.notification.repository.NotificationOutboxRepository;
+import com.example.cherrydan.user.repository.KeywordCampaignAlertRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * 알림 발송 아웃박스
+ * - enqueue: 원본 알림을 토큰별 행으로 적재 (같은 알림은 한 번만 적재)
+ * - claim: SKIP LOCKED 로 행을 점유, 여러 인스턴스가 동시에 디스패치해도 중복 발송하지 않음
+ * - record: 토큰별 결과 기록, 일시적 오류는 지수 백오프로 재시도 예약, 성공 시 원본 알림을 발송 완료로 변경
+ */
+@Slf4j
+@Service
+public class NotificationOutboxService {
+
+    private static final TypeReference<Map<String, String>> DATA_TYPE = new TypeReference<>() {};
+    private static final String OUTBOX_MODE = "outbox";
+    private static final String INSERT_IGNORE_PREFIX = """
+            INSERT IGNORE INTO notification_outbox
+                (source_type, source_id, user_id, token_id, fcm_token, title, body, image_url, data,
+                 status, attempt_count, next_attempt_at, created_at, updated_at)
+            VALUES\s""";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, 'PENDING', 0, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 12;
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final FcmTokenRegistry tokenRegistry;
+    private final ActivityAlertRepository activityAlertRepository;
+    private final KeywordCampaignAlertRepository keywordAlertRepository;
+    private final FcmTokenBookkeeper tokenBookkeeper;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimLease;
+
+    public NotificationOutboxService(
+            NotificationOutboxRepository outboxRepository,
+            FcmTokenRegistry tokenRegistry,
+            ActivityAlertRepository activityAlertRepository,
+            KeywordCampaignAlertRepository keywordAlertRepository,
+            FcmTokenBookkeeper tokenBookkeeper,
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            @Value("${notification.delivery-mode:direct}") String deliveryMode,
+            @Value("${notification.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${notification.outbox.initial-backoff-seconds:30}") long initialBackoffSeconds,
+            @Value("${notification.outbox.max-backoff-seconds:1800}") long maxBackoffSeconds,
+            @Value("${notification.outbox.claim-lease-seconds:300}") long claimLeaseSeconds) {
+        this.outboxRepository = outboxRepository;
+        this.tokenRegistry = tokenRegistry;
+        this.activityAlertRepository = activityAlertRepository;
+        this.keywordAlertRepository = keywordAlertRepository;
+        this.tokenBookkeeper = tokenBookkeeper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = OUTBOX_MODE.equalsIgnoreCase(deliveryMode);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofSeconds(initialBackoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+        this.claimLease = Duration.ofSeconds(claimLeaseSeconds);
+    }
+
+    /**
+     * outbox 모드 여부 (direct: 스케줄러가 바로 발송, outbox: 적재 후 디스패처가 발송)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 아웃박스 적재 대상 알림
+     *
+     * @param sourceId 원본 알림 ID
+     */
+    public record OutboxMessage(Long sourceId, Long userId, NotificationRequest request) {
+    }
+
+    /**
+     * 알림을 수신자의 활성 토큰별 행으로 적재합니다. 이미 적재된 (알림, 토큰) 은 무시합니다.
+     *
+     * @return 새로 적재된 행 수
+     */
+    @Transactional
+    public int enqueue(NotificationType sourceType, List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (OutboxMessage message : messages) {
+            NotificationRequest request = message.request();
+            String data = toJson(request.getData());
+            for (TokenRef token : tokenRegistry.tokensOf(message.userId())) {
+                rows.add(new Object[]{
+                        sourceType.name(), message.sourceId(), message.userId(), token.id(), token.fcmToken(),
+                        request.getTitle(), request.getBody(), request.getImageUrl(), data, now, now, now
+                });
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        int enqueued = 0;
+        for (int from = 0; from < rows.size(); from += INSERT_CHUNK_SIZE) {
+            enqueued += insertIgnoringDuplicates(rows.subList(from, Math.min(from + INSERT_CHUNK_SIZE, rows.size())));
+        }
+        log.info("알림 아웃박스 적재 - 유형: {}, 알림: {}건, 토큰 행: {}건 (신규 {}건, 중복 {}건)",
+                sourceType, messages.size(), rows.size(), enqueued, rows.size() - enqueued);
+        return enqueued;
+    }
+
+    /**
+     * 행들을 multi-row INSERT IGNORE 한 문장으로 저장합니다.
+     * affected rows 는 실제로 추가된 행 수입니다. (무시된 중복은 0, 배치 실행의 SUCCESS_NO_INFO 와 달리 정확함)
+     */
+    private int insertIgnoringDuplicates(List<Object[]> rows) {
+        String sql = INSERT_IGNORE_PREFIX + String.join(", ", Collections.nCopies(rows.size(), ROW_PLACEHOLDER));
+        Object[] params = new Object[rows.size() * COLUMN_COUNT];
+        int i = 0;
+        for (Object[] row : rows) {
+            System.arraycopy(row, 0, params, i, COLUMN_COUNT);
+            i += COLUMN_COUNT;
+        }
+        return jdbcTemplate.update(sql, params);
+    }
+
+    /**
+     * 발송할 행을 점유합니다. 점유 기한 안에 결과를 기록하지 못하면 다른 디스패처가 다시 가져갑니다.
+     */
+    @Transactional
+    public List<NotificationOutbox> claim(String claimId, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = outboxRepository.lockDispatchableIds(now, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<NotificationOutbox> claimed = outboxRepository.findAllById(ids);
+        LocalDateTime claimedUntil = now.plus(claimLease);
+        claimed.forEach(row -> row.claim(claimId, claimedUntil));
+        return claimed;
+    }
+
+    /**
+     * 점유한 행을 FCM 요청으로 변환합니다.
+     */
+    public NotificationRequest toRequest(NotificationOutbox row) {
+        return NotificationRequest.builder()
+                .title(row.getTitle())
+                .body(row.getBody())
+                .imageUrl(row.getImageUrl())
+                .data(fromJson(row.getData()))
+                .priority("high")
+                .build();
+    }
+
+    /**
+     * 토큰별 전송 결과를 기록합니다. 그 사이 점유 기한이 지나 다른 디스패처가 가져간 행은 건너뜁니다.
+     *
+     * @param claimed claim 으로 점유한 행
+     * @param results claimed 와 같은 순서의 전송 결과
+     * @return 발송 성공 행 수
+     */
+    @Transactional
+    public int record(String claimId, List<NotificationOutbox> claimed, List<FcmSendResult> results) {
+        Map<Long, NotificationOutbox> current = outboxRepository.findAllById(
+                        claimed.stream().map(NotificationOutbox::getId).collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(NotificationOutbox::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> deliveredActivityAlerts = new HashSet<>();
+        Set<Long> deliveredKeywordAlerts = new HashSet<>();
+        LongStream.Builder successfulTokenIds = LongStream.builder();
+        LongStream.Builder invalidTokenIds = LongStream.builder();
+        int sent = 0;
+        int retried = 0;
+        int failed = 0;
+
+        for (int i = 0; i < claimed.size(); i++) {
+            NotificationOutbox row = current.get(claimed.get(i).getId());
+            if (row == null || !row.isClaimedBy(claimId)) {
+                continue;
+            }
+
+            FcmSendResult result = results.get(i);
+            switch (result.outcome()) {
+                case SUCCESS -> {
+                    row.markSent(now);
+                    successfulTokenIds.add(row.getTokenId());
+                    (row.getSourceType() == NotificationType.KEYWORD_CAMPAIGN ? deliveredKeywordAlerts : deliveredActivityAlerts)
+                            .add(row.getSourceId());
+                    sent++;
+                }
+                case RETRYABLE -> {
+                    if (row.getAttemptCount() + 1 >= maxAttempts) {
+                        row.markFailed(result.errorCode());
+                        failed++;
+                    } else {
+                        row.scheduleRetry(result.errorCode(), now.plus(backoff(row.getAttemptCount() + 1)));
+                        retried++;
+                    }
+                }
+                case INVALID_TOKEN -> {
+                    row.markFailed(result.errorCode());
+                    invalidTokenIds.add(row.getTokenId());
+                    failed++;
+                }
+                default -> {
+                    row.markFailed(result.errorCode());
+                    failed++;
+                }
+            }
+        }
+
+        // 아래 벌크 UPDATE 가 영속성 컨텍스트를 비우므로 행 상태 변경을 먼저 반영
+        outboxRepository.flush();
+        if (!deliveredActivityAlerts.isEmpty()) {
+            activityAlertRepository.markAsNotifiedByIds(deliveredActivityAlerts);
+        }
+        if (!deliveredKeywordAlerts.isEmpty()) {
+            keywordAlertRepository.markAsNotifiedByIds(deliveredKeywordAlerts);
+        }
+        tokenBookkeeper.record(successfulTokenIds.build().toArray(), invalidTokenIds.build().toArray());
+
+        log.info("알림 아웃박스 결과 기록 - 성공: {}, 재시도 예약: {}, 실패: {}", sent, retried, failed);
+        return sent;
+    }
+
+    /**
+     * 처리가 끝난 행을 배치 삭제합니다.
+     */
+    @Transactional
+    public int purgeCompleted(LocalDateTime before, int limit) {
+        return outboxRepository.deleteCompletedBefore(before, limit);
+    }
+
+    /**
+     * attempt 번째 실패 후 다음 시도까지의 대기 시간 (initial * 2^(attempt-1), 최대 maxBackoff)
+     */
+    Duration backoff(int attempt) {
+        int shift = Math.min(Math.max(attempt - 1, 0), 20);
+        Duration delay = initialBackoff.multipliedBy(1L << shift);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private String toJson(Map<String, String> data) {
+        if (data == null || data.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 data 직렬화 실패", e);
+        }
+    }
+
+    private Map<String, String> fromJson(String data) {
+        if (data == null || data.isBlank()) {
+            return new HashMap<>();
+        }
+        try {
+            return objectMapper.readValue(data, DATA_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("알림 data 역직렬화 실패, 빈 data 로 발송합니다: {}", e.getMessage());
+            return new HashMap<>();
+        }
+    }
+}
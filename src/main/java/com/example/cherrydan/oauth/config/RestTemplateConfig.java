@@ -1,15 +0,0 @@
-package com.example.cherrydan.oauth.config;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.context.annotation.Profile;
-
-@Profile({"prod","local","dev"})
-@Configuration
-public class RestTemplateConfig {
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
-} 
\ No newline at end of file
@@ -28,6 +28,7 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -43,12 +44,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt = getJwtFromRequest(request);
 
             if (StringUtils.hasText(jwt)) {
-                tokenProvider.validateToken(jwt); // 유효성 검증 (실패 시 예외 발생)
+                JwtClaims claims = resolveClaims(jwt); // 유효성 검증 (실패 시 예외 발생)
 
                 // Access Token인지 확인
-                if (tokenProvider.isAccessToken(jwt)) {
-                    Long userId = tokenProvider.getUserIdFromToken(jwt);
-                    String email = tokenProvider.getEmailFromToken(jwt);
+                if (claims.isAccessToken()) {
+                    Long userId = claims.userId();
+                    String email = claims.email();
 
                     // DB 조회 없이 토큰 정보로 UserDetailsImpl 생성
                     UserDetailsImpl userDetails = new UserDetailsImpl(
@@ -82,6 +83,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * 최근 검증한 Access Token 이면 캐시된 클레임을, 아니면 한 번 파싱(서명 검증 포함)한 클레임을 반환합니다.
+     */
+    private JwtClaims resolveClaims(String jwt) {
+        return verifiedTokenCache.get(jwt).orElseGet(() -> {
+            JwtClaims claims = tokenProvider.parseToken(jwt);
+            verifiedTokenCache.put(jwt, claims);
+            return claims;
+        });
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
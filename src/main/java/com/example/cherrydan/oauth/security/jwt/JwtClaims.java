@@ -0,0 +1,32 @@
+package com.example.cherrydan.oauth.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임 (불변)
+ * 한 번 파싱한 결과로 사용자 ID, 이메일, 토큰 타입, 만료 시각을 모두 꺼낼 수 있습니다.
+ */
+public record JwtClaims(Long userId, String email, String type, Instant expiresAt) {
+
+    static JwtClaims from(Claims claims) {
+        return new JwtClaims(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("type", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
@@ -69,25 +69,12 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    // 토큰에서 사용자 ID 추출
-    public Long getUserIdFromToken(String token) {
-        return Long.parseLong(getClaimsFromToken(token).getSubject());
-    }
-
-    // 토큰에서 이메일 추출 (Access Token만)
-    public String getEmailFromToken(String token) {
-        return getClaimsFromToken(token).get("email", String.class);
-    }
-
-    // 토큰 타입 확인
-    public String getTokenType(String token) {
-        return getClaimsFromToken(token).get("type", String.class);
-    }
-
-    // 토큰 유효성 검증 + 예외 처리
-    public void validateToken(String token) {
+    /**
+     * 서명 검증과 파싱을 한 번에 수행하고 클레임을 반환합니다. (실패 시 예외 발생)
+     */
+    public JwtClaims parseToken(String token) {
         try {
-            getClaimsFromToken(token);
+            return JwtClaims.from(getClaimsFromToken(token));
         } catch (ExpiredJwtException e) {
             log.warn("토큰이 만료되었습니다: {}", e.getMessage());
             throw e;
@@ -106,14 +93,34 @@ public class JwtTokenProvider {
         }
     }
 
+    // 토큰에서 사용자 ID 추출
+    public Long getUserIdFromToken(String token) {
+        return parseToken(token).userId();
+    }
+
+    // 토큰에서 이메일 추출 (Access Token만)
+    public String getEmailFromToken(String token) {
+        return parseToken(token).email();
+    }
+
+    // 토큰 타입 확인
+    public String getTokenType(String token) {
+        return parseToken(token).type();
+    }
+
+    // 토큰 유효성 검증 + 예외 처리
+    public void validateToken(String token) {
+        parseToken(token);
+    }
+
     // Access Token인지 확인
     public boolean isAccessToken(String token) {
-        return "access".equals(getTokenType(token));
+        return parseToken(token).isAccessToken();
     }
 
     // Refresh Token인지 확인
     public boolean isRefreshToken(String token) {
-        return "refresh".equals(getTokenType(token));
+        return parseToken(token).isRefreshToken();
     }
 
     // 토큰에서 Claims 추출
@@ -0,0 +1,136 @@
+package com.example.cherrydan.oauth.security.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 서명 검증을 마친 Access Token 캐시
+ *
+ * 같은 앱 세션은 만료 전까지 같은 Access Token 을 반복해서 보내므로, 한 번 검증한 토큰의 클레임을 보관해
+ * 이후 요청에서는 HMAC 검증과 JSON 파싱을 건너뜁니다.
+ * - 키는 토큰 원문이 아닌 SHA-256 해시 (메모리에 토큰을 남기지 않음)
+ * - 모든 요청이 거치므로 조회는 잠금 없이 ConcurrentHashMap 에서 읽고 마지막 사용 시각만 기록
+ * - 항목은 토큰의 exp 시각에 만료되며, 최대 개수를 넘으면 한 스레드만 만료 항목과
+ *   가장 오래 사용하지 않은 항목을 묶어서 제거 (근사 LRU, 제거 중에는 잠시 최대 개수를 넘을 수 있음)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    // 최대 개수를 넘으면 초과분에 더해 최대 개수의 1/10 을 함께 비워 제거 빈도를 낮춤
+    private static final int EVICTION_HEADROOM_DIVISOR = 10;
+
+    private final Clock clock;
+    private final int maxSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public VerifiedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.verified-cache.max-size:10000}") int maxSize) {
+        this(meterRegistry, maxSize, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(MeterRegistry meterRegistry, int maxSize, Clock clock) {
+        this.clock = clock;
+        this.maxSize = maxSize;
+        this.hitCounter = Counter.builder("jwt.verified.cache").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("jwt.verified.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 검증된 클레임을 반환합니다. 없거나 만료되었으면 Optional.empty() (만료 항목은 제거)
+     */
+    public Optional<JwtClaims> get(String token) {
+        String key = hash(token);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (!entry.claims.isExpiredAt(clock.instant())) {
+                entry.lastAccessNanos = System.nanoTime();
+                hitCounter.increment();
+                return Optional.of(entry.claims);
+            }
+            entries.remove(key, entry);
+        }
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 검증을 마친 Access Token 을 보관합니다. 만료 시각이 없거나 이미 지난 토큰은 보관하지 않습니다.
+     */
+    public void put(String token, JwtClaims claims) {
+        if (!claims.isAccessToken() || claims.expiresAt() == null || claims.isExpiredAt(clock.instant())) {
+            return;
+        }
+        entries.put(hash(token), new Entry(claims));
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 만료 항목을 지우고도 최대 개수를 넘으면 마지막 사용 시각이 가장 오래된 항목부터 제거합니다.
+     * 다른 스레드가 제거 중이면 기다리지 않고 넘어갑니다.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            Instant now = clock.instant();
+            entries.values().removeIf(entry -> entry.claims.isExpiredAt(now));
+
+            int excess = entries.size() - maxSize;
+            if (excess <= 0) {
+                return;
+            }
+            long[] accessed = entries.values().stream().mapToLong(entry -> entry.lastAccessNanos).toArray();
+            int removeCount = Math.min(accessed.length, excess + maxSize / EVICTION_HEADROOM_DIVISOR);
+            Arrays.sort(accessed);
+            long cutoff = accessed[removeCount - 1];
+            entries.values().removeIf(entry -> entry.lastAccessNanos <= cutoff);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static final class Entry {
+        private final JwtClaims claims;
+        // 조회마다 갱신하는 마지막 사용 시각 (제거 순서를 정할 때만 읽으므로 정확한 순서는 보장하지 않음)
+        private volatile long lastAccessNanos;
+
+        private Entry(JwtClaims claims) {
+            this.claims = claims;
+            this.lastAccessNanos = System.nanoTime();
+        }
+    }
+}
@@ -7,31 +7,26 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.math.BigInteger;
-import java.security.KeyFactory;
 import java.security.PublicKey;
-import java.security.spec.RSAPublicKeySpec;
 import java.util.Base64;
-import java.util.List;
 import java.util.Map;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class AppleIdentityTokenService {
 
-    @Value("${apple.keys-url}")
-    private String APPLE_KEYS_URL;
     @Value("${apple.issuer}")
     private String APPLE_ISSUER;
     @Value("${apple.client-id}")
     private String APPLE_AUDIENCE;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final AppleJwksKeyCache appleJwksKeyCache;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
@@ -73,50 +68,12 @@ public class AppleIdentityTokenService {
     }
 
     /**
-     * Apple 공개키를 가져와서 JWT 검증에 사용할 PublicKey 객체 생성
+     * JWT 헤더의 kid 로 캐시된 Apple 공개키를 가져옴
      */
     private PublicKey getApplePublicKey(String identityToken) {
-        try {
-            // JWT 헤더에서 kid 추출
-            String kid = getKidFromToken(identityToken);
-            log.debug("JWT에서 추출한 kid: {}", kid);
-            
-            // Apple 공개키 목록 가져오기
-            String response = restTemplate.getForObject(APPLE_KEYS_URL, String.class);
-            Map<String, Object> keys = objectMapper.readValue(response, Map.class);
-            List<Map<String, Object>> keyList = (List<Map<String, Object>>) keys.get("keys");
-            
-            // kid와 일치하는 키 찾기
-            Map<String, Object> matchingKey = keyList.stream()
-                    .filter(key -> kid.equals(key.get("kid")))
-                    .findFirst()
-                    .orElseThrow(() -> {
-                        log.error("일치하는 Apple 공개키를 찾을 수 없음. kid: {}", kid);
-                        return new AuthException(ErrorMessage.APPLE_PUBLIC_KEY_NOT_FOUND);
-                    });
-            
-            // RSA 공개키 생성
-            String nStr = (String) matchingKey.get("n");
-            String eStr = (String) matchingKey.get("e");
-            
-            byte[] nBytes = Base64.getUrlDecoder().decode(nStr);
-            byte[] eBytes = Base64.getUrlDecoder().decode(eStr);
-            
-            BigInteger modulus = new BigInteger(1, nBytes);
-            BigInteger exponent = new BigInteger(1, eBytes);
-            
-            RSAPublicKeySpec publicKeySpec = new RSAPublicKeySpec(modulus, exponent);
-            KeyFactory keyFactory = KeyFactory.getInstance("RSA");
-            
-            log.debug("Apple RSA 공개키 생성 완료");
-            return keyFactory.generatePublic(publicKeySpec);
-            
-        } catch (AuthException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Apple 공개키 생성 중 오류: {}", e.getMessage(), e);
-            throw new AuthException(ErrorMessage.APPLE_PUBLIC_KEY_NOT_FOUND);
-        }
+        String kid = getKidFromToken(identityToken);
+        log.debug("JWT에서 추출한 kid: {}", kid);
+        return appleJwksKeyCache.getPublicKey(kid);
     }
 
     /**
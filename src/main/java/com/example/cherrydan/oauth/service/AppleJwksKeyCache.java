@@ -0,0 +1,212 @@
+package com.example.cherrydan.oauth.service;
+
+import com.example.cherrydan.common.exception.AuthException;
+import com.example.cherrydan.common.exception.ErrorMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Apple 공개키(JWKS) 캐시
+ *
+ * 로그인마다 Apple 키 목록을 받아 RSA 키를 다시 만들던 것을 kid 별 PublicKey 캐시로 대체합니다.
+ * - 백그라운드에서 Cache-Control max-age 에 맞춰 미리 갱신하므로 로그인 경로는 네트워크를 타지 않음
+ * - 모르는 kid 가 오면 (Apple 키 교체) 한 번만 다시 받아오고, 동시에 들어온 요청은 같은 결과를 기다림 (single-flight)
+ * - Apple 에 접근할 수 없으면 기존 키를 계속 사용 (만료되어도 유지)
+ */
+@Slf4j
+@Component
+public class AppleJwksKeyCache {
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String keysUrl;
+    private final Duration defaultTtl;
+    private final Duration minRefetchInterval;
+    private final Clock clock;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private final Object refreshLock = new Object();
+    private CompletableFuture<Snapshot> inFlight;
+    private volatile Instant lastFetchAttempt = Instant.EPOCH;
+
+    public AppleJwksKeyCache(
+            RestTemplate restTemplate,
+            @Value("${apple.keys-url}") String keysUrl,
+            @Value("${apple.jwks.default-ttl-seconds:3600}") long defaultTtlSeconds,
+            @Value("${apple.jwks.min-refetch-interval-seconds:30}") long minRefetchIntervalSeconds) {
+        this(restTemplate, keysUrl, Duration.ofSeconds(defaultTtlSeconds), Duration.ofSeconds(minRefetchIntervalSeconds),
+                Clock.systemUTC());
+    }
+
+    AppleJwksKeyCache(RestTemplate restTemplate, String keysUrl, Duration defaultTtl, Duration minRefetchInterval, Clock clock) {
+        this.restTemplate = restTemplate;
+        this.keysUrl = keysUrl;
+        this.defaultTtl = defaultTtl;
+        this.minRefetchInterval = minRefetchInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * kid 에 해당하는 Apple 공개키를 반환합니다.
+     */
+    public PublicKey getPublicKey(String kid) {
+        PublicKey key = snapshot.keys().get(kid);
+        if (key != null) {
+            return key;
+        }
+
+        // 모르는 kid: Apple 이 키를 교체했을 수 있으므로 다시 받아옴
+        try {
+            key = refreshForUnknownKid().keys().get(kid);
+        } catch (Exception e) {
+            log.error("Apple 공개키 재조회 실패: {}", e.getMessage());
+        }
+
+        if (key == null) {
+            log.error("일치하는 Apple 공개키를 찾을 수 없음. kid: {}", kid);
+            throw new AuthException(ErrorMessage.APPLE_PUBLIC_KEY_NOT_FOUND);
+        }
+        return key;
+    }
+
+    /**
+     * 캐시가 만료되었거나 곧 만료되면 미리 갱신합니다. 실패해도 기존 키는 유지합니다.
+     */
+    @Scheduled(
+        fixedDelayString = "${apple.jwks.refresh-check-interval-ms:300000}",
+        initialDelayString = "${apple.jwks.refresh-check-interval-ms:300000}"
+    )
+    public void refreshIfStale() {
+        Snapshot current = snapshot;
+        // 만료 10% 전부터 갱신
+        Instant refreshAt = current.expiresAt().minus(Duration.between(current.fetchedAt(), current.expiresAt()).dividedBy(10));
+        if (current.keys().isEmpty() || !clock.instant().isBefore(refreshAt)) {
+            try {
+                refresh();
+            } catch (Exception e) {
+                log.warn("Apple 공개키 갱신 실패 - 기존 키 {}개를 계속 사용합니다: {}", current.keys().size(), e.getMessage());
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshIfStale();
+    }
+
+    /**
+     * 진행 중인 조회가 있으면 그 결과를 기다리고, 없으면 최근 조회 후 일정 시간이 지난 경우에만 다시 받아옵니다.
+     * (존재하지 않는 kid 를 반복해서 보내는 요청이 Apple 조회를 유발하지 않도록)
+     */
+    private Snapshot refreshForUnknownKid() {
+        synchronized (refreshLock) {
+            if (inFlight == null && !snapshot.keys().isEmpty()
+                    && Duration.between(lastFetchAttempt, clock.instant()).compareTo(minRefetchInterval) < 0) {
+                return snapshot;
+            }
+        }
+        return refresh();
+    }
+
+    /**
+     * 키 목록을 다시 받아옵니다. 이미 진행 중인 조회가 있으면 그 결과를 함께 기다립니다.
+     */
+    Snapshot refresh() {
+        CompletableFuture<Snapshot> future;
+        boolean owner = false;
+        synchronized (refreshLock) {
+            if (inFlight == null) {
+                inFlight = new CompletableFuture<>();
+                owner = true;
+            }
+            future = inFlight;
+        }
+
+        if (owner) {
+            try {
+                lastFetchAttempt = clock.instant();
+                Snapshot fetched = fetch();
+                snapshot = fetched;
+                future.complete(fetched);
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            } finally {
+                synchronized (refreshLock) {
+                    inFlight = null;
+                }
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+        }
+    }
+
+    private Snapshot fetch() throws Exception {
+        ResponseEntity<String> response = restTemplate.getForEntity(keysUrl, String.class);
+        JsonNode keys = objectMapper.readTree(response.getBody()).path("keys");
+
+        Map<String, PublicKey> publicKeys = new HashMap<>();
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        for (JsonNode key : keys) {
+            String kid = key.path("kid").asText(null);
+            if (kid == null || !"RSA".equals(key.path("kty").asText("RSA"))) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(key.path("n").asText()));
+            BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(key.path("e").asText()));
+            publicKeys.put(kid, keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+        if (publicKeys.isEmpty()) {
+            throw new IllegalStateException("Apple JWKS 응답에 사용할 수 있는 키가 없습니다.");
+        }
+
+        Instant now = clock.instant();
+        Snapshot fetched = new Snapshot(Map.copyOf(publicKeys), now, now.plus(ttlOf(response.getHeaders())));
+        log.info("Apple 공개키 갱신 완료 - {}개, 만료: {}", publicKeys.size(), fetched.expiresAt());
+        return fetched;
+    }
+
+    private Duration ttlOf(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE.matcher(cacheControl);
+            if (matcher.find()) {
+                return Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+            }
+        }
+        return defaultTtl;
+    }
+
+    record Snapshot(Map<String, PublicKey> keys, Instant fetchedAt, Instant expiresAt) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Instant.EPOCH, Instant.EPOCH);
+    }
+}
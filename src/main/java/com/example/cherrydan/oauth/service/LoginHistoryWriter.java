@@ -0,0 +1,180 @@
+package com.example.cherrydan.oauth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 기록 비동기 배치 저장
+ *
+ * 로그인마다 user_login_history 에 한 건씩 INSERT 하던 것을 메모리 버퍼에 모아 두었다가
+ * batch-size 건이 모이거나 flush-interval-ms 가 지나면 한 번의 multi-row INSERT 로 저장합니다.
+ * - 버퍼가 가득 차면 호출 스레드가 직접 저장 (CallerRuns, 기록을 버리지 않고 로그인 속도를 DB 에 맞춤)
+ * - 웹 서버의 graceful shutdown 이 끝난 뒤 정지하며, 정지 시 남은 기록을 모두 저장
+ */
+@Slf4j
+@Component
+public class LoginHistoryWriter implements SmartLifecycle {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO user_login_history (user_id, login_date, created_at, updated_at) VALUES ";
+    private static final long IDLE_POLL_MS = 100; // 정지 요청을 확인하는 간격
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<LoginEvent> buffer;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final Counter writtenCounter;
+    private final Counter callerRunsCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public LoginHistoryWriter(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${login-history.buffer-capacity:10000}") int bufferCapacity,
+            @Value("${login-history.batch-size:500}") int batchSize,
+            @Value("${login-history.flush-interval-ms:1000}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.writtenCounter = Counter.builder("login.history.writes").tag("result", "written").register(meterRegistry);
+        this.callerRunsCounter = Counter.builder("login.history.writes").tag("result", "caller_runs").register(meterRegistry);
+        this.failedCounter = Counter.builder("login.history.writes").tag("result", "failed").register(meterRegistry);
+        Gauge.builder("login.history.buffer.size", buffer, BlockingQueue::size).register(meterRegistry);
+    }
+
+    /**
+     * 로그인 기록을 버퍼에 추가합니다. 버퍼가 가득 찼거나 정지 중이면 호출 스레드에서 바로 저장합니다.
+     */
+    public void submit(Long userId, LocalDateTime loginDate) {
+        LoginEvent event = new LoginEvent(userId, loginDate);
+        if (running && buffer.offer(event)) {
+            return;
+        }
+        callerRunsCounter.increment();
+        write(List.of(event));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::runLoop, "login-history-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            worker.join(flushIntervalMs + IDLE_POLL_MS * 10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 작업 스레드가 끝나지 않았더라도 남은 기록은 여기서 저장
+        List<LoginEvent> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            write(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+        log.info("로그인 기록 저장 스레드 정지 - 종료 시 {}건 저장", remaining.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(graceful shutdown) 보다 늦게 정지하여 처리 중이던 로그인 요청의 기록까지 저장
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void runLoop() {
+        List<LoginEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                LoginEvent first = buffer.poll(Math.min(flushIntervalMs, IDLE_POLL_MS), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collectUntilFullOrDeadline(batch, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs));
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("로그인 기록 저장 스레드 오류: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectUntilFullOrDeadline(List<LoginEvent> batch, long deadlineNanos) throws InterruptedException {
+        while (batch.size() < batchSize && running) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (batch.size() >= batchSize || remainingNanos <= 0) {
+                return;
+            }
+            LoginEvent next = buffer.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 한 번의 multi-row INSERT 로 저장합니다. 실패한 기록은 로그만 남기고 버립니다 (로그인 처리에는 영향 없음).
+     */
+    void write(List<LoginEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(events.size(), "(?, ?, ?, ?)"));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Object[] params = new Object[events.size() * 4];
+        int i = 0;
+        for (LoginEvent event : events) {
+            params[i++] = event.userId();
+            params[i++] = Timestamp.valueOf(event.loginDate());
+            params[i++] = now;
+            params[i++] = now;
+        }
+
+        try {
+            jdbcTemplate.update(sql, params);
+            writtenCounter.increment(events.size());
+        } catch (Exception e) {
+            failedCounter.increment(events.size());
+            log.error("로그인 기록 {}건 저장 실패: {}", events.size(), e.getMessage());
+        }
+    }
+
+    record LoginEvent(Long userId, LocalDateTime loginDate) {
+    }
+}
@@ -5,11 +5,11 @@ import com.example.cherrydan.common.exception.ErrorMessage;
 import com.example.cherrydan.oauth.domain.AuthProvider;
 import com.example.cherrydan.oauth.dto.LoginRequest;
 import com.example.cherrydan.oauth.dto.LoginResponse;
-import com.example.cherrydan.oauth.dto.TokenDTO;
-import com.example.cherrydan.oauth.security.jwt.JwtTokenProvider;
 import com.example.cherrydan.oauth.security.oauth2.user.OAuth2UserInfo;
 import com.example.cherrydan.oauth.strategy.OAuthStrategy;
 import com.example.cherrydan.user.domain.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,6 +19,7 @@ import javax.annotation.PostConstruct;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * OAuth 인증 Facade 서비스
@@ -29,11 +30,14 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class OAuthFacade {
     
+    private static final String STAGE_REMOTE_VERIFY = "remote_verify";
+    private static final String STAGE_PERSIST = "persist";
+    
     private final List<OAuthStrategy> strategies;
     private final OAuthUserProcessingService oAuthDomainService;
+    private final OAuthLoginCompletionService loginCompletionService;
     private final UserLoginHistoryService loginHistoryService;
-    private final JwtTokenProvider jwtTokenProvider;
-    private final RefreshTokenService refreshTokenService;
+    private final MeterRegistry meterRegistry;
     
     private final Map<AuthProvider, OAuthStrategy> strategyMap = new HashMap<>();
     
@@ -47,36 +51,25 @@ public class OAuthFacade {
     
     /**
      * 통합 OAuth 로그인 처리
+     * 제공자 검증(외부 HTTP 호출)은 트랜잭션 밖에서 수행하고, DB 작업만 짧은 트랜잭션으로 처리하여
+     * 제공자 응답을 기다리는 동안 DB 커넥션을 점유하지 않습니다.
      * @param provider OAuth 제공자
      * @param loginRequest 로그인 요청 정보
      * @return 로그인 응답 (JWT 토큰 포함)
      */
-    @Transactional
     public LoginResponse processOAuthLogin(AuthProvider provider, LoginRequest loginRequest) {
         log.info("Processing OAuth login for provider: {}", provider);
         
         // 1. 적절한 전략 선택
         OAuthStrategy strategy = getStrategy(provider);
         
-        // 2. 사용자 정보 조회
-        OAuth2UserInfo userInfo = strategy.getUserInfo(loginRequest.getAccessToken());
-        
-        // 3. 도메인 서비스를 통한 사용자 처리
-        User user = oAuthDomainService.processOAuthUser(userInfo, provider, loginRequest);
-        
-        // 4. 로그인 기록 저장
-        loginHistoryService.recordLogin(user.getId());
-        
-        // 5. JWT 토큰 생성
-        TokenDTO tokenDTO = jwtTokenProvider.generateTokens(user.getId(), user.getEmail());
-        
-        // 6. Refresh Token 저장
-        refreshTokenService.saveOrUpdateRefreshToken(user, tokenDTO.getRefreshToken());
+        // 2. 사용자 정보 조회 (외부 호출, 트랜잭션 없음)
+        OAuth2UserInfo userInfo = recordStage(provider, STAGE_REMOTE_VERIFY,
+            () -> strategy.getUserInfo(loginRequest.getAccessToken()));
         
-        log.info("{} OAuth login successful: userId={}, email={}", 
-            provider, user.getId(), user.getEmail());
-        
-        return new LoginResponse(tokenDTO, user.getId());
+        // 3. 사용자 처리, 로그인 기록, 토큰 발급/저장 (트랜잭션 - 이 단계에서만 DB 커넥션 점유)
+        return recordStage(provider, STAGE_PERSIST,
+            () -> loginCompletionService.completeLogin(userInfo, provider, loginRequest));
     }
     
     
@@ -97,6 +90,26 @@ public class OAuthFacade {
         return user;
     }
     
+    /**
+     * 로그인 단계별 소요 시간 기록 (persist 단계 시간 = 로그인 요청의 DB 커넥션 점유 시간)
+     */
+    private <T> T recordStage(AuthProvider provider, String stage, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("oauth.login.stage")
+                .tag("provider", provider.name())
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+        }
+    }
+    
     /**
      * 제공자에 맞는 전략 가져오기
      */
@@ -0,0 +1,53 @@
+package com.example.cherrydan.oauth.service;
+
+import com.example.cherrydan.oauth.domain.AuthProvider;
+import com.example.cherrydan.oauth.dto.LoginRequest;
+import com.example.cherrydan.oauth.dto.LoginResponse;
+import com.example.cherrydan.oauth.dto.TokenDTO;
+import com.example.cherrydan.oauth.security.jwt.JwtTokenProvider;
+import com.example.cherrydan.oauth.security.oauth2.user.OAuth2UserInfo;
+import com.example.cherrydan.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * OAuth 로그인 DB 처리 단계
+ * 제공자 검증(외부 호출)이 끝난 사용자 정보로 DB 작업만 하나의 짧은 트랜잭션에서 수행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OAuthLoginCompletionService {
+
+    private final OAuthUserProcessingService oAuthDomainService;
+    private final UserLoginHistoryService loginHistoryService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+
+    /**
+     * 사용자 생성/갱신, 디바이스(FCM) 등록, 로그인 기록, Refresh Token 저장
+     * @param userInfo 제공자 검증을 마친 사용자 정보
+     * @return 로그인 응답 (JWT 토큰 포함)
+     */
+    @Transactional
+    public LoginResponse completeLogin(OAuth2UserInfo userInfo, AuthProvider provider, LoginRequest loginRequest) {
+        // 1. 도메인 서비스를 통한 사용자 처리
+        User user = oAuthDomainService.processOAuthUser(userInfo, provider, loginRequest);
+
+        // 2. 로그인 기록 저장
+        loginHistoryService.recordLogin(user.getId());
+
+        // 3. JWT 토큰 생성
+        TokenDTO tokenDTO = jwtTokenProvider.generateTokens(user.getId(), user.getEmail());
+
+        // 4. Refresh Token 저장
+        refreshTokenService.saveOrUpdateRefreshToken(user, tokenDTO.getRefreshToken());
+
+        log.info("{} OAuth login successful: userId={}, email={}",
+            provider, user.getId(), user.getEmail());
+
+        return new LoginResponse(tokenDTO, user.getId());
+    }
+}
@@ -15,9 +15,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SnsConfig {
 
+    /**
+     * 자동 구성된 WebClient.Builder 는 공통 커넥션 풀/타임아웃 커넥터(HttpClientConfig)와 호출 지표가 적용되어 있음
+     */
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
+    public WebClient webClient(WebClient.Builder webClientBuilder) {
+        return webClientBuilder
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024))
                 .build();
     }
@@ -6,7 +6,11 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "keyword_campaign_alerts")
+@Table(name = "keyword_campaign_alerts",
+    indexes = {
+        @Index(name = "idx_user_visible_alert_date", columnList = "user_id, is_visible_to_user, alert_date"),
+        @Index(name = "idx_alert_date_stage_visible", columnList = "alert_date, alert_stage, is_visible_to_user")
+    })
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,89 @@
+package com.example.cherrydan.user.domain;
+
+import com.example.cherrydan.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 키워드 일일 매칭 결과
+ * 키워드 알림 배치가 구한 (키워드, 알림 날짜) 별 매칭 캠페인 ID 를 저장하여
+ * 맞춤형 캠페인 조회 시 텍스트 검색 없이 ID 로 페이지를 읽습니다.
+ * ID 목록은 오름차순 정렬 후 차분(delta)을 가변 길이 정수(varint)로 인코딩해 보관합니다.
+ */
+@Entity
+@Table(name = "keyword_daily_matches", uniqueConstraints = @UniqueConstraint(columnNames = {"keyword", "match_date"}))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KeywordDailyMatch extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 50, nullable = false)
+    private String keyword;
+
+    @Column(name = "match_date", nullable = false)
+    private LocalDate matchDate; // 알림 날짜 (전날 생성된 캠페인 기준)
+
+    @Column(name = "campaign_count", nullable = false)
+    private Integer campaignCount;
+
+    @Lob
+    @Column(name = "campaign_ids", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] campaignIds;
+
+    public static KeywordDailyMatch of(String keyword, LocalDate matchDate, long[] campaignIds) {
+        long[] sorted = campaignIds.clone();
+        Arrays.sort(sorted);
+        return KeywordDailyMatch.builder()
+                .keyword(keyword)
+                .matchDate(matchDate)
+                .campaignCount(sorted.length)
+                .campaignIds(encode(sorted))
+                .build();
+    }
+
+    /**
+     * 오름차순 캠페인 ID 목록
+     */
+    public long[] decodeCampaignIds() {
+        long[] ids = new long[campaignCount];
+        long previous = 0;
+        int position = 0;
+        for (int i = 0; i < ids.length; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = campaignIds[position++];
+                delta |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            previous += delta;
+            ids[i] = previous;
+        }
+        return ids;
+    }
+
+    private static byte[] encode(long[] sortedIds) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(sortedIds.length * 2);
+        long previous = 0;
+        for (long id : sortedIds) {
+            long delta = id - previous;
+            while ((delta & ~0x7FL) != 0) {
+                out.write((int) ((delta & 0x7F) | 0x80));
+                delta >>>= 7;
+            }
+            out.write((int) delta);
+            previous = id;
+        }
+        return out.toByteArray();
+    }
+}
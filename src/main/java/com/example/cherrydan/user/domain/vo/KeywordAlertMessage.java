@@ -2,7 +2,10 @@ package com.example.cherrydan.user.domain.vo;
 
 import com.example.cherrydan.notification.domain.AlertMessage;
 
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 키워드 알림 메시지 Value Object
@@ -14,6 +17,7 @@ public record KeywordAlertMessage(
 ) implements AlertMessage {
     private static final String DEFAULT_TITLE = "체리단";
     private static final String MESSAGE_TEMPLATE = "'%s' 키워드 캠페인이 %s건 등록됐어요.";
+    private static final String DIGEST_TEMPLATE = "'%s' 키워드 캠페인이 %s건 등록됐어요. 외 %d개 키워드에도 새 캠페인이 있어요.";
     private static final String TYPE = "keyword_campaign";
     private static final String ACTION = "open_personalized_page";
 
@@ -42,4 +46,40 @@ public record KeywordAlertMessage(
 
         return new KeywordAlertMessage(DEFAULT_TITLE, body, data);
     }
+
+    /**
+     * 한 사용자에게 매칭된 여러 키워드를 한 건의 알림으로 요약
+     * 캠페인 수가 가장 많은 키워드(같으면 키워드 순)를 대표로 하므로 키워드 구성이 같은 사용자는 같은 메시지를 받습니다.
+     *
+     * @param countsByKeyword 키워드별 캠페인 수
+     * @param policy 알림 정책
+     * @return 키워드가 하나면 단일 키워드 메시지, 여러 개면 요약 메시지
+     */
+    public static KeywordAlertMessage createDigest(
+        Map<String, Integer> countsByKeyword,
+        KeywordAlertPolicy policy
+    ) {
+        List<Map.Entry<String, Integer>> ranked = countsByKeyword.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()))
+            .toList();
+        Map.Entry<String, Integer> primary = ranked.get(0);
+        if (ranked.size() == 1) {
+            return create(primary.getKey(), primary.getValue(), policy);
+        }
+
+        String body = String.format(DIGEST_TEMPLATE,
+            primary.getKey(), policy.formatCountText(primary.getValue()), ranked.size() - 1);
+
+        // keyword, dailyNewCount 는 대표 키워드 기준 (단일 키워드 알림과 같은 형식), keywords 는 전체 목록
+        Map<String, String> data = Map.of(
+            "type", TYPE,
+            "keyword", primary.getKey(),
+            "keywords", ranked.stream().map(Map.Entry::getKey).collect(Collectors.joining(",")),
+            "dailyNewCount", String.valueOf(primary.getValue()),
+            "action", ACTION
+        );
+
+        return new KeywordAlertMessage(DEFAULT_TITLE, body, data);
+    }
 }
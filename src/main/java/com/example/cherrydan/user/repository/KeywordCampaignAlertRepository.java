@@ -7,7 +7,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface KeywordCampaignAlertRepository extends JpaRepository<KeywordCampaignAlert, Long> {
@@ -42,7 +45,28 @@ public interface KeywordCampaignAlertRepository extends JpaRepository<KeywordCam
     @Query("SELECT COUNT(kca) FROM KeywordCampaignAlert kca WHERE kca.user.id = :userId AND kca.isRead = false AND kca.isVisibleToUser = true")
     Long countUnreadByUserId(@Param("userId") Long userId);
 
+    /**
+     * 발송 완료 상태로 일괄 변경
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE KeywordCampaignAlert kca SET kca.alertStage = 1 WHERE kca.id IN :alertIds AND kca.alertStage = 0")
+    int markAsNotifiedByIds(@Param("alertIds") Collection<Long> alertIds);
+
     @Modifying
     @Query("DELETE FROM KeywordCampaignAlert kca WHERE kca.user.id = :userId")
     void deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * 보관 기간이 지난 알림을 오래된 날짜부터 배치 삭제 (idx_alert_date_stage_visible 선두 컬럼 범위 탐색)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        DELETE FROM keyword_campaign_alerts
+        WHERE alert_date < :before
+        ORDER BY alert_date
+        LIMIT :limit
+        """, nativeQuery = true)
+    int deleteAlertDateBefore(@Param("before") LocalDate before, @Param("limit") int limit);
 } 
\ No newline at end of file
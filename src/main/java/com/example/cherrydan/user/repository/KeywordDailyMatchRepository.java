@@ -0,0 +1,28 @@
+package com.example.cherrydan.user.repository;
+
+import com.example.cherrydan.user.domain.KeywordDailyMatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface KeywordDailyMatchRepository extends JpaRepository<KeywordDailyMatch, Long> {
+
+    Optional<KeywordDailyMatch> findByKeywordAndMatchDate(String keyword, LocalDate matchDate);
+
+    /**
+     * 해당 날짜의 매칭 결과 전체 삭제 (배치 재실행 시 덮어쓰기)
+     */
+    @Modifying
+    @Query("DELETE FROM KeywordDailyMatch m WHERE m.matchDate = :matchDate")
+    int deleteByMatchDate(@Param("matchDate") LocalDate matchDate);
+
+    /**
+     * 보관 기간이 지난 매칭 결과 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM KeywordDailyMatch m WHERE m.matchDate < :matchDate")
+    int deleteByMatchDateBefore(@Param("matchDate") LocalDate matchDate);
+}
@@ -0,0 +1,50 @@
+package com.example.cherrydan.user.service;
+
+import com.example.cherrydan.user.domain.KeywordCampaignAlert;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 키워드 맞춤 알림 JDBC 배치 저장
+ *
+ * KeywordCampaignAlert 는 IDENTITY 키라서 saveAll 이 건마다 INSERT 를 보냅니다.
+ * 매일 키워드 알림 생성 시 batchUpdate (rewriteBatchedStatements) 로 묶어서 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeywordCampaignAlertBatchWriter {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO keyword_campaign_alerts
+                (user_id, keyword, campaign_count, alert_date, alert_stage, is_visible_to_user, is_read, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<KeywordCampaignAlert> alerts) {
+        if (alerts.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, alerts, BATCH_SIZE, (ps, alert) -> {
+            ps.setLong(1, alert.getUser().getId());
+            ps.setString(2, alert.getKeyword());
+            ps.setInt(3, alert.getCampaignCount());
+            ps.setDate(4, Date.valueOf(alert.getAlertDate()));
+            ps.setInt(5, alert.getAlertStage());
+            ps.setBoolean(6, alert.getIsVisibleToUser());
+            ps.setBoolean(7, alert.getIsRead());
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.cherrydan.user.service;
+
+import com.example.cherrydan.user.domain.KeywordDailyMatch;
+import com.example.cherrydan.user.repository.KeywordDailyMatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 키워드 일일 매칭 결과 저장소
+ * 알림 직후 같은 (키워드, 날짜) 를 여러 사용자가 동시에 조회하므로 디코딩한 ID 목록을 메모리에 잠시 보관합니다.
+ */
+@Slf4j
+@Component
+public class KeywordDailyMatchStore {
+
+    private final KeywordDailyMatchRepository keywordDailyMatchRepository;
+    private final long ttlMillis;
+    private final int retentionDays;
+    private final Map<String, CachedIds> cache;
+
+    public KeywordDailyMatchStore(
+            KeywordDailyMatchRepository keywordDailyMatchRepository,
+            @Value("${keyword.daily-match.cache-size:2000}") int cacheSize,
+            @Value("${keyword.daily-match.cache-ttl-seconds:600}") long ttlSeconds,
+            @Value("${keyword.daily-match.retention-days:30}") int retentionDays) {
+        this.keywordDailyMatchRepository = keywordDailyMatchRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.retentionDays = retentionDays;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedIds> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * 해당 날짜의 매칭 결과를 통째로 교체하고 보관 기간이 지난 결과를 삭제합니다.
+     *
+     * @param matchDate 알림 날짜
+     * @param matchedCampaignIds 키워드별 매칭된 캠페인 ID
+     */
+    @Transactional
+    public void replace(LocalDate matchDate, Map<String, List<Long>> matchedCampaignIds) {
+        keywordDailyMatchRepository.deleteByMatchDate(matchDate);
+
+        Map<String, KeywordDailyMatch> matches = new LinkedHashMap<>();
+        matchedCampaignIds.forEach((keyword, campaignIds) -> matches.putIfAbsent(
+                keyword.trim(),
+                KeywordDailyMatch.of(keyword.trim(), matchDate, campaignIds.stream().mapToLong(Long::longValue).toArray())));
+        keywordDailyMatchRepository.saveAll(new ArrayList<>(matches.values()));
+
+        int expired = keywordDailyMatchRepository.deleteByMatchDateBefore(matchDate.minusDays(retentionDays));
+        synchronized (cache) {
+            cache.clear();
+        }
+        log.info("키워드 일일 매칭 결과 저장 - 날짜: {}, 키워드: {}개, 만료 삭제: {}건", matchDate, matches.size(), expired);
+    }
+
+    /**
+     * @return 저장된 결과가 없으면 Optional.empty() (배치 도입 전 날짜 등)
+     */
+    @Transactional(readOnly = true)
+    public Optional<long[]> findCampaignIds(String keyword, LocalDate matchDate) {
+        String key = matchDate + "|" + keyword;
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            CachedIds cached = cache.get(key);
+            if (cached != null && cached.expiresAt > now) {
+                return Optional.of(cached.campaignIds);
+            }
+        }
+
+        Optional<long[]> campaignIds = keywordDailyMatchRepository.findByKeywordAndMatchDate(keyword, matchDate)
+                .map(KeywordDailyMatch::decodeCampaignIds);
+        campaignIds.ifPresent(ids -> {
+            synchronized (cache) {
+                cache.put(key, new CachedIds(ids, now + ttlMillis));
+            }
+        });
+        return campaignIds;
+    }
+
+    private record CachedIds(long[] campaignIds, long expiresAt) {
+    }
+}
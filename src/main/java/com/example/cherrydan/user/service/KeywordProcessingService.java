@@ -1,132 +1,52 @@
 package com.example.cherrydan.user.service;
 
-import com.example.cherrydan.fcm.dto.NotificationRequest;
-import com.example.cherrydan.fcm.dto.NotificationResultDto;
-import com.example.cherrydan.fcm.service.NotificationService;
 import com.example.cherrydan.user.domain.KeywordCampaignAlert;
-import com.example.cherrydan.user.domain.User;
 import com.example.cherrydan.user.domain.UserKeyword;
-import com.example.cherrydan.user.domain.vo.KeywordAlertMessage;
-import com.example.cherrydan.user.domain.vo.KeywordAlertPolicy;
-import com.example.cherrydan.user.repository.KeywordCampaignAlertRepository;
-import com.example.cherrydan.campaign.service.CampaignServiceImpl;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 
 
 /**
- * 키워드 관련 비동기 처리를 담당하는 서비스
- * AOP 프록시가 정상 작동하도록 별도 서비스로 분리
+ * 키워드 알림 엔티티 생성
+ * 키워드별 신규 캠페인 수는 UserKeywordService 가 DailyKeywordMatchService 로 한 번에 구해 넘깁니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class KeywordProcessingService {
-    private final CampaignServiceImpl campaignService;
-    private final NotificationService notificationService;
 
     /**
-     * 키워드별 알림 처리 (비동기) - 사용자별 개별 예외 처리
+     * 신규 캠페인 수가 정해진 키워드에 대해 등록한 사용자별 알림 엔티티를 생성합니다. - 사용자별 개별 예외 처리
      */
-    @Async("keywordTaskExecutor")
-    @Transactional
-    public CompletableFuture<List<KeywordCampaignAlert>> processKeywordAsync(
-            String keyword, List<UserKeyword> userKeywords, LocalDate today) {
-        
+    public List<KeywordCampaignAlert> createKeywordAlerts(
+            String keyword, List<UserKeyword> userKeywords, int dailyNewCount, LocalDate today) {
+
         List<KeywordCampaignAlert> results = new ArrayList<>();
         int successCount = 0;
         int failureCount = 0;
-        
-        try {
-            // 지정 날짜 기준으로 생성된 캠페인 수 조회
-            long dailyNewCount = campaignService.getDailyCampaignCountByKeyword(keyword, today);
-            
-            // 신규 캠페인이 없으면 알림 생성하지 않음
-            if (dailyNewCount == 0) {
-                log.info("키워드 '{}' 어제 신규 캠페인 0개로 알림 생성하지 않음", keyword);
-                return CompletableFuture.completedFuture(results);
-            }
-            
-            // 해당 키워드를 등록한 모든 사용자에게 알림 처리
-            for (UserKeyword userKeyword : userKeywords) {
-                try {
-                    KeywordCampaignAlert alert = processKeywordAlert(userKeyword, (int) dailyNewCount, today);
-                    if (alert != null) {
-                        results.add(alert);
-                        successCount++;
-                        log.info("키워드 알림 생성: 사용자={}, 키워드={}, 어제신규={}건", 
-                                userKeyword.getUser().getId(), keyword, dailyNewCount);
-                    }
-                } catch (Exception e) {
-                    failureCount++;
-                    log.error("키워드 '{}' - 사용자 {} 처리 실패: {}", keyword, userKeyword.getUser().getId(), e.getMessage());
-                    // 개별 사용자 실패는 전체 키워드 처리를 중단하지 않음
+
+        for (UserKeyword userKeyword : userKeywords) {
+            try {
+                KeywordCampaignAlert alert = processKeywordAlert(userKeyword, dailyNewCount, today);
+                if (alert != null) {
+                    results.add(alert);
+                    successCount++;
+                    log.info("키워드 알림 생성: 사용자={}, 키워드={}, 어제신규={}건", 
+                            userKeyword.getUser().getId(), keyword, dailyNewCount);
                 }
+            } catch (Exception e) {
+                failureCount++;
+                log.error("키워드 '{}' - 사용자 {} 처리 실패: {}", keyword, userKeyword.getUser().getId(), e.getMessage());
+                // 개별 사용자 실패는 전체 키워드 처리를 중단하지 않음
             }
-            
-            log.info("키워드 '{}' 처리 완료: 성공 {}건, 실패 {}건", keyword, successCount, failureCount);
-            
-        } catch (Exception e) {
-            // 캠페인 수 조회 실패 등 키워드 전체 실패
-            log.error("키워드 '{}' 전체 처리 실패: {}", keyword, e.getMessage());
-            throw e; // 이 경우에만 exceptionally로 전파
         }
-        
-        return CompletableFuture.completedFuture(results);
-    }
 
-    /**
-     * 키워드별 단체 알림 발송 (비동기)
-     */
-    @Async("keywordTaskExecutor")
-    @Transactional
-    public CompletableFuture<List<KeywordCampaignAlert>> sendKeywordNotificationAsync(
-            String keyword, List<KeywordCampaignAlert> alerts) {
-        
-        List<KeywordCampaignAlert> successfulAlerts = new ArrayList<>();
-        
-        try {
-            // 간단! campaignCount가 어제 신규 증가분
-            int dailyNewCount = alerts.get(0).getCampaignCount();
-
-            KeywordAlertMessage keywordAlertMessage = KeywordAlertMessage.create(keyword, dailyNewCount, KeywordAlertPolicy.DEFAULT);
-            NotificationRequest notificationRequest = NotificationRequest.create(keywordAlertMessage);
-            
-            // 같은 키워드를 가진 사용자들에게 단체 발송
-            List<Long> userIds = alerts.stream()
-                    .map(alert -> alert.getUser().getId())
-                    .collect(Collectors.toList());
-            
-            NotificationResultDto result = notificationService.sendNotificationToUsers(userIds, notificationRequest);
-            
-            // 성공한 사용자들의 알림만 반환
-            if (result.getSuccessfulUserIds() != null && !result.getSuccessfulUserIds().isEmpty()) {
-                successfulAlerts = alerts.stream()
-                        .filter(alert -> result.getSuccessfulUserIds().contains(alert.getUser().getId()))
-                        .collect(Collectors.toList());
-                
-                log.info("키워드별 단체 발송 성공: 키워드={}, 어제신규={}건, 대상사용자={}명, 성공={}명", 
-                        keyword, dailyNewCount, userIds.size(), successfulAlerts.size());
-            } else {
-                log.warn("키워드별 단체 발송 완전 실패: 키워드={}, 대상사용자={}명", keyword, userIds.size());
-            }
-            
-        } catch (Exception e) {
-            log.error("키워드별 단체 발송 중 오류: 키워드={}, 오류={}", keyword, e.getMessage());
-            throw e; // exceptionally에서 처리하도록 예외 전파
-        }
-        
-        return CompletableFuture.completedFuture(successfulAlerts);
+        log.info("키워드 '{}' 처리 완료: 성공 {}건, 실패 {}건", keyword, successCount, failureCount);
+        return results;
     }
 
     /**
@@ -19,12 +19,22 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import org.springframework.data.domain.Page;
 import com.example.cherrydan.user.dto.KeywordCampaignAlertResponseDTO;
 import com.example.cherrydan.campaign.service.CampaignServiceImpl;
+import com.example.cherrydan.campaign.service.DailyKeywordMatchService;
+import com.example.cherrydan.fcm.dto.NotificationRequest;
+import com.example.cherrydan.fcm.service.BatchNotificationService;
+import com.example.cherrydan.notification.domain.NotificationType;
+import com.example.cherrydan.notification.service.NotificationOutboxService;
+import com.example.cherrydan.user.domain.vo.KeywordAlertMessage;
+import com.example.cherrydan.user.domain.vo.KeywordAlertPolicy;
 
 @Slf4j
 @Service
@@ -33,8 +43,16 @@ public class UserKeywordService {
     private final UserKeywordRepository userKeywordRepository;
     private final UserRepository userRepository;
     private final KeywordCampaignAlertRepository keywordAlertRepository;
+    private final KeywordCampaignAlertBatchWriter keywordAlertBatchWriter;
     private final CampaignServiceImpl campaignService;
     private final KeywordProcessingService keywordProcessingService;
+    private final DailyKeywordMatchService dailyKeywordMatchService;
+    private final KeywordDailyMatchStore keywordDailyMatchStore;
+    private final NotificationOutboxService notificationOutboxService;
+    private final BatchNotificationService batchNotificationService;
+
+    private static final int OUTBOX_ENQUEUE_BATCH_SIZE = 1000;
+    private static final int STATUS_UPDATE_BATCH_SIZE = 1000;
 
     @Transactional
     public void addKeyword(Long userId, String keyword) {
@@ -87,28 +105,27 @@ public class UserKeywordService {
                 .collect(Collectors.groupingBy(UserKeyword::getKeyword));
 
         LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+        // 어제 생성된 캠페인 제목을 한 번만 훑어 모든 키워드의 매칭 캠페인을 구함 (키워드별 FULLTEXT 조회 대체)
+        Map<String, List<Long>> matchedCampaignIds =
+                dailyKeywordMatchService.matchCampaignsCreatedOn(today.minusDays(1), keywordGroups.keySet());
+        // 맞춤형 캠페인 조회가 텍스트 검색 없이 ID 로 읽도록 매칭 결과 저장
+        keywordDailyMatchStore.replace(today, matchedCampaignIds);
+
+        List<KeywordCampaignAlert> alertsToSave = new ArrayList<>();
+        keywordGroups.forEach((keyword, userKeywords) -> {
+            int dailyNewCount = matchedCampaignIds.getOrDefault(keyword, List.of()).size();
+            // 신규 캠페인이 없으면 알림 생성하지 않음
+            if (dailyNewCount == 0) {
+                log.info("키워드 '{}' 어제 신규 캠페인 0개로 알림 생성하지 않음", keyword);
+                return;
+            }
+            alertsToSave.addAll(keywordProcessingService.createKeywordAlerts(keyword, userKeywords, dailyNewCount, today));
+        });
         
-        // 모든 키워드에 대해 비동기 처리 시작 (예외 처리 포함)
-        List<CompletableFuture<List<KeywordCampaignAlert>>> safeFutures = keywordGroups.entrySet().stream()
-            .map(entry -> keywordProcessingService.processKeywordAsync(entry.getKey(), entry.getValue(), today) // 어제 날짜로 고정
-                .exceptionally(throwable -> {
-                    log.error("키워드 '{}' 처리 실패: {}", entry.getKey(), throwable.getMessage());
-                    return new ArrayList<>(); // 실패시 빈 리스트 반환
-                }))
-            .toList();
-        
-        // 모든 비동기 작업 완료 대기
-        CompletableFuture.allOf(safeFutures.toArray(new CompletableFuture[0])).join();
-        
-        // 결과 수집
-        List<KeywordCampaignAlert> alertsToSave = safeFutures.stream()
-            .map(CompletableFuture::join)
-            .flatMap(List::stream)
-            .collect(Collectors.toList());
-        
-        // 벌크 저장으로 성능 최적화
+        // 벌크 저장으로 성능 최적화 (IDENTITY 키라 saveAll 은 건별 INSERT 이므로 JDBC 배치로 저장)
         if (!alertsToSave.isEmpty()) {
-            keywordAlertRepository.saveAll(alertsToSave);
+            keywordAlertBatchWriter.insertAll(alertsToSave);
             log.info("벌크 저장 완료: {}개 알림", alertsToSave.size());
         }
         
@@ -117,9 +134,10 @@ public class UserKeywordService {
 
 
     /**
-     * 키워드 맞춤 알림 발송 (범위별 배치 발송으로 최적화)
+     * 키워드 맞춤 알림 발송
+     * 사용자별로 오늘 매칭된 키워드를 한 건의 알림으로 묶고(여러 개면 요약), 같은 내용을 받는 사용자끼리 모아
+     * 내용마다 한 번씩 멀티캐스트합니다. FCM 전송 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행합니다.
      */
-    @Transactional
     public void sendKeywordCampaignNotifications() {
         log.info("키워드 맞춤 알림 발송 시작");
         
@@ -131,45 +149,92 @@ public class UserKeywordService {
             return;
         }
         
-        // 키워드별로 그룹핑 (같은 키워드 = 같은 메시지)
-        Map<String, List<KeywordCampaignAlert>> groupedByKeyword = unnotifiedAlerts.stream()
-                .collect(Collectors.groupingBy(KeywordCampaignAlert::getKeyword));
+        // outbox 모드: 적재만 하고 발송/상태 업데이트는 디스패처가 처리
+        if (notificationOutboxService.isEnabled()) {
+            enqueueKeywordNotifications(unnotifiedAlerts);
+            return;
+        }
+        
+        // 사용자별 알림 (한 사용자의 여러 키워드 → 요약 알림 한 건)
+        Map<Long, List<KeywordCampaignAlert>> alertsByUser = unnotifiedAlerts.stream()
+                .collect(Collectors.groupingBy(alert -> alert.getUser().getId(), LinkedHashMap::new, Collectors.toList()));
         
-        // 키워드별 병렬 알림 발송 (예외 처리 포함)
-        List<CompletableFuture<List<KeywordCampaignAlert>>> futures = groupedByKeyword.entrySet().stream()
-            .map(entry -> keywordProcessingService.sendKeywordNotificationAsync(entry.getKey(), entry.getValue())
-                .exceptionally(throwable -> {
-                    log.error("키워드 '{}' 알림 발송 실패: {}", entry.getKey(), throwable.getMessage());
-                    return new ArrayList<>(); // 실패시 빈 리스트 반환
-                }))
-            .toList();
+        // 같은 내용을 받는 사용자끼리 묶음 (내용마다 메시지는 한 번만 생성)
+        Map<KeywordAlertMessage, List<Long>> usersByMessage = new LinkedHashMap<>();
+        alertsByUser.forEach((userId, alerts) -> usersByMessage
+                .computeIfAbsent(digestMessage(alerts), message -> new ArrayList<>())
+                .add(userId));
         
-        // 모든 비동기 작업 완료 대기
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        List<BatchNotificationService.MulticastTarget> targets = usersByMessage.entrySet().stream()
+                .map(entry -> new BatchNotificationService.MulticastTarget(NotificationRequest.create(entry.getKey()), entry.getValue()))
+                .toList();
         
-        // 결과 수집
-        List<KeywordCampaignAlert> allAlertsToUpdate = futures.stream()
-            .map(CompletableFuture::join)
-            .flatMap(List::stream)
-            .collect(Collectors.toList());
+        Set<Long> deliveredUsers = batchNotificationService.multicastToUsers(targets);
         
-        int totalSentCount = allAlertsToUpdate.size();
+        // 전송에 성공한 사용자의 알림은 요약에 포함된 키워드까지 모두 발송 완료 처리
+        List<Long> notifiedAlertIds = unnotifiedAlerts.stream()
+                .filter(alert -> deliveredUsers.contains(alert.getUser().getId()))
+                .map(KeywordCampaignAlert::getId)
+                .toList();
         
-        // 성공한 알림들 상태 업데이트
-        if (totalSentCount > 0) {
+        int updatedCount = 0;
+        for (int from = 0; from < notifiedAlertIds.size(); from += STATUS_UPDATE_BATCH_SIZE) {
             try {
-                allAlertsToUpdate.forEach(alert -> 
-                    alert.markAsNotified());
-                keywordAlertRepository.saveAll(allAlertsToUpdate);
-                
-                log.info("알림 상태 벌크 업데이트 완료: 성공한 알림 {}개", allAlertsToUpdate.size());
-                
+                updatedCount += keywordAlertRepository.markAsNotifiedByIds(
+                        notifiedAlertIds.subList(from, Math.min(from + STATUS_UPDATE_BATCH_SIZE, notifiedAlertIds.size())));
             } catch (Exception e) {
                 log.error("알림 상태 업데이트 실패: {}", e.getMessage());
             }
         }
         
-        log.info("키워드 맞춤 개별 알림 발송 완료: 총 {}건 발송", totalSentCount);
+        log.info("키워드 맞춤 알림 발송 완료: 알림 {}건, 사용자 {}명, 알림 내용 {}종, 발송 성공 사용자 {}명, 상태 업데이트 {}건",
+                unnotifiedAlerts.size(), alertsByUser.size(), targets.size(), deliveredUsers.size(), updatedCount);
+    }
+
+    private KeywordAlertMessage digestMessage(List<KeywordCampaignAlert> userAlerts) {
+        // campaignCount가 어제 신규 증가분 (같은 키워드가 중복되면 큰 값 사용)
+        Map<String, Integer> countsByKeyword = userAlerts.stream()
+                .collect(Collectors.toMap(KeywordCampaignAlert::getKeyword, KeywordCampaignAlert::getCampaignCount, Math::max));
+        return KeywordAlertMessage.createDigest(countsByKeyword, KeywordAlertPolicy.DEFAULT);
+    }
+
+    /**
+     * outbox 모드도 직접 발송과 같이 사용자별 요약 알림 한 건만 적재합니다. (같은 내용의 요청은 한 번만 생성)
+     * 아웃박스 행은 사용자의 대표 알림(가장 먼저 생성된 알림)에 연결되어 발송 결과와 재시도를 따르고,
+     * 요약에 포함된 나머지 알림은 적재 후 발송 완료로 처리합니다.
+     */
+    private void enqueueKeywordNotifications(List<KeywordCampaignAlert> alerts) {
+        Map<Long, List<KeywordCampaignAlert>> alertsByUser = alerts.stream()
+                .collect(Collectors.groupingBy(alert -> alert.getUser().getId(), LinkedHashMap::new, Collectors.toList()));
+
+        Map<KeywordAlertMessage, NotificationRequest> requests = new HashMap<>();
+        List<NotificationOutboxService.OutboxMessage> messages = new ArrayList<>(alertsByUser.size());
+        List<Long> foldedAlertIds = new ArrayList<>();
+        alertsByUser.forEach((userId, userAlerts) -> {
+            KeywordCampaignAlert representative = userAlerts.stream()
+                    .min(Comparator.comparing(KeywordCampaignAlert::getId))
+                    .orElseThrow();
+            userAlerts.stream()
+                    .map(KeywordCampaignAlert::getId)
+                    .filter(id -> !id.equals(representative.getId()))
+                    .forEach(foldedAlertIds::add);
+            messages.add(new NotificationOutboxService.OutboxMessage(
+                    representative.getId(), userId, requests.computeIfAbsent(digestMessage(userAlerts), NotificationRequest::create)));
+        });
+
+        int enqueued = 0;
+        for (int from = 0; from < messages.size(); from += OUTBOX_ENQUEUE_BATCH_SIZE) {
+            enqueued += notificationOutboxService.enqueue(NotificationType.KEYWORD_CAMPAIGN,
+                    messages.subList(from, Math.min(from + OUTBOX_ENQUEUE_BATCH_SIZE, messages.size())));
+        }
+
+        int folded = 0;
+        for (int from = 0; from < foldedAlertIds.size(); from += STATUS_UPDATE_BATCH_SIZE) {
+            folded += keywordAlertRepository.markAsNotifiedByIds(
+                    foldedAlertIds.subList(from, Math.min(from + STATUS_UPDATE_BATCH_SIZE, foldedAlertIds.size())));
+        }
+        log.info("키워드 맞춤 알림 아웃박스 적재 완료: 알림 {}건, 사용자 {}명, 새로 적재된 토큰 행 {}건, 요약에 포함된 알림 {}건",
+                alerts.size(), messages.size(), enqueued, folded);
     }
 
     /**
@@ -3,7 +3,9 @@ package com.example.cherrydan.user.service;
 import com.example.cherrydan.activity.repository.ActivityAlertRepository;
 import com.example.cherrydan.campaign.repository.BookmarkRepository;
 import com.example.cherrydan.campaign.repository.CampaignStatusRepository;
+import com.example.cherrydan.campaign.service.BookmarkIdCache;
 import com.example.cherrydan.fcm.repository.UserFCMTokenRepository;
+import com.example.cherrydan.fcm.service.FcmTokenRegistry;
 import com.example.cherrydan.inquiry.repository.InquiryRepository;
 import com.example.cherrydan.oauth.repository.RefreshTokenRepository;
 import com.example.cherrydan.sns.repository.SnsConnectionRepository;
@@ -26,6 +28,8 @@ public class UserRelatedDataDeletionService {
     private final KeywordCampaignAlertRepository keywordCampaignAlertRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserFCMTokenRepository userFCMTokenRepository;
+    private final BookmarkIdCache bookmarkIdCache;
+    private final FcmTokenRegistry fcmTokenRegistry;
 
     @Transactional
     public void deleteUserRelatedData(Long userId) {
@@ -35,10 +39,13 @@ public class UserRelatedDataDeletionService {
         campaignStatusRepository.deleteByUserId(userId);
         inquiryRepository.deleteByUserId(userId);
         bookmarkRepository.deleteByUserId(userId);
+        bookmarkIdCache.invalidate(userId);
         activityAlertRepository.deleteByUserId(userId);
         keywordCampaignAlertRepository.deleteByUserId(userId);
         refreshTokenRepository.deleteByUserId(userId);
         userFCMTokenRepository.deleteByUserId(userId);
+        // 삭제는 updatedAt 워터마크로 잡히지 않으므로 레지스트리에서 바로 제외
+        fcmTokenRegistry.removeUserAfterCommit(userId);
 
         log.info("유저 ID {}의 모든 연관 데이터 삭제 완료", userId);
     }
@@ -0,0 +1,154 @@
+package com.example.cherrydan.activity.service;
+
+import com.example.cherrydan.activity.domain.ActivityAlert;
+import com.example.cherrydan.activity.domain.ActivityAlertType;
+import com.example.cherrydan.activity.repository.ActivityAlertRepository;
+import com.example.cherrydan.campaign.domain.Campaign;
+import com.example.cherrydan.campaign.domain.CampaignType;
+import com.example.cherrydan.campaign.repository.CampaignRepository;
+import com.example.cherrydan.user.domain.Gender;
+import com.example.cherrydan.user.domain.User;
+import com.example.cherrydan.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 07:00 활동 알림 생성의 저장 단계 비교
+ * IDENTITY 키 엔티티의 saveAllAndFlush (건별 INSERT) 와 JDBC writer (multi-row INSERT IGNORE) 를
+ * 같은 건수, 같은 배치 크기(500)로 저장해 소요 시간을 비교합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+@DisplayName("활동 알림 배치 저장 성능 비교")
+class ActivityAlertBatchWriteBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityAlertBatchWriteBenchmarkTest.class);
+
+    private static final int USER_COUNT = 50;
+    private static final int CAMPAIGN_COUNT = 100; // 사용자 x 캠페인 = 5,000건
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private ActivityAlertBatchWriter activityAlertBatchWriter;
+
+    @Autowired
+    private ActivityAlertRepository activityAlertRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    private List<User> users;
+    private List<Campaign> campaigns;
+
+    @BeforeEach
+    void setUp() {
+        activityAlertRepository.deleteAll();
+        users = userRepository.saveAll(IntStream.range(0, USER_COUNT)
+            .mapToObj(i -> User.builder()
+                .nickname("bench" + i)
+                .email("bench" + i + "@example.com")
+                .gender(Gender.MALE)
+                .build())
+            .toList());
+        campaigns = campaignRepository.saveAll(IntStream.range(0, CAMPAIGN_COUNT)
+            .mapToObj(i -> Campaign.builder()
+                .title("벤치마크 캠페인 " + i)
+                .detailUrl("https://example.com/bench_" + i + "_" + System.nanoTime())
+                .benefit("10000 포인트")
+                .recruitCount(100)
+                .applicantCount(0)
+                .applyStart(LocalDate.now().minusDays(10))
+                .applyEnd(LocalDate.now().plusDays(1))
+                .campaignType(CampaignType.PRODUCT)
+                .isActive(true)
+                .sourceSite("테스트")
+                .build())
+            .toList());
+    }
+
+    @AfterEach
+    void cleanup() {
+        activityAlertRepository.deleteAll();
+        campaignRepository.deleteAll(campaigns);
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    @DisplayName("JDBC 배치 저장이 saveAllAndFlush 보다 빠르다")
+    void batchWriter_FasterThanSaveAllAndFlush() {
+        LocalDate today = LocalDate.now();
+
+        // 워밍업 (커넥션, 구문 캐시)
+        activityAlertBatchWriter.insertIgnoringDuplicates(alerts(today.minusDays(1)).subList(0, BATCH_SIZE));
+        activityAlertRepository.deleteAll();
+
+        long jpaMillis = measure(alerts(today), activityAlertRepository::saveAllAndFlush);
+        long jdbcMillis = measure(alerts(today.plusDays(1)), activityAlertBatchWriter::insertIgnoringDuplicates);
+
+        log.info("활동 알림 {}건 저장 - saveAllAndFlush: {}ms, JDBC 배치: {}ms ({}배)",
+            USER_COUNT * CAMPAIGN_COUNT, jpaMillis, jdbcMillis,
+            String.format("%.1f", (double) jpaMillis / Math.max(jdbcMillis, 1)));
+
+        assertThat(activityAlertRepository.count()).isEqualTo(2L * USER_COUNT * CAMPAIGN_COUNT);
+        assertThat(jdbcMillis).isLessThan(jpaMillis);
+    }
+
+    @Test
+    @DisplayName("같은 날짜로 다시 실행하면 모두 중복으로 건너뛰고 첫 실행과 비슷한 비용으로 끝난다")
+    void insertIgnoringDuplicates_RerunIsIdempotent() {
+        List<ActivityAlert> alerts = alerts(LocalDate.now());
+        int[] inserted = new int[2];
+
+        long firstMillis = measure(alerts, batch -> inserted[0] += activityAlertBatchWriter.insertIgnoringDuplicates(batch));
+        long rerunMillis = measure(alerts, batch -> inserted[1] += activityAlertBatchWriter.insertIgnoringDuplicates(batch));
+
+        log.info("활동 알림 {}건 - 첫 실행: {}건 추가 {}ms, 재실행: {}건 추가 {}ms",
+            alerts.size(), inserted[0], firstMillis, inserted[1], rerunMillis);
+
+        assertThat(inserted[0]).isEqualTo(alerts.size());
+        assertThat(inserted[1]).isZero();
+        assertThat(activityAlertRepository.count()).isEqualTo(alerts.size());
+        assertThat(rerunMillis).isLessThanOrEqualTo(firstMillis * 2);
+    }
+
+    private long measure(List<ActivityAlert> alerts, Consumer<List<ActivityAlert>> saver) {
+        long start = System.nanoTime();
+        for (int from = 0; from < alerts.size(); from += BATCH_SIZE) {
+            saver.accept(alerts.subList(from, Math.min(from + BATCH_SIZE, alerts.size())));
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private List<ActivityAlert> alerts(LocalDate alertDate) {
+        List<ActivityAlert> alerts = new ArrayList<>(USER_COUNT * CAMPAIGN_COUNT);
+        for (User user : users) {
+            for (Campaign campaign : campaigns) {
+                alerts.add(ActivityAlert.builder()
+                    .user(user)
+                    .campaign(campaign)
+                    .alertDate(alertDate)
+                    .alertType(ActivityAlertType.BOOKMARK_DEADLINE_D1)
+                    .build());
+            }
+        }
+        return alerts;
+    }
+}
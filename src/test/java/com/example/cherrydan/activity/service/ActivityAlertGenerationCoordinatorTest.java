@@ -0,0 +1,162 @@
+package com.example.cherrydan.activity.service;
+
+import com.example.cherrydan.activity.domain.ActivityAlertGeneration;
+import com.example.cherrydan.activity.domain.ActivityAlertGenerationStatus;
+import com.example.cherrydan.activity.repository.ActivityAlertGenerationRepository;
+import com.example.cherrydan.activity.strategy.AlertStrategy;
+import com.example.cherrydan.activity.strategy.SetBasedAlertStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityAlertGenerationCoordinator 테스트")
+class ActivityAlertGenerationCoordinatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+
+    @Mock
+    private ActivityProcessingService activityProcessingService;
+
+    @Mock
+    private ActivityAlertGenerationRepository generationRepository;
+
+    private final AlertStrategy bookmarkStrategy = mock(AlertStrategy.class);
+    private final AlertStrategy reviewingStrategy = mock(AlertStrategy.class);
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private ActivityAlertGenerationCoordinator coordinator(long timeoutMinutes) {
+        return new ActivityAlertGenerationCoordinator(
+            List.of(bookmarkStrategy, reviewingStrategy), activityProcessingService, generationRepository,
+            meterRegistry, timeoutMinutes, 10, "iterator", Runnable::run);
+    }
+
+    @Test
+    @DisplayName("모든 전략이 끝나면 합계와 함께 COMPLETED 로 기록한다")
+    void generate_AllStrategiesSucceed_MarksCompleted() {
+        // given
+        when(generationRepository.findById(TODAY)).thenReturn(Optional.empty());
+        when(activityProcessingService.processBatchAlertsAsync(bookmarkStrategy, TODAY))
+            .thenReturn(CompletableFuture.completedFuture(new ActivityProcessingService.StrategyResult("bookmark", 10, 2)));
+        when(activityProcessingService.processBatchAlertsAsync(reviewingStrategy, TODAY))
+            .thenReturn(CompletableFuture.completedFuture(new ActivityProcessingService.StrategyResult("reviewing", 5, 0)));
+
+        // when
+        ActivityAlertGenerationCoordinator.GenerationReport report = coordinator(150).generate(TODAY).join();
+
+        // then
+        assertThat(report.status()).isEqualTo(ActivityAlertGenerationStatus.COMPLETED);
+        assertThat(report.inserted()).isEqualTo(15);
+        assertThat(report.skipped()).isEqualTo(2);
+        assertThat(report.failedStrategies()).isEmpty();
+
+        ArgumentCaptor<ActivityAlertGeneration> saved = ArgumentCaptor.forClass(ActivityAlertGeneration.class);
+        verify(generationRepository, atLeastOnce()).save(saved.capture());
+        ActivityAlertGeneration last = saved.getValue();
+        assertThat(last.getStatus()).isEqualTo(ActivityAlertGenerationStatus.COMPLETED);
+        assertThat(last.getInsertedCount()).isEqualTo(15);
+        assertThat(last.getCompletedAt()).isNotNull();
+        assertThat(meterRegistry.find("activity.alert.generation").tag("status", "COMPLETED").timer()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("전략 하나가 실패해도 나머지 결과를 모으고 FAILED 로 기록한다")
+    void generate_OneStrategyFails_MarksFailed() {
+        when(generationRepository.findById(TODAY)).thenReturn(Optional.empty());
+        when(activityProcessingService.processBatchAlertsAsync(bookmarkStrategy, TODAY))
+            .thenReturn(CompletableFuture.completedFuture(new ActivityProcessingService.StrategyResult("bookmark", 10, 0)));
+        when(activityProcessingService.processBatchAlertsAsync(reviewingStrategy, TODAY))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("db down")));
+
+        ActivityAlertGenerationCoordinator.GenerationReport report = coordinator(150).generate(TODAY).join();
+
+        assertThat(report.status()).isEqualTo(ActivityAlertGenerationStatus.FAILED);
+        assertThat(report.inserted()).isEqualTo(10);
+        assertThat(report.failedStrategies()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("sql 모드면 집합 기반 전략은 INSERT ... SELECT 경로로, 나머지는 iterator 경로로 실행한다")
+    void generate_SqlMode_RoutesSetBasedStrategies() {
+        SetBasedAlertStrategy setBasedStrategy = mock(SetBasedAlertStrategy.class);
+        when(generationRepository.findById(TODAY)).thenReturn(Optional.empty());
+        when(activityProcessingService.processSetBasedAlertsAsync(setBasedStrategy, TODAY))
+            .thenReturn(CompletableFuture.completedFuture(new ActivityProcessingService.StrategyResult("bookmark", 7, 0)));
+        when(activityProcessingService.processBatchAlertsAsync(reviewingStrategy, TODAY))
+            .thenReturn(CompletableFuture.completedFuture(new ActivityProcessingService.StrategyResult("reviewing", 5, 1)));
+
+        ActivityAlertGenerationCoordinator.GenerationReport report = new ActivityAlertGenerationCoordinator(
+            List.of(setBasedStrategy, reviewingStrategy), activityProcessingService, generationRepository,
+            meterRegistry, 150, 10, "sql", Runnable::run).generate(TODAY).join();
+
+        assertThat(report.status()).isEqualTo(ActivityAlertGenerationStatus.COMPLETED);
+        assertThat(report.inserted()).isEqualTo(12);
+        verify(activityProcessingService, never()).processBatchAlertsAsync(setBasedStrategy, TODAY);
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나지 않으면 TIMED_OUT 으로 기록한다")
+    void generate_StrategyNotFinished_MarksTimedOut() {
+        when(generationRepository.findById(TODAY)).thenReturn(Optional.empty());
+        when(activityProcessingService.processBatchAlertsAsync(bookmarkStrategy, TODAY))
+            .thenReturn(CompletableFuture.completedFuture(new ActivityProcessingService.StrategyResult("bookmark", 3, 0)));
+        when(activityProcessingService.processBatchAlertsAsync(reviewingStrategy, TODAY))
+            .thenReturn(new CompletableFuture<>());
+
+        ActivityAlertGenerationCoordinator.GenerationReport report = coordinator(0).generate(TODAY).join();
+
+        assertThat(report.status()).isEqualTo(ActivityAlertGenerationStatus.TIMED_OUT);
+        assertThat(report.inserted()).isEqualTo(3);
+        assertThat(report.failedStrategies()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("진행 중이던 생성이 끝나면 기다림을 멈추고 완료 상태를 반환한다")
+    void awaitCompletion_ReturnsWhenFinished() {
+        ActivityAlertGeneration running = ActivityAlertGeneration.start(TODAY, LocalDateTime.now());
+        ActivityAlertGeneration completed = ActivityAlertGeneration.start(TODAY, LocalDateTime.now());
+        completed.finish(ActivityAlertGenerationStatus.COMPLETED, 1, 0, LocalDateTime.now());
+        when(generationRepository.findById(TODAY))
+            .thenReturn(Optional.of(running), Optional.of(running), Optional.of(completed));
+
+        Optional<ActivityAlertGenerationStatus> status = coordinator(150).awaitCompletion(TODAY, Duration.ofSeconds(5)).join();
+
+        assertThat(status).contains(ActivityAlertGenerationStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("생성 기록이 없으면 최대 대기 시간 후 empty 를 반환한다")
+    void awaitCompletion_NotStarted_ReturnsEmptyAfterWait() {
+        when(generationRepository.findById(eq(TODAY))).thenReturn(Optional.empty());
+
+        ActivityAlertGenerationCoordinator coordinator = coordinator(150);
+
+        assertThat(coordinator.awaitCompletion(TODAY, Duration.ofMillis(50)).join()).isEmpty();
+        assertThat(coordinator.isComplete(TODAY)).isFalse();
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.cherrydan.campaign.index;
+
+import com.example.cherrydan.campaign.domain.Campaign;
+import com.example.cherrydan.campaign.domain.CampaignType;
+import com.example.cherrydan.campaign.domain.SnsPlatformType;
+import com.example.cherrydan.campaign.repository.CampaignRepository;
+import com.example.cherrydan.common.exception.CampaignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("활성 캠페인 인메모리 인덱스 테스트")
+class ActiveCampaignIndexTest {
+
+    @Mock
+    private CampaignRepository campaignRepository;
+
+    private ActiveCampaignIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ActiveCampaignIndex(campaignRepository, new SimpleMeterRegistry(), List.of());
+    }
+
+    @Test
+    @DisplayName("적재 전에는 DB 조회로 폴백하도록 빈 값을 반환한다")
+    void search_BeforeLoad_ReturnsEmpty() {
+        Optional<Page<Campaign>> result = index.search(ActiveCampaignQuery.builder().build(), popular(0, 10));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("경쟁률 내림차순으로 정렬하고 NULL 은 마지막에 둔다")
+    void search_PopularSort_NullsLast() {
+        when(campaignRepository.findAllActive()).thenReturn(List.of(
+            campaign(1L, 3.0f, CampaignType.REGION, "revu", true, false),
+            campaign(2L, null, CampaignType.REGION, "revu", true, false),
+            campaign(3L, 9.0f, CampaignType.PRODUCT, "chvu", false, true)
+        ));
+        index.rebuild();
+
+        Page<Campaign> page = index.search(ActiveCampaignQuery.builder().build(), popular(0, 10)).orElseThrow();
+
+        assertThat(page.getContent()).extracting(Campaign::getId).containsExactly(3L, 1L, 2L);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("조건은 값 목록 내 OR, 조건끼리 AND 로 결합하고 전체 건수를 계산한다")
+    void search_FiltersAndPaging() {
+        when(campaignRepository.findAllActive()).thenReturn(List.of(
+            campaign(1L, 1.0f, CampaignType.REGION, "revu", true, false),
+            campaign(2L, 2.0f, CampaignType.REGION, "chvu", false, true),
+            campaign(3L, 3.0f, CampaignType.REGION, "revu", false, false),
+            campaign(4L, 4.0f, CampaignType.PRODUCT, "revu", true, false)
+        ));
+        index.rebuild();
+
+        ActiveCampaignQuery query = ActiveCampaignQuery.builder()
+            .campaignTypes(EnumSet.of(CampaignType.REGION))
+            .snsPlatforms(EnumSet.of(SnsPlatformType.BLOG, SnsPlatformType.INSTAGRAM))
+            .build();
+        Page<Campaign> firstPage = index.search(query, popular(0, 1)).orElseThrow();
+        Page<Campaign> secondPage = index.search(query, popular(1, 1)).orElseThrow();
+
+        assertThat(firstPage.getContent()).extracting(Campaign::getId).containsExactly(2L);
+        assertThat(secondPage.getContent()).extracting(Campaign::getId).containsExactly(1L);
+        assertThat(firstPage.getTotalElements()).isEqualTo(2);
+        assertThat(firstPage.hasNext()).isTrue();
+
+        ActiveCampaignQuery siteQuery = ActiveCampaignQuery.builder().sourceSites(Set.of("revu", "unknown")).build();
+        assertThat(index.search(siteQuery, popular(0, 10)).orElseThrow().getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("카테고리 검색의 타입별 조건은 OR, 마감일 범위는 AND 로 결합한다")
+    void search_TypeFiltersAndApplyEndRange() {
+        when(campaignRepository.findAllActive()).thenReturn(List.of(
+            categorized(1L, CampaignType.REGION, 1, null, LocalDate.of(2025, 6, 10)),
+            categorized(2L, CampaignType.REGION, 2, null, LocalDate.of(2025, 6, 10)),
+            categorized(3L, CampaignType.PRODUCT, null, 1, LocalDate.of(2025, 6, 20)),
+            categorized(4L, CampaignType.REPORTER, null, null, LocalDate.of(2025, 6, 15)),
+            categorized(5L, CampaignType.PRODUCT, null, 1, LocalDate.of(2025, 7, 1))
+        ));
+        index.rebuild();
+
+        ActiveCampaignQuery query = ActiveCampaignQuery.builder()
+            .typeFilters(List.of(
+                new ActiveCampaignQuery.TypeFilter(CampaignType.REGION, Set.of(1)),
+                new ActiveCampaignQuery.TypeFilter(CampaignType.PRODUCT, Set.of(1)),
+                ActiveCampaignQuery.TypeFilter.of(CampaignType.REPORTER)
+            ))
+            .applyEndFrom(LocalDate.of(2025, 6, 1))
+            .applyEndTo(LocalDate.of(2025, 6, 30))
+            .build();
+        Page<Campaign> page = index.search(query, PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "applyEnd"))).orElseThrow();
+
+        assertThat(page.getContent()).extracting(Campaign::getId).containsExactly(1L, 4L, 3L);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("커서 모드는 커서 이후부터 이어서 조회하고 마지막 페이지에서 hasNext 가 false 이다")
+    void searchAfter_ContinuesFromCursor() {
+        when(campaignRepository.findAllActive()).thenReturn(List.of(
+            campaign(1L, 5.0f, CampaignType.REGION, "revu", true, false),
+            campaign(2L, 5.0f, CampaignType.REGION, "revu", true, false),
+            campaign(3L, 7.0f, CampaignType.REGION, "revu", true, false),
+            campaign(4L, null, CampaignType.REGION, "revu", true, false)
+        ));
+        index.rebuild();
+        ActiveCampaignQuery query = ActiveCampaignQuery.builder().build();
+
+        Slice<Campaign> first = index.searchAfter(query, CampaignSortKey.POPULAR, null, 2).orElseThrow();
+        String token = CampaignCursor.after(CampaignSortKey.POPULAR, first.getContent().get(1)).encode();
+        Slice<Campaign> second = index.searchAfter(query, CampaignSortKey.POPULAR,
+            CampaignCursor.decode(token, CampaignSortKey.POPULAR), 2).orElseThrow();
+
+        assertThat(first.getContent()).extracting(Campaign::getId).containsExactly(3L, 2L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(Campaign::getId).containsExactly(1L, 4L);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준으로 만든 커서는 거부한다")
+    void decode_MismatchedSortKey_Throws() {
+        String token = CampaignCursor.after(CampaignSortKey.DEADLINE, campaign(1L, 1.0f, CampaignType.REGION, "revu", true, false)).encode();
+
+        assertThatThrownBy(() -> CampaignCursor.decode(token, CampaignSortKey.POPULAR))
+            .isInstanceOf(CampaignException.class);
+        assertThatThrownBy(() -> CampaignCursor.decode("not-a-cursor", CampaignSortKey.POPULAR))
+            .isInstanceOf(CampaignException.class);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 정렬은 DB 조회로 폴백한다")
+    void search_UnsupportedSort_ReturnsEmpty() {
+        when(campaignRepository.findAllActive()).thenReturn(List.of());
+        index.rebuild();
+
+        Optional<Page<Campaign>> result = index.search(
+            ActiveCampaignQuery.builder().build(),
+            PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "title"))
+        );
+
+        assertThat(result).isEmpty();
+    }
+
+    private static PageRequest popular(int page, int size) {
+        return PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "competitionRate"));
+    }
+
+    private static Campaign campaign(Long id, Float competitionRate, CampaignType type, String sourceSite, boolean blog, boolean insta) {
+        return Campaign.builder()
+            .id(id)
+            .title("캠페인 " + id)
+            .detailUrl("https://example.com/" + id)
+            .isActive(true)
+            .competitionRate(competitionRate)
+            .campaignType(type)
+            .sourceSite(sourceSite)
+            .blog(blog)
+            .insta(insta)
+            .applyStart(LocalDate.of(2025, 1, 1))
+            .applyEnd(LocalDate.of(2025, 1, 31))
+            .build();
+    }
+
+    private static Campaign categorized(Long id, CampaignType type, Integer localCategory, Integer productCategory, LocalDate applyEnd) {
+        return Campaign.builder()
+            .id(id)
+            .title("캠페인 " + id)
+            .detailUrl("https://example.com/" + id)
+            .isActive(true)
+            .competitionRate(1.0f)
+            .campaignType(type)
+            .sourceSite("revu")
+            .localCategory(localCategory)
+            .productCategory(productCategory)
+            .applyEnd(applyEnd)
+            .build();
+    }
+}
@@ -3,9 +3,6 @@ package com.example.cherrydan.campaign.repository;
 import com.example.cherrydan.campaign.domain.Bookmark;
 import com.example.cherrydan.campaign.domain.Campaign;
 import com.example.cherrydan.campaign.domain.CampaignType;
-import com.example.cherrydan.fcm.domain.DeviceType;
-import com.example.cherrydan.fcm.domain.UserFCMToken;
-import com.example.cherrydan.fcm.repository.UserFCMTokenRepository;
 import com.example.cherrydan.user.domain.Gender;
 import com.example.cherrydan.user.domain.User;
 import com.example.cherrydan.user.repository.UserRepository;
@@ -15,11 +12,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -36,13 +33,9 @@ class BookmarkRepositoryQueryTest {
     @Autowired
     private UserRepository userRepository;
 
-    @Autowired
-    private UserFCMTokenRepository userFCMTokenRepository;
-
     private User testUser;
     private Campaign testCampaign;
     private Bookmark testBookmark;
-    private UserFCMToken testToken;
 
     @BeforeEach
     void setUp() {
@@ -74,15 +67,6 @@ class BookmarkRepositoryQueryTest {
                 .isActive(true)
                 .build();
         bookmarkRepository.save(testBookmark);
-
-        testToken = UserFCMToken.builder()
-                .userId(testUser.getId())
-                .fcmToken("test-fcm-token-" + System.currentTimeMillis())
-                .deviceType(DeviceType.ANDROID)
-                .isAllowed(true)
-                .isActive(true)
-                .build();
-        userFCMTokenRepository.save(testToken);
     }
 
     @AfterEach
@@ -93,48 +77,72 @@ class BookmarkRepositoryQueryTest {
     private void cleanUp() {
         bookmarkRepository.deleteAll();
         campaignRepository.deleteAll();
-        userFCMTokenRepository.deleteAll();
     }
 
     @Test
-    @DisplayName("findActiveBookmarksByApplyEndDate 쿼리가 정상적으로 실행되는지 테스트")
-    void testFindActiveBookmarksByApplyEndDate() {
+    @DisplayName("findActiveBookmarksByApplyEndDateAfterId 쿼리가 정상적으로 실행되는지 테스트")
+    void testFindActiveBookmarksByApplyEndDateAfterId() {
         LocalDate targetDate = LocalDate.now().plusDays(1);
-        PageRequest pageRequest = PageRequest.of(0, 10);
 
-        Page<Bookmark> result = bookmarkRepository.findActiveBookmarksByApplyEndDate(
+        List<Bookmark> result = bookmarkRepository.findActiveBookmarksByApplyEndDateAfterId(
                 targetDate,
-                pageRequest
+                0L,
+                PageRequest.of(0, 10)
         );
 
-        assertThat(result).isNotNull();
-        assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getId()).isEqualTo(testBookmark.getId());
-        assertThat(result.getContent().get(0).getCampaign().getTitle()).isEqualTo("테스트 캠페인");
-        assertThat(result.getContent().get(0).getUser().getName()).isEqualTo("테스트유저");
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getId()).isEqualTo(testBookmark.getId());
+        assertThat(result.get(0).getCampaign().getTitle()).isEqualTo("테스트 캠페인");
+        assertThat(result.get(0).getUser().getName()).isEqualTo("테스트유저");
     }
 
     @Test
-    @DisplayName("알림이 비활성화된 사용자는 조회되지 않는지 테스트")
-    void testFindActiveBookmarksByApplyEndDate_NotAllowedUser() {
-        testToken.updateAllowedStatus(false);
-        userFCMTokenRepository.save(testToken);
+    @DisplayName("lastId 이후의 북마크만 id 오름차순으로 페이지 크기만큼 조회되는지 테스트")
+    void testFindActiveBookmarksByApplyEndDateAfterId_SeeksByLastId() {
+        Campaign secondCampaign = Campaign.builder()
+                .title("두번째 캠페인")
+                .imageUrl("https://example.com/image3.jpg")
+                .detailUrl("https://example.com/detail3-" + System.currentTimeMillis())
+                .campaignType(CampaignType.REGION)
+                .applyStart(LocalDate.now().minusDays(5))
+                .applyEnd(LocalDate.now().plusDays(1))
+                .isActive(true)
+                .build();
+        campaignRepository.save(secondCampaign);
+
+        Bookmark secondBookmark = Bookmark.builder()
+                .user(testUser)
+                .campaign(secondCampaign)
+                .isActive(true)
+                .build();
+        bookmarkRepository.save(secondBookmark);
 
         LocalDate targetDate = LocalDate.now().plusDays(1);
-        PageRequest pageRequest = PageRequest.of(0, 10);
 
-        Page<Bookmark> result = bookmarkRepository.findActiveBookmarksByApplyEndDate(
+        List<Bookmark> firstPage = bookmarkRepository.findActiveBookmarksByApplyEndDateAfterId(
+                targetDate,
+                0L,
+                PageRequest.of(0, 1)
+        );
+        List<Bookmark> secondPage = bookmarkRepository.findActiveBookmarksByApplyEndDateAfterId(
+                targetDate,
+                firstPage.get(0).getId(),
+                PageRequest.of(0, 1)
+        );
+        List<Bookmark> lastPage = bookmarkRepository.findActiveBookmarksByApplyEndDateAfterId(
                 targetDate,
-                pageRequest
+                secondPage.get(0).getId(),
+                PageRequest.of(0, 1)
         );
 
-        assertThat(result).isNotNull();
-        assertThat(result.getContent()).isEmpty();
+        assertThat(firstPage).extracting(Bookmark::getId).containsExactly(testBookmark.getId());
+        assertThat(secondPage).extracting(Bookmark::getId).containsExactly(secondBookmark.getId());
+        assertThat(lastPage).isEmpty();
     }
 
     @Test
     @DisplayName("비활성화된 캠페인은 조회되지 않는지 테스트")
-    void testFindActiveBookmarksByApplyEndDate_InactiveCampaign() {
+    void testFindActiveBookmarksByApplyEndDateAfterId_InactiveCampaign() {
         Campaign inactiveCampaign = Campaign.builder()
                 .title("비활성 캠페인")
                 .imageUrl("https://example.com/image2.jpg")
@@ -154,15 +162,14 @@ class BookmarkRepositoryQueryTest {
         bookmarkRepository.save(inactiveBookmark);
 
         LocalDate targetDate = LocalDate.now().plusDays(1);
-        PageRequest pageRequest = PageRequest.of(0, 10);
 
-        Page<Bookmark> result = bookmarkRepository.findActiveBookmarksByApplyEndDate(
+        List<Bookmark> result = bookmarkRepository.findActiveBookmarksByApplyEndDateAfterId(
                 targetDate,
-                pageRequest
+                0L,
+                PageRequest.of(0, 10)
         );
 
-        assertThat(result).isNotNull();
-        assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getCampaign().getIsActive()).isTrue();
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getCampaign().getIsActive()).isTrue();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.example.cherrydan.campaign.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("다중 키워드 매처 테스트")
+class KeywordMatcherTest {
+
+    @Test
+    @DisplayName("한 번 훑어서 겹치거나 포함 관계인 키워드를 모두 찾는다")
+    void match_OverlappingKeywords() {
+        KeywordMatcher matcher = KeywordMatcher.compile(List.of("맛집", "강남맛집", "남맛", "체험단", "부산"));
+
+        assertThat(matches(matcher, "[서울] 강남맛집체험단 모집")).containsExactlyInAnyOrder("강남맛집", "남맛", "맛집", "체험단");
+        assertThat(matches(matcher, "홍대 카페 리뷰")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 제목에서 여러 번 나와도 키워드는 한 번만 전달한다")
+    void match_EmitsOncePerTitle() {
+        KeywordMatcher matcher = KeywordMatcher.compile(List.of("카페"));
+
+        assertThat(matches(matcher, "카페 투어 - 카페 3곳")).containsExactly("카페");
+    }
+
+    @Test
+    @DisplayName("대소문자와 공백 차이는 무시하고 정규화 결과가 같은 키워드는 모두 전달한다")
+    void match_NormalizesKeywordsAndTitles() {
+        KeywordMatcher matcher = KeywordMatcher.compile(List.of("YouTube", "youtube", "서울  맛집", " "));
+
+        assertThat(matches(matcher, "서울 맛집 youTUBE 리뷰어")).containsExactlyInAnyOrder("YouTube", "youtube", "서울  맛집");
+        assertThat(matches(matcher, "서울맛집")).isEmpty();
+    }
+
+    private static List<String> matches(KeywordMatcher matcher, String title) {
+        List<String> matched = new ArrayList<>();
+        matcher.match(title, matched::add);
+        return matched;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.cherrydan.campaign.search;
+
+import com.example.cherrydan.campaign.domain.Campaign;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("n-gram 캠페인 제목 검색 엔진 테스트")
+class NgramCampaignSearchEngineTest {
+
+    private NgramCampaignSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new NgramCampaignSearchEngine(2, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("적재 전에는 사용할 수 없고 ID 검색은 빈 값을 반환한다")
+    void beforeLoad_NotAvailable() {
+        assertThat(engine.isAvailable()).isFalse();
+        assertThat(engine.findMatchingIds("맛집")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("띄어쓰기 없는 한글 복합어 안의 단어도 찾는다")
+    void search_MatchesInsideCompoundWord() {
+        engine.onReload(List.of(
+            campaign(1L, "[강남] 강남맛집체험단 모집", 3.0f),
+            campaign(2L, "홍대 카페 리뷰", 1.0f),
+            campaign(3L, "맛있는 집밥 키트", 2.0f)
+        ));
+
+        Page<Campaign> page = engine.search("맛집", PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(Campaign::getId).containsExactly(1L);
+        assertThat(page.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모든 검색 단어를 포함해야 하며 대소문자를 구분하지 않는다")
+    void search_AllTermsRequired_CaseInsensitive() {
+        engine.onReload(List.of(
+            campaign(1L, "서울 YouTube 리뷰어", 1.0f),
+            campaign(2L, "부산 youtube 리뷰어", 1.0f),
+            campaign(3L, "서울 블로그 리뷰어", 1.0f)
+        ));
+
+        assertThat(engine.search("서울 youtube", PageRequest.of(0, 10)).getContent())
+            .extracting(Campaign::getId).containsExactly(1L);
+        assertThat(engine.findMatchingIds("YOUTUBE")).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("같은 제목은 하나만 반환하고 전체 건수와 페이지를 계산한다")
+    void search_DistinctTitlesAndPaging() {
+        engine.onReload(List.of(
+            campaign(1L, "제주 숙소 체험", 5.0f),
+            campaign(2L, "제주 숙소 체험", 1.0f),
+            campaign(3L, "제주 맛집 체험", 2.0f),
+            campaign(4L, "제주 카페 체험", 3.0f)
+        ));
+
+        Page<Campaign> first = engine.search("제주", PageRequest.of(0, 2));
+        Page<Campaign> second = engine.search("제주", PageRequest.of(1, 2));
+
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(first.getContent()).extracting(Campaign::getId).containsExactly(2L, 3L);
+        assertThat(second.getContent()).extracting(Campaign::getId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("변경분 반영 시 수정/삭제된 문서는 기존 색인에서 가리고 새 내용으로 검색한다")
+    void onChange_AppliesUpsertsAndRemovals() {
+        engine.onReload(List.of(
+            campaign(1L, "강릉 펜션 체험", 1.0f),
+            campaign(2L, "강릉 카페 리뷰", 1.0f)
+        ));
+
+        engine.onChange(List.of(campaign(1L, "속초 펜션 체험", 1.0f), campaign(3L, "강릉 맛집", 1.0f)), List.of(2L));
+
+        assertThat(engine.findMatchingIds("강릉")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(3L));
+        assertThat(engine.findMatchingIds("속초")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+
+        // delta 가 임계치(2건)를 넘으면 전체 재색인 후에도 결과가 같다
+        engine.onChange(List.of(campaign(4L, "강릉 바다", 1.0f), campaign(5L, "강릉 숙소", 1.0f)), List.of());
+        assertThat(engine.findMatchingIds("강릉")).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(3L, 4L, 5L));
+    }
+
+    private static Campaign campaign(Long id, String title, Float competitionRate) {
+        return Campaign.builder()
+            .id(id)
+            .title(title)
+            .detailUrl("https://example.com/" + id)
+            .isActive(true)
+            .competitionRate(competitionRate)
+            .build();
+    }
+}
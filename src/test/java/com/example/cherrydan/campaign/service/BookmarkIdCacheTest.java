@@ -0,0 +1,127 @@
+package com.example.cherrydan.campaign.service;
+
+import com.example.cherrydan.campaign.domain.Campaign;
+import com.example.cherrydan.campaign.repository.BookmarkRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("사용자별 북마크 ID 캐시 테스트")
+class BookmarkIdCacheTest {
+
+    @Mock
+    private BookmarkRepository bookmarkRepository;
+
+    private BookmarkIdCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BookmarkIdCache(bookmarkRepository, new SimpleMeterRegistry(), 100, 600, 3);
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자는 DB 조회 없이 빈 집합을 반환한다")
+    void findBookmarkedAmong_AnonymousUser() {
+        assertThat(cache.findBookmarkedAmong(null, List.of(campaign(1L)))).isEmpty();
+
+        verifyNoInteractions(bookmarkRepository);
+    }
+
+    @Test
+    @DisplayName("한 번 적재한 뒤에는 캐시에서 현재 페이지의 북마크 여부를 판단한다")
+    void findBookmarkedAmong_CachesIds() {
+        Long userId = 1L;
+        when(bookmarkRepository.findActiveBookmarkedCampaignIds(eq(userId), any(Pageable.class)))
+            .thenReturn(List.of(30L, 10L));
+
+        Set<Long> first = cache.findBookmarkedAmong(userId, List.of(campaign(10L), campaign(20L)));
+        Set<Long> second = cache.findBookmarkedAmong(userId, List.of(campaign(30L), campaign(40L)));
+
+        assertThat(first).containsExactly(10L);
+        assertThat(second).containsExactly(30L);
+        verify(bookmarkRepository, times(1)).findActiveBookmarkedCampaignIds(eq(userId), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회에서 다시 적재한다")
+    void invalidate_ReloadsOnNextLookup() {
+        Long userId = 1L;
+        when(bookmarkRepository.findActiveBookmarkedCampaignIds(eq(userId), any(Pageable.class)))
+            .thenReturn(List.of(10L))
+            .thenReturn(List.of(10L, 20L));
+
+        cache.findBookmarkedAmong(userId, List.of(campaign(20L)));
+        cache.invalidate(userId);
+        Set<Long> result = cache.findBookmarkedAmong(userId, List.of(campaign(20L)));
+
+        assertThat(result).containsExactly(20L);
+        verify(bookmarkRepository, times(2)).findActiveBookmarkedCampaignIds(eq(userId), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("북마크가 상한을 넘는 사용자는 그 사실만 캐시하고 이후에는 현재 페이지 ID 로만 조회한다")
+    void findBookmarkedAmong_TooManyBookmarks_FallsBackToPageQuery() {
+        Long userId = 1L;
+        when(bookmarkRepository.findActiveBookmarkedCampaignIds(eq(userId), any(Pageable.class)))
+            .thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(bookmarkRepository.findBookmarkedCampaignIds(eq(userId), anyList()))
+            .thenReturn(Set.of(2L));
+
+        Set<Long> first = cache.findBookmarkedAmong(userId, List.of(campaign(2L), campaign(5L)));
+        Set<Long> second = cache.findBookmarkedAmong(userId, List.of(campaign(2L), campaign(6L)));
+
+        assertThat(first).containsExactly(2L);
+        assertThat(second).containsExactly(2L);
+        verify(bookmarkRepository, times(1)).findActiveBookmarkedCampaignIds(eq(userId), any(Pageable.class));
+        verify(bookmarkRepository, times(2)).findBookmarkedCampaignIds(eq(userId), anyList());
+        verify(bookmarkRepository, never()).findAllByUserIdAndIsActiveTrue(userId);
+    }
+
+    @Test
+    @DisplayName("적재 중에 무효화되면 읽은 값을 캐시에 넣지 않는다")
+    void findBookmarkedAmong_InvalidatedDuringLoad_DoesNotCacheStaleIds() {
+        Long userId = 1L;
+        when(bookmarkRepository.findActiveBookmarkedCampaignIds(eq(userId), any(Pageable.class)))
+            .thenAnswer(invocation -> {
+                // 적재 쿼리가 끝나기 전에 다른 스레드의 북마크 커밋으로 무효화됨
+                cache.invalidate(userId);
+                return List.of(10L);
+            })
+            .thenReturn(List.of(10L, 20L));
+
+        Set<Long> stale = cache.findBookmarkedAmong(userId, List.of(campaign(20L)));
+        Set<Long> fresh = cache.findBookmarkedAmong(userId, List.of(campaign(20L)));
+
+        assertThat(stale).isEmpty();
+        assertThat(fresh).containsExactly(20L);
+        verify(bookmarkRepository, times(2)).findActiveBookmarkedCampaignIds(eq(userId), any(Pageable.class));
+    }
+
+    private static Campaign campaign(Long id) {
+        return Campaign.builder()
+            .id(id)
+            .title("캠페인 " + id)
+            .detailUrl("https://example.com/" + id)
+            .isActive(true)
+            .build();
+    }
+}
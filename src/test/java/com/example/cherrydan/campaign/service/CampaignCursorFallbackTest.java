@@ -0,0 +1,107 @@
+package com.example.cherrydan.campaign.service;
+
+import com.example.cherrydan.campaign.domain.Campaign;
+import com.example.cherrydan.campaign.domain.CampaignType;
+import com.example.cherrydan.campaign.dto.CampaignResponseDTO;
+import com.example.cherrydan.campaign.index.ActiveCampaignIndex;
+import com.example.cherrydan.campaign.index.CampaignSortKey;
+import com.example.cherrydan.campaign.repository.CampaignRepository;
+import com.example.cherrydan.common.response.PageListResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인덱스가 준비되지 않았을 때의 DB 커서(keyset) 조회 테스트
+ * ActiveCampaignIndex 를 목으로 바꿔 항상 DB 로 폴백합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+class CampaignCursorFallbackTest {
+
+    private static final float TIED_RATE = 0.3f;
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @MockBean
+    private ActiveCampaignIndex activeCampaignIndex;
+
+    private final List<Long> tiedCampaignIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        campaignRepository.deleteAll();
+        tiedCampaignIds.clear();
+        // 0.3 은 단정밀도로 정확히 표현되지 않는 값 (FLOAT 컬럼에는 0.30000001… 로 저장)
+        for (int i = 0; i < 3; i++) {
+            tiedCampaignIds.add(campaignRepository.save(campaign("동률 캠페인 " + i, TIED_RATE)).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        campaignRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("경쟁률 낮은순: 같은 0.3 경쟁률이 페이지 경계에 걸려도 중복 없이 모두 조회된다")
+    void lowCompetition_TiedRatesAcrossPageBoundary() {
+        List<Long> ids = readAllPages(CampaignSortKey.LOW_COMPETITION);
+
+        assertThat(ids).containsExactlyElementsOf(tiedCampaignIds);
+    }
+
+    @Test
+    @DisplayName("인기순: 같은 0.3 경쟁률이 페이지 경계에 걸려도 건너뛰지 않고 모두 조회된다")
+    void popular_TiedRatesAcrossPageBoundary() {
+        List<Long> ids = readAllPages(CampaignSortKey.POPULAR);
+
+        List<Long> expected = new ArrayList<>(tiedCampaignIds);
+        Collections.reverse(expected);
+        assertThat(ids).containsExactlyElementsOf(expected);
+    }
+
+    private List<Long> readAllPages(CampaignSortKey sortKey) {
+        PageRequest pageable = PageRequest.of(0, 2, Sort.by(sortKey.getDirection(), sortKey.getProperty()));
+        List<Long> ids = new ArrayList<>();
+        String cursor = "";
+        for (int page = 0; page < 5 && cursor != null; page++) {
+            PageListResponseDTO<CampaignResponseDTO> response =
+                campaignService.getCampaignsByProduct(List.of(), null, pageable, cursor, null);
+            response.getContent().forEach(campaign -> ids.add(campaign.getId()));
+            cursor = response.getNextCursor();
+        }
+        return ids;
+    }
+
+    private static Campaign campaign(String title, float competitionRate) {
+        return Campaign.builder()
+            .title(title)
+            .imageUrl("https://example.com/image.jpg")
+            .detailUrl("https://example.com/detail-" + System.nanoTime())
+            .campaignType(CampaignType.PRODUCT)
+            .applyStart(LocalDate.now().minusDays(5))
+            .applyEnd(LocalDate.now().plusDays(5))
+            .competitionRate(competitionRate)
+            .isActive(true)
+            .build();
+    }
+}
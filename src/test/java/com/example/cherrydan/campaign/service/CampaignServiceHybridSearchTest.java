@@ -5,6 +5,7 @@ import com.example.cherrydan.campaign.dto.CampaignResponseDTO;
 import com.example.cherrydan.campaign.repository.BookmarkRepository;
 import com.example.cherrydan.campaign.repository.CampaignRepository;
 import com.example.cherrydan.user.repository.KeywordCampaignAlertRepository;
+import com.example.cherrydan.user.service.KeywordDailyMatchStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +20,7 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -38,6 +40,9 @@ class CampaignServiceHybridSearchTest {
     @Mock
     private KeywordCampaignAlertRepository keywordCampaignAlertRepository;
 
+    @Mock
+    private KeywordDailyMatchStore keywordDailyMatchStore;
+
     @InjectMocks
     private CampaignServiceImpl campaignService;
 
@@ -55,11 +60,12 @@ class CampaignServiceHybridSearchTest {
 
         when(campaignRepository.searchDailyCampaignsByFulltext(
             eq("+" + keyword + "*"),
+            eq(today.minusDays(1)),
             eq(0),
             eq(10)
         )).thenReturn(mockCampaigns);
 
-        when(campaignRepository.countDailyCampaignsByFulltext(eq(keyword)))
+        when(campaignRepository.countDailyCampaignsByFulltext(eq(keyword), eq(today.minusDays(1))))
             .thenReturn(0L);
 
         when(bookmarkRepository.findBookmarkedCampaignIds(eq(userId), anyList()))
@@ -73,10 +79,11 @@ class CampaignServiceHybridSearchTest {
         // then
         verify(campaignRepository, times(1)).searchDailyCampaignsByFulltext(
             eq("+" + keyword + "*"),
+            eq(today.minusDays(1)),
             eq(0),
             eq(10)
         );
-        verify(campaignRepository, times(1)).countDailyCampaignsByFulltext(eq(keyword));
+        verify(campaignRepository, times(1)).countDailyCampaignsByFulltext(eq(keyword), eq(today.minusDays(1)));
         verify(campaignRepository, never()).findByKeywordSimpleLike(anyString(), any(LocalDate.class), anyInt(), anyInt());
         verify(campaignRepository, never()).countByKeywordSimpleLike(anyString(), any(LocalDate.class));
 
@@ -122,10 +129,48 @@ class CampaignServiceHybridSearchTest {
             eq(10)
         );
         verify(campaignRepository, times(1)).countByKeywordSimpleLike(eq(keyword), eq(pastDate));
-        verify(campaignRepository, never()).searchDailyCampaignsByFulltext(anyString(), anyInt(), anyInt());
-        verify(campaignRepository, never()).countDailyCampaignsByFulltext(anyString());
+        verify(campaignRepository, never()).searchDailyCampaignsByFulltext(anyString(), any(LocalDate.class), anyInt(), anyInt());
+        verify(campaignRepository, never()).countDailyCampaignsByFulltext(anyString(), any(LocalDate.class));
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("키워드 알림 배치가 저장한 매칭 결과가 있으면 텍스트 검색 없이 ID 로 조회한다")
+    void getPersonalizedCampaigns_WithPrecomputedMatches_UseIdSlice() {
+        // given
+        String keyword = "부산";
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        Long userId = 1L;
+        Pageable pageable = PageRequest.of(1, 2);
+
+        when(keywordDailyMatchStore.findCampaignIds(keyword, today))
+            .thenReturn(Optional.of(new long[]{10L, 20L, 30L, 40L, 50L}));
+        when(campaignRepository.findAllById(List.of(30L, 40L)))
+            .thenReturn(List.of(campaign(40L), campaign(30L)));
+        when(bookmarkRepository.findBookmarkedCampaignIds(eq(userId), anyList()))
+            .thenReturn(Collections.emptySet());
+
+        // when
+        Page<CampaignResponseDTO> result = campaignService.getPersonalizedCampaignsByKeyword(
+            keyword, today, userId, pageable
+        );
+
+        // then
+        assertThat(result.getContent()).extracting(CampaignResponseDTO::getId).containsExactly(30L, 40L);
+        assertThat(result.getTotalElements()).isEqualTo(5);
+        verify(campaignRepository, never()).searchDailyCampaignsByFulltext(anyString(), any(LocalDate.class), anyInt(), anyInt());
+        verify(campaignRepository, never()).findByKeywordSimpleLike(anyString(), any(LocalDate.class), anyInt(), anyInt());
+    }
+
+    private static Campaign campaign(Long id) {
+        return Campaign.builder()
+            .id(id)
+            .title("캠페인 " + id)
+            .detailUrl("https://example.com/" + id)
+            .sourceSite("revu")
+            .isActive(true)
+            .build();
+    }
+}
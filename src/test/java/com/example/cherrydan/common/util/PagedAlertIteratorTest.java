@@ -0,0 +1,152 @@
+package com.example.cherrydan.common.util;
+
+import com.example.cherrydan.activity.domain.ActivityAlert;
+import com.example.cherrydan.activity.domain.ActivityAlertType;
+import com.example.cherrydan.fcm.service.FcmTokenRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PagedAlertIterator keyset 페이징 테스트")
+class PagedAlertIteratorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+
+    @Test
+    @DisplayName("마지막으로 읽은 id 이후부터 묶음 단위로 읽고, 다음 묶음 전에 영속성 컨텍스트를 정리한다")
+    void iterate_SeeksByLastIdAndClearsBetweenChunks() {
+        // given - id 가 연속되지 않는 7건, 묶음 크기 3
+        List<Long> rows = List.of(2L, 3L, 5L, 8L, 13L, 21L, 34L);
+        List<Long> requestedAfterIds = new ArrayList<>();
+        AtomicInteger clearCount = new AtomicInteger();
+
+        PagedAlertIterator<Long> iterator = new PagedAlertIterator<>(
+            (lastId, page) -> {
+                requestedAfterIds.add(lastId);
+                assertThat(page.getOffset()).isZero();
+                return load(rows, lastId, page);
+            },
+            id -> id,
+            PagedAlertIteratorTest::alert,
+            clearCount::incrementAndGet,
+            id -> true,
+            3);
+
+        // when
+        List<ActivityAlert> alerts = new ArrayList<>();
+        iterator.forEachRemaining(alerts::add);
+
+        // then
+        assertThat(alerts).hasSize(7);
+        assertThat(requestedAfterIds).containsExactly(0L, 5L, 21L);
+        assertThat(clearCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("묶음 크기의 배수만큼 있으면 빈 묶음을 한 번 더 읽고 끝낸다")
+    void iterate_ExactMultipleOfChunkSize() {
+        List<Long> rows = LongStream.rangeClosed(1, 6).boxed().toList();
+        List<Long> requestedAfterIds = new ArrayList<>();
+
+        PagedAlertIterator<Long> iterator = new PagedAlertIterator<>(
+            (lastId, page) -> {
+                requestedAfterIds.add(lastId);
+                return load(rows, lastId, page);
+            },
+            id -> id,
+            PagedAlertIteratorTest::alert,
+            () -> { },
+            id -> true,
+            3);
+
+        List<ActivityAlert> alerts = new ArrayList<>();
+        iterator.forEachRemaining(alerts::add);
+
+        assertThat(alerts).hasSize(6);
+        assertThat(requestedAfterIds).containsExactly(0L, 3L, 6L);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("걸러진 행도 다음 묶음 기준 id 에 반영하고, 한 묶음이 모두 걸러져도 다음 묶음을 계속 읽는다")
+    void iterate_FilterDoesNotStopPaging() {
+        // given - 첫 묶음(1~3)은 모두 걸러짐
+        List<Long> rows = LongStream.rangeClosed(1, 7).boxed().toList();
+        List<Long> requestedAfterIds = new ArrayList<>();
+        List<Long> mapped = new ArrayList<>();
+
+        PagedAlertIterator<Long> iterator = new PagedAlertIterator<>(
+            (lastId, page) -> {
+                requestedAfterIds.add(lastId);
+                return load(rows, lastId, page);
+            },
+            id -> id,
+            id -> {
+                mapped.add(id);
+                return alert(id);
+            },
+            () -> { },
+            id -> id > 3 && id != 5,
+            3);
+
+        // when
+        List<ActivityAlert> alerts = new ArrayList<>();
+        iterator.forEachRemaining(alerts::add);
+
+        // then
+        assertThat(mapped).containsExactly(4L, 6L, 7L);
+        assertThat(requestedAfterIds).containsExactly(0L, 3L, 6L);
+    }
+
+    @Test
+    @DisplayName("알림을 받을 수 없는 사용자(알림 거부 등)의 행은 FcmTokenRegistry 필터에서 걸러진다")
+    void iterate_SkipsUnreachableUsers() {
+        // given - 행 값을 사용자 ID 로 사용, 2번 사용자는 알림 거부 토큰만 있음
+        FcmTokenRegistry tokenRegistry = mock(FcmTokenRegistry.class);
+        when(tokenRegistry.isReachable(anyLong())).thenReturn(true);
+        when(tokenRegistry.isReachable(2L)).thenReturn(false);
+        List<Long> mapped = new ArrayList<>();
+
+        PagedAlertIterator<Long> iterator = new PagedAlertIterator<>(
+            (lastId, page) -> load(List.of(1L, 2L, 3L), lastId, page),
+            id -> id,
+            id -> {
+                mapped.add(id);
+                return alert(id);
+            },
+            () -> { },
+            tokenRegistry::isReachable,
+            10);
+
+        // when
+        iterator.forEachRemaining(alert -> { });
+
+        // then
+        assertThat(mapped).containsExactly(1L, 3L);
+    }
+
+    private static List<Long> load(List<Long> rows, Long lastId, Pageable page) {
+        return rows.stream()
+            .filter(id -> id > lastId)
+            .limit(page.getPageSize())
+            .toList();
+    }
+
+    private static ActivityAlert alert(Long id) {
+        return ActivityAlert.builder()
+            .alertType(ActivityAlertType.BOOKMARK_DEADLINE_D1)
+            .alertDate(TODAY)
+            .build();
+    }
+}
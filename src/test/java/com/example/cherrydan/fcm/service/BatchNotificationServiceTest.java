@@ -0,0 +1,189 @@
+package com.example.cherrydan.fcm.service;
+
+import com.example.cherrydan.fcm.dto.NotificationRequest;
+import com.example.cherrydan.fcm.repository.UserFCMTokenRepository;
+import com.example.cherrydan.fcm.service.FcmTokenRegistry.TokenRef;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchNotificationService 배치 전송 테스트")
+class BatchNotificationServiceTest {
+
+    @Mock
+    private UserFCMTokenRepository tokenRepository;
+
+    @Mock
+    private FirebaseMessaging firebaseMessaging;
+
+    @Mock
+    private FcmTokenBookkeeper tokenBookkeeper;
+
+    @Mock
+    private FcmTokenRegistry tokenRegistry;
+
+    private BatchNotificationService batchNotificationService;
+
+    @BeforeEach
+    void setUp() {
+        batchNotificationService = new BatchNotificationService(
+            tokenRegistry, new NotificationService(tokenRepository),
+            new FcmSender(Runnable::run, new SimpleMeterRegistry(), 10_000, 2, 4), tokenBookkeeper);
+    }
+
+    @Test
+    @DisplayName("레지스트리의 토큰으로 전송하고 성공한 토큰이 있는 항목만 반환한다")
+    void sendToUsers_MapsResultsBackToItems() throws Exception {
+        // given
+        when(tokenRegistry.tokensOf(1L)).thenReturn(List.of(new TokenRef(11L, "token-1a"), new TokenRef(12L, "token-1b")));
+        when(tokenRegistry.tokensOf(2L)).thenReturn(List.of(new TokenRef(21L, "token-2")));
+
+        SendResponse success = mock(SendResponse.class);
+        when(success.isSuccessful()).thenReturn(true);
+        SendResponse unregistered = failure(MessagingErrorCode.UNREGISTERED);
+        SendResponse unavailable = failure(MessagingErrorCode.UNAVAILABLE);
+        BatchResponse batchResponse = mock(BatchResponse.class);
+        when(batchResponse.getResponses()).thenReturn(List.of(unregistered, success, unavailable));
+        when(firebaseMessaging.sendEach(anyList())).thenReturn(batchResponse);
+
+        List<Long> alerts = List.of(1L, 2L);
+
+        // when
+        List<Long> delivered;
+        try (MockedStatic<FirebaseMessaging> messaging = mockStatic(FirebaseMessaging.class)) {
+            messaging.when(FirebaseMessaging::getInstance).thenReturn(firebaseMessaging);
+            delivered = batchNotificationService.sendToUsers(alerts, userId -> userId, userId -> request());
+        }
+
+        // then
+        assertThat(delivered).containsExactly(1L);
+        verify(firebaseMessaging, times(1)).sendEach(argThat(messages -> messages.size() == 3));
+        verify(tokenBookkeeper).record(aryEq(new long[]{12L}), aryEq(new long[]{11L}));
+    }
+
+    @Test
+    @DisplayName("활성 토큰이 없으면 FCM 을 호출하지 않는다")
+    void sendToUsers_NoTokens_SkipsFcm() {
+        // given
+        when(tokenRegistry.tokensOf(1L)).thenReturn(List.of());
+
+        // when
+        List<Long> delivered;
+        try (MockedStatic<FirebaseMessaging> messaging = mockStatic(FirebaseMessaging.class)) {
+            delivered = batchNotificationService.sendToUsers(List.of(1L), userId -> userId, userId -> request());
+            messaging.verifyNoInteractions();
+        }
+
+        // then
+        assertThat(delivered).isEmpty();
+    }
+
+    @Test
+    @DisplayName("작은 내용 묶음은 내용이 달라도 한 번의 sendEach 로 모아 보내고 성공한 토큰의 사용자를 반환한다")
+    void multicastToUsers_PacksSmallGroupsIntoOneSendEach() throws Exception {
+        // given
+        when(tokenRegistry.tokensOf(1L)).thenReturn(List.of(new TokenRef(11L, "token-1")));
+        when(tokenRegistry.tokensOf(2L)).thenReturn(List.of(new TokenRef(21L, "token-2a"), new TokenRef(22L, "token-2b")));
+        when(tokenRegistry.tokensOf(3L)).thenReturn(List.of(new TokenRef(31L, "token-3")));
+
+        SendResponse success = mock(SendResponse.class);
+        when(success.isSuccessful()).thenReturn(true);
+        SendResponse unregistered = failure(MessagingErrorCode.UNREGISTERED);
+        BatchResponse response = mock(BatchResponse.class);
+        when(response.getResponses()).thenReturn(List.of(success, unregistered, success, unregistered));
+        when(firebaseMessaging.sendEach(anyList())).thenReturn(response);
+
+        List<BatchNotificationService.MulticastTarget> targets = List.of(
+            new BatchNotificationService.MulticastTarget(request("내용 A"), List.of(1L, 2L)),
+            new BatchNotificationService.MulticastTarget(request("내용 B"), List.of(3L)));
+
+        // when
+        Set<Long> delivered;
+        try (MockedStatic<FirebaseMessaging> messaging = mockStatic(FirebaseMessaging.class)) {
+            messaging.when(FirebaseMessaging::getInstance).thenReturn(firebaseMessaging);
+            delivered = batchNotificationService.multicastToUsers(targets);
+        }
+
+        // then
+        assertThat(delivered).containsExactlyInAnyOrder(1L, 2L);
+        verify(firebaseMessaging, times(1)).sendEach(argThat(messages -> messages.size() == 4));
+        verify(firebaseMessaging, never()).sendEachForMulticast(any());
+        verify(tokenBookkeeper).record(aryEq(new long[]{11L, 22L}), aryEq(new long[]{21L, 31L}));
+    }
+
+    @Test
+    @DisplayName("내용별 토큰이 500개 단위로 차는 부분만 멀티캐스트로 보낸다")
+    void multicastToUsers_FullChunksUseMulticast() throws Exception {
+        // given
+        List<TokenRef> manyTokens = IntStream.range(0, 501)
+            .mapToObj(i -> new TokenRef(1000L + i, "token-1-" + i))
+            .toList();
+        when(tokenRegistry.tokensOf(1L)).thenReturn(manyTokens);
+        when(tokenRegistry.tokensOf(2L)).thenReturn(List.of(new TokenRef(21L, "token-2")));
+
+        SendResponse success = mock(SendResponse.class);
+        when(success.isSuccessful()).thenReturn(true);
+        BatchResponse multicastResponse = mock(BatchResponse.class);
+        when(multicastResponse.getResponses()).thenReturn(Collections.nCopies(500, success));
+        BatchResponse packedResponse = mock(BatchResponse.class);
+        when(packedResponse.getResponses()).thenReturn(List.of(success, success));
+        when(firebaseMessaging.sendEachForMulticast(any())).thenReturn(multicastResponse);
+        when(firebaseMessaging.sendEach(anyList())).thenReturn(packedResponse);
+
+        List<BatchNotificationService.MulticastTarget> targets = List.of(
+            new BatchNotificationService.MulticastTarget(request("내용 A"), List.of(1L)),
+            new BatchNotificationService.MulticastTarget(request("내용 B"), List.of(2L)));
+
+        // when
+        Set<Long> delivered;
+        try (MockedStatic<FirebaseMessaging> messaging = mockStatic(FirebaseMessaging.class)) {
+            messaging.when(FirebaseMessaging::getInstance).thenReturn(firebaseMessaging);
+            delivered = batchNotificationService.multicastToUsers(targets);
+        }
+
+        // then
+        assertThat(delivered).containsExactlyInAnyOrder(1L, 2L);
+        verify(firebaseMessaging, times(1)).sendEachForMulticast(any());
+        verify(firebaseMessaging, times(1)).sendEach(argThat(messages -> messages.size() == 2));
+    }
+
+    private static SendResponse failure(MessagingErrorCode errorCode) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(exception.getMessagingErrorCode()).thenReturn(errorCode);
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(false);
+        when(response.getException()).thenReturn(exception);
+        return response;
+    }
+
+    private static NotificationRequest request() {
+        return request("테스트 내용");
+    }
+
+    private static NotificationRequest request(String body) {
+        return NotificationRequest.builder()
+            .title("테스트 알림")
+            .body(body)
+            .build();
+    }
+}
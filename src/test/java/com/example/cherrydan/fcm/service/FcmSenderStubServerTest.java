@@ -0,0 +1,189 @@
+package com.example.cherrydan.fcm.service;
+
+import com.example.cherrydan.fcm.domain.FcmSendOutcome;
+import com.example.cherrydan.fcm.dto.FcmSendResult;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.Notification;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 스텁 FCM 서버(HTTP v1 messages:send)로 실제 FirebaseMessaging 을 거치는 전송 경로를 검증합니다.
+ * 토큰 이름으로 응답을 정합니다. (unregistered-*: 404, quota-*: 429, unavailable-once-*: 첫 요청만 503, unavailable-*: 503)
+ */
+@DisplayName("FcmSender 스텁 FCM 서버 테스트")
+class FcmSenderStubServerTest {
+
+    private static final String PROJECT_ID = "cherrydan-test";
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    // SDK 기본 재시도 상한(60초)보다 길면 재시도하지 않고 바로 실패로 돌려줌
+    private static final String RETRY_AFTER_BEYOND_LIMIT = "120";
+
+    private HttpServer server;
+    private FirebaseApp app;
+    private final Map<String, AtomicInteger> requestsByToken = new ConcurrentHashMap<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private FcmSender sender;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/projects/" + PROJECT_ID + "/messages:send", this::handleSend);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        // SDK 의 FCM 주소(https://fcm.googleapis.com)를 스텁 서버로 돌림
+        String stubBaseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        HttpTransport transport = new NetHttpTransport.Builder()
+            .setConnectionFactory(url -> (HttpURLConnection) URI.create(
+                url.toString().replace("https://fcm.googleapis.com", stubBaseUrl)).toURL().openConnection())
+            .build();
+        FirebaseOptions options = FirebaseOptions.builder()
+            .setCredentials(GoogleCredentials.create(
+                new AccessToken("stub-token", new Date(System.currentTimeMillis() + 3_600_000L))))
+            .setProjectId(PROJECT_ID)
+            .setHttpTransport(transport)
+            .build();
+        app = FirebaseApp.initializeApp(options, "fcm-sender-stub-" + UUID.randomUUID());
+
+        sender = new FcmSender(() -> FirebaseMessaging.getInstance(app), Runnable::run, meterRegistry,
+            10_000, 4, 8, System::nanoTime);
+    }
+
+    @AfterEach
+    void tearDown() {
+        app.delete();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("묶음 일부만 실패하면 메시지 순서대로 결과를 돌려주고 무효 토큰은 과부하로 보지 않는다")
+    void sendEach_PartialBatchFailure() {
+        // when
+        List<FcmSendResult> results = sender.sendEach(List.of(
+            message("ok-1"), message("unregistered-1"), message("ok-2"))).join();
+
+        // then
+        assertThat(results).extracting(FcmSendResult::outcome)
+            .containsExactly(FcmSendOutcome.SUCCESS, FcmSendOutcome.INVALID_TOKEN, FcmSendOutcome.SUCCESS);
+        assertThat(results.get(1).errorCode()).isEqualTo("UNREGISTERED");
+        assertThat(meterRegistry.get("fcm.send.throttled").tag("reason", "backoff").counter().count()).isZero();
+        assertThat(sender.concurrencyLimit()).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("429 QUOTA_EXCEEDED 는 재시도 가능 결과로 돌려주고 동시 전송 수를 줄인다")
+    void sendEach_QuotaExceeded_BacksOff() {
+        // when
+        List<FcmSendResult> results = sender.sendEach(List.of(message("quota-1"), message("ok-3"))).join();
+
+        // then
+        assertThat(results.get(0).outcome()).isEqualTo(FcmSendOutcome.RETRYABLE);
+        assertThat(results.get(0).errorCode()).isEqualTo("QUOTA_EXCEEDED");
+        assertThat(results.get(1).isSuccessful()).isTrue();
+        assertThat(requestsByToken.get("quota-1").get()).isEqualTo(1);
+        assertThat(sender.concurrencyLimit()).isEqualTo(2);
+        assertThat(meterRegistry.get("fcm.send.throttled").tag("reason", "backoff").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("503 은 Retry-After 만큼 기다린 뒤 SDK 가 다시 보내고, Retry-After 가 상한보다 길면 바로 과부하로 처리한다")
+    void sendEach_UnavailableHonorsRetryAfter() {
+        // when
+        long start = System.nanoTime();
+        List<FcmSendResult> retried = sender.sendEach(List.of(message("unavailable-once-1"))).join();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertThat(retried.get(0).isSuccessful()).isTrue();
+        assertThat(requestsByToken.get("unavailable-once-1").get()).isEqualTo(2);
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(900);
+
+        // when
+        List<FcmSendResult> rejected = sender.sendEach(List.of(message("unavailable-1"))).join();
+
+        // then
+        assertThat(rejected.get(0).outcome()).isEqualTo(FcmSendOutcome.RETRYABLE);
+        assertThat(rejected.get(0).errorCode()).isEqualTo("UNAVAILABLE");
+        assertThat(requestsByToken.get("unavailable-1").get()).isEqualTo(1);
+        assertThat(meterRegistry.get("fcm.send.throttled").tag("reason", "backoff").counter().count()).isEqualTo(1.0);
+    }
+
+    private void handleSend(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        Matcher matcher = TOKEN.matcher(body);
+        String token = matcher.find() ? matcher.group(1) : "";
+        int attempt = requestsByToken.computeIfAbsent(token, t -> new AtomicInteger()).incrementAndGet();
+
+        if (token.startsWith("unregistered")) {
+            respondError(exchange, 404, "NOT_FOUND", "UNREGISTERED", null);
+        } else if (token.startsWith("quota")) {
+            respondError(exchange, 429, "RESOURCE_EXHAUSTED", "QUOTA_EXCEEDED", RETRY_AFTER_BEYOND_LIMIT);
+        } else if (token.startsWith("unavailable-once") && attempt == 1) {
+            respondError(exchange, 503, "UNAVAILABLE", "UNAVAILABLE", "1");
+        } else if (token.startsWith("unavailable") && !token.startsWith("unavailable-once")) {
+            respondError(exchange, 503, "UNAVAILABLE", "UNAVAILABLE", RETRY_AFTER_BEYOND_LIMIT);
+        } else {
+            respond(exchange, 200, "{\"name\":\"projects/" + PROJECT_ID + "/messages/" + token + "-" + attempt + "\"}");
+        }
+    }
+
+    private static void respondError(HttpExchange exchange, int status, String grpcStatus, String fcmErrorCode,
+                                     String retryAfter) throws IOException {
+        if (retryAfter != null) {
+            exchange.getResponseHeaders().add("Retry-After", retryAfter);
+        }
+        respond(exchange, status, """
+            {"error": {"code": %d, "message": "stub %s", "status": "%s", "details": [
+              {"@type": "type.googleapis.com/google.firebase.fcm.v1.FcmError", "errorCode": "%s"}
+            ]}}
+            """.formatted(status, fcmErrorCode, grpcStatus, fcmErrorCode));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Message message(String token) {
+        return Message.builder()
+            .setToken(token)
+            .setNotification(Notification.builder().setTitle("테스트 알림").setBody("테스트 내용").build())
+            .build();
+    }
+}
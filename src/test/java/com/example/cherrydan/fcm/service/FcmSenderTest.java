@@ -0,0 +1,128 @@
+package com.example.cherrydan.fcm.service;
+
+import com.example.cherrydan.fcm.dto.FcmSendResult;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.SendResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FcmSender 테스트")
+class FcmSenderTest {
+
+    @Mock
+    private FirebaseMessaging firebaseMessaging;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+
+    private FcmSender sender;
+
+    @BeforeEach
+    void setUp() {
+        sender = new FcmSender(() -> firebaseMessaging, Runnable::run, meterRegistry, 1_000, 4, 8, clock::get);
+    }
+
+    @Test
+    @DisplayName("과부하 응답이면 동시 전송 수를 절반으로 줄이고 정상 응답이면 1씩 늘린다")
+    void sendEachForMulticast_AdjustsConcurrencyOnOverload() throws Exception {
+        // given
+        BatchResponse quotaExceeded = response(failure(MessagingErrorCode.QUOTA_EXCEEDED));
+        BatchResponse success = response(success());
+        when(firebaseMessaging.sendEachForMulticast(any())).thenReturn(quotaExceeded, success, success);
+        MulticastMessage message = mock(MulticastMessage.class);
+
+        // when
+        List<FcmSendResult> first = sender.sendEachForMulticast(message, 1).join();
+
+        // then
+        assertThat(first).extracting(FcmSendResult::errorCode).containsExactly("QUOTA_EXCEEDED");
+        assertThat(sender.concurrencyLimit()).isEqualTo(2);
+        assertThat(meterRegistry.get("fcm.send.throttled").tag("reason", "backoff").counter().count()).isEqualTo(1.0);
+
+        // when
+        sender.sendEachForMulticast(message, 1).join();
+        sender.sendEachForMulticast(message, 1).join();
+
+        // then
+        assertThat(sender.concurrencyLimit()).isEqualTo(4);
+        assertThat(meterRegistry.get("fcm.send.in_flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("요청 자체가 실패하면 메시지 수만큼 재시도 가능 결과를 돌려주고 과부하로 본다")
+    void sendEachForMulticast_RequestFailure() throws Exception {
+        // given
+        when(firebaseMessaging.sendEachForMulticast(any())).thenThrow(new IllegalStateException("connection reset"));
+
+        // when
+        List<FcmSendResult> results = sender.sendEachForMulticast(mock(MulticastMessage.class), 3).join();
+
+        // then
+        assertThat(results).hasSize(3).allMatch(result -> "REQUEST_FAILED".equals(result.errorCode()));
+        assertThat(sender.concurrencyLimit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("토큰 버킷은 1초 분량까지 바로 허용하고 초과분은 채워질 때까지의 대기 시간을 돌려준다")
+    void tokenBucket_ReservesAheadOfRefill() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1_000, clock::get);
+
+        assertThat(limiter.reserve(1_000)).isZero();
+        assertThat(limiter.reserve(500)).isEqualTo(500_000_000L);
+
+        clock.addAndGet(1_000_000_000L);
+        assertThat(limiter.reserve(500)).isZero();
+    }
+
+    @Test
+    @DisplayName("이전 감소 이후 시작한 묶음의 과부하만 상한을 줄인다")
+    void aimd_IgnoresOverloadFromBeforeLastDecrease() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(8, 1, 8);
+        long first = limiter.acquire(() -> { });
+        long second = limiter.acquire(() -> { });
+
+        assertThat(limiter.release(first, true)).isTrue();
+        assertThat(limiter.release(second, true)).isFalse();
+        assertThat(limiter.limit()).isEqualTo(4);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    private static BatchResponse response(SendResponse... responses) {
+        BatchResponse batchResponse = mock(BatchResponse.class);
+        when(batchResponse.getResponses()).thenReturn(List.of(responses));
+        return batchResponse;
+    }
+
+    private static SendResponse success() {
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(true);
+        return response;
+    }
+
+    private static SendResponse failure(MessagingErrorCode errorCode) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(exception.getMessagingErrorCode()).thenReturn(errorCode);
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(false);
+        when(response.getException()).thenReturn(exception);
+        return response;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.cherrydan.fcm.service;
+
+import com.example.cherrydan.fcm.repository.UserFCMTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FcmTokenBookkeeper 테스트")
+class FcmTokenBookkeeperTest {
+
+    @Mock
+    private UserFCMTokenRepository tokenRepository;
+
+    @Mock
+    private FcmTokenRegistry tokenRegistry;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("토큰 ID 를 중복 제거/정렬해 묶음 크기만큼 나눠 일괄 UPDATE 한다")
+    void record_UpdatesInSortedChunks() {
+        // given
+        FcmTokenBookkeeper bookkeeper = new FcmTokenBookkeeper(tokenRepository, tokenRegistry, meterRegistry, 2);
+        when(tokenRepository.updateLastUsedAtByIds(any(), any())).thenReturn(2, 1);
+        when(tokenRepository.deactivateByIds(eq(List.of(9L)), any())).thenReturn(1);
+
+        // when
+        bookkeeper.record(new long[]{5L, 1L, 3L, 1L}, new long[]{9L, 9L});
+
+        // then
+        verify(tokenRepository).updateLastUsedAtByIds(eq(List.of(1L, 3L)), any());
+        verify(tokenRepository).updateLastUsedAtByIds(eq(List.of(5L)), any());
+        verify(tokenRepository).deactivateByIds(eq(List.of(9L)), any());
+        verify(tokenRegistry).removeTokens(aryEq(new long[]{9L}));
+        assertThat(meterRegistry.get("fcm.token.bookkeeping.rows").tag("action", "last_used").counter().count())
+            .isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("갱신할 토큰이 없으면 쿼리를 실행하지 않는다")
+    void record_Empty_NoQueries() {
+        new FcmTokenBookkeeper(tokenRepository, tokenRegistry, meterRegistry, 1000).record(new long[0], new long[0]);
+
+        verify(tokenRepository, never()).updateLastUsedAtByIds(anyCollection(), any());
+        verify(tokenRepository, never()).deactivateByIds(anyCollection(), any());
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.cherrydan.fcm.service;
+
+import com.example.cherrydan.fcm.domain.DeviceType;
+import com.example.cherrydan.fcm.domain.UserFCMToken;
+import com.example.cherrydan.fcm.repository.UserFCMTokenRepository;
+import com.example.cherrydan.fcm.service.FcmTokenRegistry.TokenRef;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FcmTokenRegistry 테스트")
+class FcmTokenRegistryTest {
+
+    @Mock
+    private UserFCMTokenRepository tokenRepository;
+
+    private FcmTokenRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new FcmTokenRegistry(tokenRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("처음 사용할 때 발송 가능 토큰을 사용자별로 적재한다")
+    void tokensOf_LoadsOnFirstUse() {
+        // given
+        when(tokenRepository.findReachableTokensAfterId(eq(0L), any())).thenReturn(List.of(
+            token(11L, 1L, "token-1a", true, true),
+            token(12L, 1L, "token-1b", true, true),
+            token(21L, 2L, " ", true, true)));
+
+        // when & then
+        assertThat(registry.tokensOf(1L)).containsExactly(new TokenRef(11L, "token-1a"), new TokenRef(12L, "token-1b"));
+        assertThat(registry.isReachable(1L)).isTrue();
+        assertThat(registry.isReachable(2L)).isFalse();
+        assertThat(registry.tokensOf(3L)).isEmpty();
+        verify(tokenRepository, times(1)).findReachableTokensAfterId(any(), any());
+    }
+
+    @Test
+    @DisplayName("토큰 변경을 반영하고 발송 가능한 토큰이 없어지면 사용자를 제외한다")
+    void applyAfterCommit_UpsertsAndRemoves() {
+        // given
+        when(tokenRepository.findReachableTokensAfterId(eq(0L), any())).thenReturn(List.of(
+            token(11L, 1L, "token-1a", true, true)));
+        registry.rebuild();
+
+        // when
+        registry.applyAfterCommit(token(11L, 1L, "token-1a-new", true, true));
+        registry.applyAfterCommit(token(12L, 1L, "token-1b", true, true));
+
+        // then
+        assertThat(registry.tokensOf(1L)).containsExactly(new TokenRef(11L, "token-1a-new"), new TokenRef(12L, "token-1b"));
+
+        // when - 알림 거부, 비활성화
+        registry.applyAfterCommit(token(11L, 1L, "token-1a-new", true, false));
+        registry.applyAfterCommit(token(12L, 1L, "token-1b", false, true));
+
+        // then
+        assertThat(registry.isReachable(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("무효 토큰과 탈퇴 사용자를 제외한다")
+    void removeTokensAndUser() {
+        // given
+        when(tokenRepository.findReachableTokensAfterId(eq(0L), any())).thenReturn(List.of(
+            token(11L, 1L, "token-1a", true, true),
+            token(12L, 1L, "token-1b", true, true),
+            token(21L, 2L, "token-2", true, true),
+            token(31L, 3L, "token-3", true, true)));
+        registry.rebuild();
+
+        // when
+        registry.removeTokens(new long[]{12L, 21L});
+        registry.removeUserAfterCommit(3L);
+
+        // then
+        assertThat(registry.tokensOf(1L)).containsExactly(new TokenRef(11L, "token-1a"));
+        assertThat(registry.isReachable(2L)).isFalse();
+        assertThat(registry.isReachable(3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 사용자로 옮겨진 토큰은 이전 사용자에서 빠지고 무효 처리 시 새 사용자에서만 제외한다")
+    void applyAfterCommit_OwnerChange() {
+        // given
+        when(tokenRepository.findReachableTokensAfterId(eq(0L), any())).thenReturn(List.of(
+            token(11L, 1L, "token-shared", true, true)));
+        registry.rebuild();
+
+        // when - 같은 기기에서 다른 계정으로 로그인
+        registry.applyAfterCommit(token(11L, 2L, "token-shared", true, true));
+
+        // then
+        assertThat(registry.isReachable(1L)).isFalse();
+        assertThat(registry.tokensOf(2L)).containsExactly(new TokenRef(11L, "token-shared"));
+
+        // when
+        registry.removeTokens(new long[]{11L});
+
+        // then
+        assertThat(registry.isReachable(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("워터마크 이후 바뀐 토큰을 반영한다")
+    void refresh_AppliesChangedTokens() {
+        // given
+        when(tokenRepository.findReachableTokensAfterId(eq(0L), any())).thenReturn(List.of(
+            token(11L, 1L, "token-1", true, true)));
+        registry.rebuild();
+        when(tokenRepository.findChangedSince(any())).thenReturn(List.of(
+            token(11L, 1L, "token-1", false, true),
+            token(21L, 2L, "token-2", true, true)));
+
+        // when
+        registry.refresh();
+
+        // then
+        assertThat(registry.isReachable(1L)).isFalse();
+        assertThat(registry.tokensOf(2L)).containsExactly(new TokenRef(21L, "token-2"));
+    }
+
+    @Test
+    @DisplayName("다음 변경분은 마지막으로 읽은 updatedAt 보다 겹침 구간만큼 앞에서부터 다시 읽는다")
+    void refresh_KeepsOverlapBehindLatestSeen() {
+        // given
+        when(tokenRepository.findReachableTokensAfterId(eq(0L), any())).thenReturn(List.of());
+        registry.rebuild();
+        LocalDateTime latestSeen = LocalDateTime.now().plusMinutes(10);
+        UserFCMToken changed = token(11L, 1L, "token-1", true, true);
+        ReflectionTestUtils.setField(changed, "updatedAt", latestSeen);
+        // 먼저 flush 됐지만 늦게 커밋된 행 (updatedAt 이 이미 읽은 행보다 이전)
+        UserFCMToken lateCommitted = token(21L, 2L, "token-2", true, true);
+        ReflectionTestUtils.setField(lateCommitted, "updatedAt", latestSeen.minusSeconds(5));
+        when(tokenRepository.findChangedSince(any()))
+            .thenReturn(List.of(changed))
+            .thenReturn(List.of(changed, lateCommitted));
+
+        // when
+        registry.refresh();
+        registry.refresh();
+
+        // then
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(tokenRepository, times(2)).findChangedSince(since.capture());
+        assertThat(since.getAllValues().get(1)).isEqualTo(latestSeen.minusSeconds(60));
+        assertThat(registry.tokensOf(1L)).containsExactly(new TokenRef(11L, "token-1"));
+        assertThat(registry.tokensOf(2L)).containsExactly(new TokenRef(21L, "token-2"));
+    }
+
+    private static UserFCMToken token(Long id, Long userId, String fcmToken, boolean active, boolean allowed) {
+        return UserFCMToken.builder()
+            .id(id)
+            .userId(userId)
+            .fcmToken(fcmToken)
+            .deviceType(DeviceType.ANDROID)
+            .isActive(active)
+            .isAllowed(allowed)
+            .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.cherrydan.notification.service;
+
+import com.example.cherrydan.activity.repository.ActivityAlertRepository;
+import com.example.cherrydan.user.repository.KeywordCampaignAlertRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AlertRetentionService 테스트")
+class AlertRetentionServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 7, 1);
+
+    @Mock
+    private ActivityAlertRepository activityAlertRepository;
+
+    @Mock
+    private KeywordCampaignAlertRepository keywordAlertRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AlertRetentionService service(int retentionDays) {
+        return new AlertRetentionService(activityAlertRepository, keywordAlertRepository, meterRegistry,
+            retentionDays, 100, 0);
+    }
+
+    @Test
+    @DisplayName("보관 기간 이전 알림을 배치가 가득 차지 않을 때까지 반복 삭제한다")
+    void purgeExpiredAlerts_DeletesInBatchesUntilShortBatch() {
+        // given
+        LocalDate before = TODAY.minusDays(180);
+        when(activityAlertRepository.deleteAlertDateBefore(before, 100)).thenReturn(100, 100, 30);
+        when(keywordAlertRepository.deleteAlertDateBefore(before, 100)).thenReturn(7);
+
+        // when
+        AlertRetentionService.PurgeResult result = service(180).purgeExpiredAlerts(TODAY);
+
+        // then
+        assertThat(result.before()).isEqualTo(before);
+        assertThat(result.activityAlerts()).isEqualTo(230);
+        assertThat(result.keywordAlerts()).isEqualTo(7);
+        verify(activityAlertRepository, times(3)).deleteAlertDateBefore(before, 100);
+        verify(keywordAlertRepository, times(1)).deleteAlertDateBefore(before, 100);
+        assertThat(meterRegistry.get("alert.retention.deleted").tag("table", "activity_alerts").counter().count())
+            .isEqualTo(230.0);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 0 이하면 삭제하지 않는다")
+    void purgeExpiredAlerts_Disabled() {
+        AlertRetentionService.PurgeResult result = service(0).purgeExpiredAlerts(TODAY);
+
+        assertThat(result.activityAlerts()).isZero();
+        assertThat(result.keywordAlerts()).isZero();
+        verify(activityAlertRepository, never()).deleteAlertDateBefore(any(), anyInt());
+        verify(keywordAlertRepository, never()).deleteAlertDateBefore(any(), anyInt());
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.cherrydan.notification.service;
+
+import com.example.cherrydan.activity.repository.ActivityAlertRepository;
+import com.example.cherrydan.fcm.domain.FcmSendOutcome;
+import com.example.cherrydan.fcm.dto.FcmSendResult;
+import com.example.cherrydan.fcm.dto.NotificationRequest;
+import com.example.cherrydan.fcm.service.FcmTokenBookkeeper;
+import com.example.cherrydan.fcm.service.FcmTokenRegistry;
+import com.example.cherrydan.fcm.service.FcmTokenRegistry.TokenRef;
+import com.example.cherrydan.notification.domain.NotificationOutbox;
+import com.example.cherrydan.notification.domain.NotificationOutboxStatus;
+import com.example.cherrydan.notification.domain.NotificationType;
+import com.example.cherrydan.notification.repository.NotificationOutboxRepository;
+import com.example.cherrydan.notification.service.NotificationOutboxService.OutboxMessage;
+import com.example.cherrydan.user.repository.KeywordCampaignAlertRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationOutboxService 결과 기록 테스트")
+class NotificationOutboxServiceTest {
+
+    private static final String CLAIM_ID = "claim-1";
+
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+
+    @Mock
+    private FcmTokenRegistry tokenRegistry;
+
+    @Mock
+    private ActivityAlertRepository activityAlertRepository;
+
+    @Mock
+    private KeywordCampaignAlertRepository keywordAlertRepository;
+
+    @Mock
+    private FcmTokenBookkeeper tokenBookkeeper;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private NotificationOutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new NotificationOutboxService(
+            outboxRepository, tokenRegistry, activityAlertRepository, keywordAlertRepository,
+            tokenBookkeeper, jdbcTemplate, new ObjectMapper(),
+            "outbox", 3, 30, 600, 300);
+    }
+
+    @Test
+    @DisplayName("적재 건수는 multi-row INSERT IGNORE 의 affected rows 로 중복을 제외하고 센다")
+    void enqueue_CountsOnlyNewRows() {
+        // given
+        when(tokenRegistry.tokensOf(1L)).thenReturn(List.of(new TokenRef(11L, "token-a"), new TokenRef(12L, "token-b")));
+        when(tokenRegistry.tokensOf(2L)).thenReturn(List.of(new TokenRef(21L, "token-c")));
+        // 3행 중 1행은 이미 적재된 중복
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(2);
+
+        // when
+        int enqueued = outboxService.enqueue(NotificationType.ACTIVITY_REMINDER, List.of(
+            new OutboxMessage(100L, 1L, NotificationRequest.builder().title("제목").body("내용").build()),
+            new OutboxMessage(101L, 2L, NotificationRequest.builder().title("제목").body("내용").build())));
+
+        // then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(sql.capture(), params.capture());
+        assertThat(enqueued).isEqualTo(2);
+        assertThat(sql.getValue()).startsWith("INSERT IGNORE INTO notification_outbox");
+        assertThat(sql.getValue().split("'PENDING'", -1)).hasSize(4);
+        assertThat(params.getValue()).hasSize(36);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("토큰별 결과에 따라 발송 완료, 재시도 예약, 실패로 기록하고 성공한 원본 알림만 발송 완료 처리한다")
+    void record_AppliesPerTokenOutcomes() {
+        // given
+        NotificationOutbox sent = row(1L, NotificationType.ACTIVITY_REMINDER, 100L, "token-a", 0);
+        NotificationOutbox retried = row(2L, NotificationType.ACTIVITY_REMINDER, 101L, "token-b", 0);
+        NotificationOutbox invalid = row(3L, NotificationType.KEYWORD_CAMPAIGN, 200L, "token-c", 0);
+        NotificationOutbox exhausted = row(4L, NotificationType.KEYWORD_CAMPAIGN, 201L, "token-d", 2);
+        List<NotificationOutbox> claimed = List.of(sent, retried, invalid, exhausted);
+        when(outboxRepository.findAllById(List.of(1L, 2L, 3L, 4L))).thenReturn(claimed);
+
+        List<FcmSendResult> results = List.of(
+            new FcmSendResult(FcmSendOutcome.SUCCESS, null),
+            new FcmSendResult(FcmSendOutcome.RETRYABLE, "UNAVAILABLE"),
+            new FcmSendResult(FcmSendOutcome.INVALID_TOKEN, "UNREGISTERED"),
+            new FcmSendResult(FcmSendOutcome.RETRYABLE, "QUOTA_EXCEEDED"));
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        int sentCount = outboxService.record(CLAIM_ID, claimed, results);
+
+        // then
+        assertThat(sentCount).isEqualTo(1);
+        assertThat(sent.getStatus()).isEqualTo(NotificationOutboxStatus.SENT);
+        assertThat(retried.getStatus()).isEqualTo(NotificationOutboxStatus.PENDING);
+        assertThat(retried.getAttemptCount()).isEqualTo(1);
+        assertThat(retried.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(30));
+        assertThat(invalid.getStatus()).isEqualTo(NotificationOutboxStatus.FAILED);
+        assertThat(exhausted.getStatus()).isEqualTo(NotificationOutboxStatus.FAILED);
+        assertThat(exhausted.getLastErrorCode()).isEqualTo("QUOTA_EXCEEDED");
+
+        verify(activityAlertRepository).markAsNotifiedByIds(Set.of(100L));
+        verify(keywordAlertRepository, never()).markAsNotifiedByIds(anyCollection());
+        verify(tokenBookkeeper).record(aryEq(new long[]{1L}), aryEq(new long[]{3L}));
+    }
+
+    @Test
+    @DisplayName("점유 기한이 지나 다른 디스패처가 가져간 행은 기록하지 않는다")
+    void record_SkipsRowsClaimedByOthers() {
+        // given
+        NotificationOutbox mine = row(1L, NotificationType.ACTIVITY_REMINDER, 100L, "token-a", 0);
+        NotificationOutbox reclaimed = row(1L, NotificationType.ACTIVITY_REMINDER, 100L, "token-a", 0);
+        reclaimed.claim("claim-2", LocalDateTime.now().plusMinutes(5));
+        when(outboxRepository.findAllById(List.of(1L))).thenReturn(List.of(reclaimed));
+
+        // when
+        int sentCount = outboxService.record(CLAIM_ID, List.of(mine),
+            List.of(new FcmSendResult(FcmSendOutcome.SUCCESS, null)));
+
+        // then
+        assertThat(sentCount).isZero();
+        assertThat(reclaimed.getStatus()).isEqualTo(NotificationOutboxStatus.SENDING);
+        verify(activityAlertRepository, never()).markAsNotifiedByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 지수적으로 늘어나고 최대값을 넘지 않는다")
+    void backoff_GrowsExponentiallyWithCap() {
+        assertThat(outboxService.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(outboxService.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(outboxService.backoff(3)).isEqualTo(Duration.ofSeconds(120));
+        assertThat(outboxService.backoff(10)).isEqualTo(Duration.ofSeconds(600));
+    }
+
+    private static NotificationOutbox row(Long id, NotificationType sourceType, Long sourceId, String token, int attempts) {
+        NotificationOutbox row = NotificationOutbox.builder()
+            .id(id)
+            .sourceType(sourceType)
+            .sourceId(sourceId)
+            .userId(1L)
+            .tokenId(id)
+            .fcmToken(token)
+            .title("제목")
+            .body("내용")
+            .attemptCount(attempts)
+            .nextAttemptAt(LocalDateTime.now())
+            .build();
+        row.claim(CLAIM_ID, LocalDateTime.now().plusMinutes(5));
+        return row;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.cherrydan.oauth.security.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검증된 토큰 캐시 테스트")
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "test-secret-key-for-verified-token-cache-0123456789";
+
+    @Test
+    @DisplayName("한 번 파싱한 클레임에서 사용자 ID, 이메일, 타입, 만료 시각을 모두 꺼낸다")
+    void parseToken_ReturnsAllClaims() {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 60, 14);
+
+        JwtClaims access = tokenProvider.parseToken(tokenProvider.generateAccessToken(7L, "user@example.com"));
+        JwtClaims refresh = tokenProvider.parseToken(tokenProvider.generateRefreshToken(7L));
+
+        assertThat(access.userId()).isEqualTo(7L);
+        assertThat(access.email()).isEqualTo("user@example.com");
+        assertThat(access.isAccessToken()).isTrue();
+        assertThat(access.expiresAt()).isAfter(Instant.now());
+        assertThat(refresh.isRefreshToken()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Access Token 은 exp 시각까지만 캐시되고, Refresh Token 은 캐시하지 않는다")
+    void cache_EvictsAtExpiryAndSkipsRefreshTokens() {
+        AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2025-01-01T00:00:00Z"));
+        Clock clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+        VerifiedTokenCache cache = new VerifiedTokenCache(new SimpleMeterRegistry(), 10, clock);
+        JwtClaims access = new JwtClaims(1L, "a@example.com", "access", now.get().plusSeconds(60));
+        JwtClaims refresh = new JwtClaims(1L, null, "refresh", now.get().plusSeconds(60));
+
+        cache.put("access-token", access);
+        cache.put("refresh-token", refresh);
+
+        assertThat(cache.get("access-token")).contains(access);
+        assertThat(cache.get("refresh-token")).isEmpty();
+
+        now.set(now.get().plusSeconds(60));
+        assertThat(cache.get("access-token")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 토큰부터 제거한다")
+    void cache_EvictsLeastRecentlyUsed() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new SimpleMeterRegistry(), 2, Clock.systemUTC());
+        Instant exp = Instant.now().plusSeconds(600);
+
+        cache.put("token-1", new JwtClaims(1L, null, "access", exp));
+        cache.put("token-2", new JwtClaims(2L, null, "access", exp));
+        cache.get("token-1");
+        cache.put("token-3", new JwtClaims(3L, null, "access", exp));
+
+        assertThat(cache.get("token-1")).isPresent();
+        assertThat(cache.get("token-2")).isEmpty();
+        assertThat(cache.get("token-3")).isPresent();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 넣고 읽어도 제거가 끝나면 최대 개수를 넘지 않는다")
+    void cache_ConcurrentAccessStaysBounded() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new SimpleMeterRegistry(), 100, Clock.systemUTC());
+        Instant exp = Instant.now().plusSeconds(600);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        String token = "token-" + thread + "-" + i;
+                        cache.put(token, new JwtClaims((long) i, null, "access", exp));
+                        cache.get(token);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        cache.put("token-last", new JwtClaims(0L, null, "access", exp));
+
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(cache.get("token-last")).isPresent();
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.cherrydan.oauth.service;
+
+import com.example.cherrydan.common.exception.AuthException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 JWKS 서버로 Apple 공개키 캐시 동작을 검증합니다.
+ */
+@DisplayName("Apple JWKS 캐시 테스트")
+class AppleJwksKeyCacheTest {
+
+    private HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicReference<String> jwks = new AtomicReference<>();
+    private final AtomicReference<String> cacheControl = new AtomicReference<>("max-age=600");
+    private final AtomicReference<CountDownLatch> responseGate = new AtomicReference<>(new CountDownLatch(0));
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2025-01-01T00:00:00Z"));
+
+    private AppleJwksKeyCache cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/auth/keys", exchange -> {
+            requestCount.incrementAndGet();
+            try {
+                responseGate.get().await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = jwks.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Cache-Control", cacheControl.get());
+            exchange.sendResponseHeaders(status.get(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        String keysUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/auth/keys";
+        cache = new AppleJwksKeyCache(new RestTemplate(), keysUrl, Duration.ofHours(1), Duration.ofMinutes(1), clock());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("한 번 받아온 키는 이후 로그인에서 네트워크 없이 사용하고 Cache-Control max-age 를 만료 시각으로 쓴다")
+    void getPublicKey_ServesFromCache() throws Exception {
+        Map<String, RSAPublicKey> keys = generateKeys("kid-a");
+        jwks.set(toJwks(keys));
+
+        PublicKey first = cache.getPublicKey("kid-a");
+        PublicKey second = cache.getPublicKey("kid-a");
+
+        assertThat(first).isEqualTo(keys.get("kid-a"));
+        assertThat(second).isSameAs(first);
+        assertThat(requestCount.get()).isEqualTo(1);
+        assertThat(cache.refresh().expiresAt()).isEqualTo(now.get().plusSeconds(600));
+    }
+
+    @Test
+    @DisplayName("모르는 kid 가 동시에 들어오면 한 번만 다시 받아오고 모두 같은 결과를 사용한다")
+    void getPublicKey_UnknownKidRefetchesOnce() throws Exception {
+        jwks.set(toJwks(generateKeys("kid-a")));
+        cache.getPublicKey("kid-a");
+
+        Map<String, RSAPublicKey> rotated = generateKeys("kid-a", "kid-b");
+        jwks.set(toJwks(rotated));
+        CountDownLatch gate = new CountDownLatch(1);
+        responseGate.set(gate);
+        now.set(now.get().plusSeconds(120));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<PublicKey>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> cache.getPublicKey("kid-b")));
+        }
+        while (requestCount.get() < 2) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(200);
+        gate.countDown();
+
+        for (Future<PublicKey> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(rotated.get("kid-b"));
+        }
+        executor.shutdown();
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최근에 받아온 직후 존재하지 않는 kid 는 다시 조회하지 않고 거절한다")
+    void getPublicKey_UnknownKidWithinInterval_Rejected() throws Exception {
+        jwks.set(toJwks(generateKeys("kid-a")));
+        cache.getPublicKey("kid-a");
+
+        assertThatThrownBy(() -> cache.getPublicKey("kid-unknown")).isInstanceOf(AuthException.class);
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Apple 에 접근할 수 없으면 만료된 키라도 계속 사용한다")
+    void refreshIfStale_KeepsStaleKeysOnFailure() throws Exception {
+        Map<String, RSAPublicKey> keys = generateKeys("kid-a");
+        jwks.set(toJwks(keys));
+        cacheControl.set("public, max-age=60");
+        cache.getPublicKey("kid-a");
+
+        status.set(503);
+        jwks.set("{\"error\":\"unavailable\"}");
+        now.set(now.get().plusSeconds(3600));
+        cache.refreshIfStale();
+
+        assertThat(requestCount.get()).isEqualTo(2);
+        assertThat(cache.getPublicKey("kid-a")).isEqualTo(keys.get("kid-a"));
+    }
+
+    private Clock clock() {
+        return new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+    }
+
+    private static Map<String, RSAPublicKey> generateKeys(String... kids) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        Map<String, RSAPublicKey> keys = new java.util.LinkedHashMap<>();
+        for (String kid : kids) {
+            keys.put(kid, (RSAPublicKey) generator.generateKeyPair().getPublic());
+        }
+        return keys;
+    }
+
+    private static String toJwks(Map<String, RSAPublicKey> keys) {
+        String entries = keys.entrySet().stream()
+            .map(entry -> String.format(
+                "{\"kty\":\"RSA\",\"kid\":\"%s\",\"use\":\"sig\",\"alg\":\"RS256\",\"n\":\"%s\",\"e\":\"%s\"}",
+                entry.getKey(), base64Url(entry.getValue().getModulus()), base64Url(entry.getValue().getPublicExponent())))
+            .collect(Collectors.joining(","));
+        return "{\"keys\":[" + entries + "]}";
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = java.util.Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.cherrydan.oauth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginHistoryWriter 배치 저장 테스트")
+class LoginHistoryWriterTest {
+
+    private static final LocalDateTime LOGIN_AT = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("버퍼에 모인 기록은 한 번의 multi-row INSERT 로 저장한다")
+    void submit_FlushesAsSingleMultiRowInsert() {
+        // given
+        LoginHistoryWriter writer = new LoginHistoryWriter(jdbcTemplate, meterRegistry, 100, 500, 200);
+        writer.start();
+
+        // when
+        writer.submit(1L, LOGIN_AT);
+        writer.submit(2L, LOGIN_AT);
+        writer.submit(3L, LOGIN_AT);
+
+        // then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, timeout(2000)).update(sql.capture(), params.capture());
+        writer.stop();
+
+        assertThat(sql.getValue()).endsWith("VALUES (?, ?, ?, ?), (?, ?, ?, ?), (?, ?, ?, ?)");
+        assertThat(params.getValue()).hasSize(12);
+        assertThat(params.getValue()[0]).isEqualTo(1L);
+        assertThat(params.getValue()[8]).isEqualTo(3L);
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 호출 스레드에서 바로 저장하고 기록을 버리지 않는다")
+    void submit_BufferFull_CallerRuns() {
+        // given - 작업 스레드를 시작하지 않아 버퍼가 비워지지 않는 상황
+        LoginHistoryWriter writer = new LoginHistoryWriter(jdbcTemplate, meterRegistry, 1, 500, 1000);
+
+        // when
+        writer.submit(1L, LOGIN_AT);
+
+        // then
+        verify(jdbcTemplate).update(anyString(), any(Object[].class));
+        assertThat(meterRegistry.get("login.history.writes").tag("result", "caller_runs").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정지 시 남은 기록을 batch-size 단위로 나누어 모두 저장한다")
+    void stop_FlushesRemainingInBatches() {
+        // given
+        LoginHistoryWriter writer = new LoginHistoryWriter(jdbcTemplate, meterRegistry, 100, 2, 60_000);
+        writer.start();
+        List.of(1L, 2L, 3L, 4L, 5L).forEach(userId -> writer.submit(userId, LOGIN_AT));
+
+        // when
+        writer.stop();
+
+        // then
+        assertThat(writer.isRunning()).isFalse();
+        assertThat(meterRegistry.get("login.history.writes").tag("result", "written").counter().count())
+            .isEqualTo(5);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.cherrydan.oauth.service;
+
+import com.example.cherrydan.common.exception.AuthException;
+import com.example.cherrydan.common.exception.ErrorMessage;
+import com.example.cherrydan.oauth.domain.AuthProvider;
+import com.example.cherrydan.oauth.dto.LoginRequest;
+import com.example.cherrydan.oauth.dto.LoginResponse;
+import com.example.cherrydan.oauth.dto.TokenDTO;
+import com.example.cherrydan.oauth.security.oauth2.user.OAuth2UserInfo;
+import com.example.cherrydan.oauth.strategy.OAuthStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OAuthFacade 로그인 단계 테스트")
+class OAuthFacadeTest {
+
+    private static final String ACCESS_TOKEN = "kakao.access.token";
+
+    @Mock
+    private OAuthStrategy kakaoStrategy;
+
+    @Mock
+    private OAuthUserProcessingService oAuthDomainService;
+
+    @Mock
+    private OAuthLoginCompletionService loginCompletionService;
+
+    @Mock
+    private UserLoginHistoryService loginHistoryService;
+
+    @Mock
+    private LoginRequest loginRequest;
+
+    @Mock
+    private OAuth2UserInfo userInfo;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OAuthFacade oAuthFacade;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(kakaoStrategy.getProvider()).willReturn(AuthProvider.KAKAO);
+        oAuthFacade = new OAuthFacade(List.of(kakaoStrategy), oAuthDomainService, loginCompletionService,
+            loginHistoryService, meterRegistry);
+        oAuthFacade.initStrategies();
+        given(loginRequest.getAccessToken()).willReturn(ACCESS_TOKEN);
+    }
+
+    @Test
+    @DisplayName("제공자 검증 결과로 DB 처리 단계를 호출하고 단계별 소요 시간을 기록한다")
+    void processOAuthLogin_VerifiesThenPersists() {
+        // given
+        LoginResponse expected = new LoginResponse(new TokenDTO("access", "refresh"), 1L);
+        given(kakaoStrategy.getUserInfo(ACCESS_TOKEN)).willReturn(userInfo);
+        given(loginCompletionService.completeLogin(userInfo, AuthProvider.KAKAO, loginRequest)).willReturn(expected);
+
+        // when
+        LoginResponse response = oAuthFacade.processOAuthLogin(AuthProvider.KAKAO, loginRequest);
+
+        // then
+        assertThat(response).isSameAs(expected);
+        assertThat(stageCount("remote_verify", "success")).isEqualTo(1);
+        assertThat(stageCount("persist", "success")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제공자 검증에 실패하면 DB 처리 단계를 시작하지 않는다")
+    void processOAuthLogin_RemoteFailure_SkipsPersist() {
+        // given
+        given(kakaoStrategy.getUserInfo(ACCESS_TOKEN))
+            .willThrow(new AuthException(ErrorMessage.OAUTH_AUTHENTICATION_FAILED));
+
+        // when & then
+        assertThatThrownBy(() -> oAuthFacade.processOAuthLogin(AuthProvider.KAKAO, loginRequest))
+            .isInstanceOf(AuthException.class);
+        verify(loginCompletionService, never()).completeLogin(any(), any(), any());
+        assertThat(stageCount("remote_verify", "failure")).isEqualTo(1);
+        assertThat(meterRegistry.find("oauth.login.stage").tag("stage", "persist").timer()).isNull();
+    }
+
+    private long stageCount(String stage, String outcome) {
+        return meterRegistry.get("oauth.login.stage")
+            .tag("provider", "KAKAO")
+            .tag("stage", stage)
+            .tag("outcome", outcome)
+            .timer()
+            .count();
+    }
+}
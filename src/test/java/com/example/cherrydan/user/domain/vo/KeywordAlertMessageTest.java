@@ -0,0 +1,52 @@
+package com.example.cherrydan.user.domain.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KeywordAlertMessage 테스트")
+class KeywordAlertMessageTest {
+
+    @Test
+    @DisplayName("키워드가 하나면 단일 키워드 메시지와 같다")
+    void createDigest_SingleKeyword_SameAsCreate() {
+        KeywordAlertMessage digest = KeywordAlertMessage.createDigest(Map.of("캠핑", 12), KeywordAlertPolicy.DEFAULT);
+
+        assertThat(digest).isEqualTo(KeywordAlertMessage.create("캠핑", 12, KeywordAlertPolicy.DEFAULT));
+    }
+
+    @Test
+    @DisplayName("여러 키워드는 캠페인 수가 가장 많은 키워드를 대표로 한 건으로 요약한다")
+    void createDigest_MultipleKeywords_UsesLargestAsPrimary() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("맛집", 3);
+        counts.put("캠핑", 120);
+        counts.put("뷰티", 3);
+
+        KeywordAlertMessage digest = KeywordAlertMessage.createDigest(counts, KeywordAlertPolicy.DEFAULT);
+
+        assertThat(digest.body()).isEqualTo("'캠핑' 키워드 캠페인이 100+건 등록됐어요. 외 2개 키워드에도 새 캠페인이 있어요.");
+        assertThat(digest.data())
+            .containsEntry("keyword", "캠핑")
+            .containsEntry("dailyNewCount", "120")
+            .containsEntry("keywords", "캠핑,맛집,뷰티");
+    }
+
+    @Test
+    @DisplayName("키워드 구성과 수가 같으면 입력 순서와 관계없이 같은 메시지다")
+    void createDigest_SameKeywords_EqualMessages() {
+        Map<String, Integer> first = new LinkedHashMap<>();
+        first.put("캠핑", 5);
+        first.put("맛집", 5);
+        Map<String, Integer> second = new LinkedHashMap<>();
+        second.put("맛집", 5);
+        second.put("캠핑", 5);
+
+        assertThat(KeywordAlertMessage.createDigest(first, KeywordAlertPolicy.DEFAULT))
+            .isEqualTo(KeywordAlertMessage.createDigest(second, KeywordAlertPolicy.DEFAULT));
+    }
+}
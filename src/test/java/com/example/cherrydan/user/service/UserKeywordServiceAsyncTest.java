@@ -1,6 +1,6 @@
 package com.example.cherrydan.user.service;
 
-import com.example.cherrydan.campaign.service.CampaignServiceImpl;
+import com.example.cherrydan.campaign.service.DailyKeywordMatchService;
 import com.example.cherrydan.user.domain.KeywordCampaignAlert;
 import com.example.cherrydan.user.domain.User;
 import com.example.cherrydan.user.domain.UserKeyword;
@@ -15,9 +15,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,13 +42,13 @@ class UserKeywordServiceAsyncTest {
     private KeywordCampaignAlertRepository alertRepository;
     
     @Autowired
-    private CampaignServiceImpl campaignService;
+    private DailyKeywordMatchService dailyKeywordMatchService;
 
     @Test
-    @DisplayName("키워드별 비동기 알림 생성 테스트")
-    void testProcessKeywordAsync() throws Exception {
+    @DisplayName("일일 키워드 매칭으로 키워드별 알림 생성 테스트")
+    void testCreateKeywordAlertsFromDailyMatch() {
         // Given
-        log.info("=== 키워드별 비동기 알림 생성 테스트 시작 ===");
+        log.info("=== 일일 키워드 매칭 알림 생성 테스트 시작 ===");
         
         // 기존 알림 데이터 정리
         alertRepository.deleteAll();
@@ -63,41 +63,30 @@ class UserKeywordServiceAsyncTest {
         
         log.info("유니크 키워드 개수: {}", keywordGroups.size());
         
-        // When - 키워드별 비동기 처리
+        // When - 7월 20일 생성 캠페인 제목을 한 번 훑어 모든 키워드 매칭 (알림 날짜 7월 21일)
         long startTime = System.currentTimeMillis();
         
-        List<CompletableFuture<List<KeywordCampaignAlert>>> futures = keywordGroups.entrySet().stream()
-                .map(entry -> {
-                    log.info("키워드 '{}' 비동기 처리 시작, 사용자 수: {}", 
-                            entry.getKey(), entry.getValue().size());
-                    
-                    return keywordProcessingService.processKeywordAsync(
-                            entry.getKey(), 
-                            entry.getValue(), 
-                            LocalDate.of(2025, 7, 21) // 7월 21일로 고정 (어제: 7월 20일 데이터 조회)
-                    ).exceptionally(throwable -> {
-                        log.error("키워드 '{}' 처리 실패: {}", entry.getKey(), throwable.getMessage());
-                        return List.of();
-                    });
-                })
-                .collect(Collectors.toList());
+        Map<String, List<Long>> matchedCampaignIds = dailyKeywordMatchService.matchCampaignsCreatedOn(
+                LocalDate.of(2025, 7, 20), keywordGroups.keySet());
         
-        // 모든 비동기 작업 완료 대기
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        List<KeywordCampaignAlert> allAlerts = new ArrayList<>();
+        keywordGroups.forEach((keyword, userKeywords) -> {
+            int dailyNewCount = matchedCampaignIds.getOrDefault(keyword, List.of()).size();
+            if (dailyNewCount > 0) {
+                allAlerts.addAll(keywordProcessingService.createKeywordAlerts(
+                        keyword, userKeywords, dailyNewCount, LocalDate.of(2025, 7, 21)));
+            }
+        });
         
         long endTime = System.currentTimeMillis();
-        log.info("비동기 처리 완료 시간: {}ms", endTime - startTime);
-        
-        // 결과 수집
-        List<KeywordCampaignAlert> allAlerts = futures.stream()
-                .map(CompletableFuture::join)
-                .flatMap(List::stream)
-                .collect(Collectors.toList());
+        log.info("매칭 + 알림 생성 시간: {}ms", endTime - startTime);
         
         // Then
         log.info("생성된 알림 개수: {}", allAlerts.size());
         
         assertThat(allAlerts).isNotEmpty();
+        assertThat(allAlerts).allSatisfy(alert -> assertThat(alert.getCampaignCount())
+                .isEqualTo(matchedCampaignIds.get(alert.getKeyword()).size()));
         
         // 생성된 알림 상세 정보 로깅
         allAlerts.forEach(alert -> {
@@ -119,7 +108,7 @@ class UserKeywordServiceAsyncTest {
         keywordStats.forEach((keyword, count) -> 
                 log.info("  - '{}': {}개 알림", keyword, count));
         
-        log.info("=== 키워드별 비동기 알림 생성 테스트 완료 ===");
+        log.info("=== 일일 키워드 매칭 알림 생성 테스트 완료 ===");
     }
     
     @Test
@@ -162,24 +151,26 @@ class UserKeywordServiceAsyncTest {
     }
     
     @Test
-    @DisplayName("키워드별 캠페인 수 조회 성능 테스트")
-    void testCampaignCountPerformance() {
+    @DisplayName("일일 키워드 매칭 성능 테스트 (제목 한 번 조회로 전체 키워드 매칭)")
+    void testDailyKeywordMatchPerformance() {
         // Given
         List<String> testKeywords = List.of("맛집", "카페", "여행", "뷰티", "패션");
         
-        log.info("=== 키워드별 캠페인 수 조회 성능 테스트 시작 ===");
+        log.info("=== 일일 키워드 매칭 성능 테스트 시작 ===");
         
-        // When & Then
-        testKeywords.forEach(keyword -> {
-            long startTime = System.currentTimeMillis();
-            long campaignCount = campaignService.getDailyCampaignCountByKeyword(keyword, LocalDate.of(2025, 7, 20)); // 어제 날짜로 고정
-            long endTime = System.currentTimeMillis();
-            
-            log.info("키워드 '{}': {}개 캠페인, 조회 시간: {}ms", 
-                    keyword, campaignCount, endTime - startTime);
-        });
+        // When
+        long startTime = System.currentTimeMillis();
+        Map<String, List<Long>> matchedCampaignIds = dailyKeywordMatchService.matchCampaignsCreatedOn(
+                LocalDate.of(2025, 7, 20), testKeywords); // 어제 날짜로 고정
+        long endTime = System.currentTimeMillis();
+        
+        // Then
+        log.info("키워드 {}개 매칭 시간: {}ms", testKeywords.size(), endTime - startTime);
+        testKeywords.forEach(keyword -> log.info("키워드 '{}': {}개 캠페인", 
+                keyword, matchedCampaignIds.getOrDefault(keyword, List.of()).size()));
         
-        log.info("=== 키워드별 캠페인 수 조회 성능 테스트 완료 ===");
+        assertThat(testKeywords).containsAll(matchedCampaignIds.keySet());
+        log.info("=== 일일 키워드 매칭 성능 테스트 완료 ===");
     }
     
     @Test